@@ -0,0 +1,103 @@
+package com.benny.board_mate.game.service;
+
+import com.pgvector.PGvector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질의 벡터 전송 방식 비교: 텍스트("[0.1,...]" + CAST) vs PGvector 바이너리
+ *
+ * - encode*: 클라이언트 쪽 직렬화 비용 (gc 프로파일러의 gc.alloc.rate.norm이 호출당 할당 바이트)
+ * - roundTrip*: 직렬화 + 전송 + 서버 파싱까지 (검색 비용이 섞이지 않도록 vector_dims만 호출)
+ *
+ * ./gradlew jmh -Pjmh.includes=VectorBindingBenchmark (roundTrip은 docker-compose의 Postgres 필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorBindingBenchmark {
+
+    private static final int DIMENSION = EmbeddingService.EMBEDDING_DIMENSION;
+
+    @Param({"jdbc:postgresql://localhost:5400/boardmate"})
+    public String jdbcUrl;
+
+    private float[] query;
+    private Connection textConnection;
+    private Connection binaryConnection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        query = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            query[i] = (float) random.nextGaussian() / 28;
+        }
+
+        textConnection = DriverManager.getConnection(jdbcUrl, "boardmate", "boardmate");
+        try (Statement statement = textConnection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS vector");
+        }
+        binaryConnection = DriverManager.getConnection(jdbcUrl, "boardmate", "boardmate");
+        PgVectors.register(binaryConnection);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        textConnection.close();
+        binaryConnection.close();
+    }
+
+    @Benchmark
+    public String encodeText() {
+        return GameEmbeddingSearch.toVectorLiteral(query);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        PGvector vector = new PGvector(query);
+        byte[] bytes = new byte[vector.lengthInBytes()];
+        vector.toBytes(bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public int roundTripText() throws SQLException {
+        try (PreparedStatement statement = textConnection.prepareStatement("SELECT vector_dims(CAST(? AS vector))")) {
+            statement.setString(1, GameEmbeddingSearch.toVectorLiteral(query));
+            return singleInt(statement);
+        }
+    }
+
+    @Benchmark
+    public int roundTripBinary() throws SQLException {
+        try (PreparedStatement statement = binaryConnection.prepareStatement("SELECT vector_dims(?)")) {
+            statement.setObject(1, new PGvector(query));
+            return singleInt(statement);
+        }
+    }
+
+    private static int singleInt(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.SimilarGame;
+import com.pgvector.PGvector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 임베딩 top-10 검색: 인메모리 SIMD 스캔 vs 스칼라 스캔 vs pgvector
+ *
+ * ./gradlew jmh
+ * pgvector 쪽은 docker-compose의 Postgres(localhost:5400)에 jmh_game_embeddings 테이블을 만들어 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorSearchBenchmark {
+
+    private static final int DIMENSION = EmbeddingService.EMBEDDING_DIMENSION;
+    private static final int K = 10;
+    private static final int QUERY_COUNT = 64;
+
+    @State(Scope.Benchmark)
+    public static class Dataset {
+
+        @Param({"20000"})
+        public int rows;
+
+        float[][] vectors;
+        float[][] queries;
+        VectorSlab slab;
+        float[] flat;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            vectors = new float[rows][];
+            slab = new VectorSlab(DIMENSION, rows);
+            flat = new float[rows * DIMENSION];
+            for (int i = 0; i < rows; i++) {
+                vectors[i] = normalized(random);
+                slab.add(i, vectors[i]);
+                System.arraycopy(vectors[i], 0, flat, i * DIMENSION, DIMENSION);
+            }
+            queries = new float[QUERY_COUNT][];
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                queries[i] = normalized(random);
+            }
+        }
+
+        float[] nextQuery() {
+            next = (next + 1) % QUERY_COUNT;
+            return queries[next];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Postgres {
+
+        @Param({"jdbc:postgresql://localhost:5400/boardmate"})
+        public String jdbcUrl;
+
+        Connection exactConnection;
+        Connection hnswConnection;
+
+        @Setup(Level.Trial)
+        public void setUp(Dataset dataset) throws SQLException {
+            exactConnection = DriverManager.getConnection(jdbcUrl, "boardmate", "boardmate");
+            hnswConnection = DriverManager.getConnection(jdbcUrl, "boardmate", "boardmate");
+
+            try (Statement statement = exactConnection.createStatement()) {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS vector");
+                statement.execute("DROP TABLE IF EXISTS jmh_game_embeddings");
+                statement.execute("CREATE TABLE jmh_game_embeddings (bgg_id BIGINT PRIMARY KEY, embedding vector(" + DIMENSION + "))");
+            }
+            // vector 타입이 생긴 뒤에 등록해야 바이너리 전송이 켜진다
+            PgVectors.register(exactConnection);
+            PgVectors.register(hnswConnection);
+            try (PreparedStatement insert = exactConnection.prepareStatement(
+                    "INSERT INTO jmh_game_embeddings VALUES (?, ?)")) {
+                for (int i = 0; i < dataset.rows; i++) {
+                    insert.setLong(1, i);
+                    insert.setObject(2, new PGvector(dataset.vectors[i]));
+                    insert.addBatch();
+                    if (i % 500 == 499) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            try (Statement statement = exactConnection.createStatement()) {
+                statement.execute("CREATE INDEX ON jmh_game_embeddings USING hnsw (embedding vector_cosine_ops)");
+                statement.execute("ANALYZE jmh_game_embeddings");
+                statement.execute("SET enable_indexscan = off");
+            }
+            try (Statement statement = hnswConnection.createStatement()) {
+                statement.execute("SET hnsw.ef_search = 40");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = exactConnection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS jmh_game_embeddings");
+            }
+            exactConnection.close();
+            hnswConnection.close();
+        }
+    }
+
+    @Benchmark
+    public List<SimilarGame> inMemorySimd(Dataset dataset) {
+        return dataset.slab.search(dataset.nextQuery(), K);
+    }
+
+    @Benchmark
+    public void inMemoryScalar(Dataset dataset, Blackhole blackhole) {
+        float[] query = dataset.nextQuery();
+        for (int row = 0; row < dataset.rows; row++) {
+            blackhole.consume(VectorSlab.dotScalar(query, dataset.flat, row * DIMENSION, DIMENSION));
+        }
+    }
+
+    @Benchmark
+    public void pgvectorExact(Dataset dataset, Postgres postgres, Blackhole blackhole) throws SQLException {
+        query(postgres.exactConnection, dataset.nextQuery(), blackhole);
+    }
+
+    @Benchmark
+    public void pgvectorHnsw(Dataset dataset, Postgres postgres, Blackhole blackhole) throws SQLException {
+        query(postgres.hnswConnection, dataset.nextQuery(), blackhole);
+    }
+
+    private static void query(Connection connection, float[] query, Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT bgg_id, embedding <=> ? AS distance FROM jmh_game_embeddings ORDER BY distance LIMIT " + K)) {
+            statement.setObject(1, new PGvector(query));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    blackhole.consume(rs.getLong(1));
+                }
+            }
+        }
+    }
+
+    private static float[] normalized(Random random) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+}
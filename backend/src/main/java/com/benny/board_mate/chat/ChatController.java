@@ -14,6 +14,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Chat", description = "채팅 - 모임방 실시간 메시지")
 @RestController
@@ -21,6 +22,8 @@ import java.util.List;
 public class ChatController {
 
     private final ChatService chatService;
+    private final ChatSendService chatSendService;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
 
     /**
      * WebSocket 메시지 전송
@@ -35,17 +38,20 @@ public class ChatController {
         // WebSocket 세션에서 userId 추출
         Long userId = (Long) headerAccessor.getSessionAttributes().get("userId");
         if (userId != null) {
-            chatService.sendMessage(roomId, userId, request);
+            chatSendService.sendMessage(roomId, userId, request);
         }
     }
 
     /**
-     * REST API - 채팅 내역 조회
+     * REST API - 채팅 내역 조회 (시간순)
+     * 이전 메시지: ?before={현재 가장 오래된 메시지 id}
      */
     @GetMapping("/api/rooms/{roomId}/chats")
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getChatHistory(
-            @PathVariable Long roomId) {
-        List<ChatMessageResponse> history = chatService.getChatHistory(roomId);
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<ChatMessageResponse> history = chatService.getChatHistory(roomId, before, limit);
         return ResponseEntity.ok(ApiResponse.ok(history));
     }
 
@@ -58,7 +64,15 @@ public class ChatController {
             @PathVariable Long roomId,
             @RequestBody ChatMessageRequest request) {
         Long userId = (Long) authentication.getPrincipal();
-        ChatMessageResponse response = chatService.sendMessage(roomId, userId, request);
+        ChatMessageResponse response = chatSendService.sendMessage(roomId, userId, request);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
+
+    /**
+     * 관리자 - 채팅 배치 저장 큐 상태 (chat.write-mode=write-behind)
+     */
+    @GetMapping("/api/admin/chat/write-behind")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getWriteBehindStats() {
+        return ResponseEntity.ok(ApiResponse.ok(chatMessageWriteBehind.stats()));
+    }
 }
@@ -0,0 +1,201 @@
+package com.benny.board_mate.chat;
+
+import com.benny.board_mate.chat.dto.ChatMessageResponse;
+import com.benny.board_mate.common.websocket.FanoutMessageReceivedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 방별 최근 채팅 메시지 버퍼 (이 인스턴스 메모리)
+ *
+ * - 방마다 최근 capacity개를 순서대로 보관, 넘치면 가장 오래된 메시지부터 버림
+ * - 방 수가 max-rooms를 넘으면 가장 오래 조회/전송이 없던 방부터 제거 (LRU)
+ * - 전송(커밋 후) 시 버퍼가 있는 방에만 id 순서로 추가하고, 버퍼는 내역 조회 캐시 미스 때 DB에서 적재
+ * - 적재는 prepare가 돌려준 세대 번호가 그대로일 때만 반영: 적재 중 버퍼가 LRU로 밀려났다 다시 생기면
+ *   그 사이 전송된 메시지가 빠졌을 수 있으므로 이번 적재는 버린다
+ *
+ * 다른 인스턴스에서 보낸 메시지는 Redis 팬아웃(websocket.fanout=redis)의 FanoutMessageReceivedEvent로 받아 같은 방식으로 추가한다.
+ * pub/sub은 최대 1회 전달이라 재연결 중 놓친 메시지는 ttl-seconds마다 DB에서 다시 적재해 보정한다.
+ */
+@Slf4j
+@Component
+public class ChatHistoryBuffer {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/topic/chat/";
+
+    private final int capacity;
+    private final int maxRooms;
+    private final long ttlMillis;
+    private final Map<Long, RoomBuffer> rooms;
+    private final ObjectMapper objectMapper;
+    private long nextGeneration;
+
+    public ChatHistoryBuffer(
+            @Value("${chat.history-buffer.capacity:100}") int capacity,
+            @Value("${chat.history-buffer.max-rooms:1000}") int maxRooms,
+            @Value("${chat.history-buffer.ttl-seconds:0}") long ttlSeconds
+    ) {
+        this.capacity = capacity;
+        this.maxRooms = maxRooms;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RoomBuffer> eldest) {
+                return size() > ChatHistoryBuffer.this.maxRooms;
+            }
+        };
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 버퍼에서 id가 before보다 작은 최근 메시지 limit개 조회 (시간순)
+     * 버퍼만으로 답할 수 없으면 empty
+     */
+    public synchronized Optional<List<ChatMessageResponse>> find(Long roomId, Long before, int limit) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null || !buffer.seeded) {
+            return Optional.empty();
+        }
+        if (ttlMillis > 0 && System.currentTimeMillis() - buffer.seededAt > ttlMillis) {
+            rooms.remove(roomId);
+            return Optional.empty();
+        }
+
+        List<ChatMessageResponse> result = new ArrayList<>(limit);
+        var iterator = buffer.messages.descendingIterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            ChatMessageResponse message = iterator.next();
+            if (before == null || message.getId() < before) {
+                result.add(message);
+            }
+        }
+
+        // 부족한데 버퍼 앞쪽에 더 오래된 메시지가 DB에 남아 있으면 버퍼로 답할 수 없음
+        if (result.size() < limit && !buffer.reachesStart) {
+            return Optional.empty();
+        }
+        return Optional.of(result.reversed());
+    }
+
+    /**
+     * DB 적재 전에 호출: 적재 중 전송된 메시지도 버퍼에 쌓이도록 빈 버퍼를 먼저 만든다
+     *
+     * @return seed()에 넘길 버퍼 세대 번호
+     */
+    public synchronized long prepare(Long roomId) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomBuffer(++nextGeneration)).generation;
+    }
+
+    /**
+     * DB에서 읽은 최근 메시지(시간순)로 버퍼 채우기 - 적재 중 전송된 메시지와 합친다
+     * prepare 이후 버퍼가 제거/교체됐으면 반영하지 않는다 (다음 조회에서 다시 적재)
+     */
+    public synchronized void seed(Long roomId, long generation, List<ChatMessageResponse> latest) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null || buffer.generation != generation) {
+            return;
+        }
+
+        Set<Long> ids = new HashSet<>();
+        List<ChatMessageResponse> merged = new ArrayList<>(latest.size() + buffer.messages.size());
+        for (ChatMessageResponse message : latest) {
+            if (ids.add(message.getId())) {
+                merged.add(message);
+            }
+        }
+        for (ChatMessageResponse message : buffer.messages) {
+            if (ids.add(message.getId())) {
+                merged.add(message);
+            }
+        }
+        merged.sort(Comparator.comparing(ChatMessageResponse::getId));
+
+        buffer.messages.clear();
+        buffer.reachesStart = latest.size() < capacity;
+        buffer.seeded = true;
+        buffer.seededAt = System.currentTimeMillis();
+        merged.forEach(message -> append(buffer, message));
+    }
+
+    /**
+     * 전송된 메시지 추가 (버퍼가 있는 방만, 커밋된 메시지만)
+     * 적재한 DB 결과에 이미 들어 있던 메시지면 건너뛴다
+     */
+    public synchronized void append(ChatMessageResponse message) {
+        RoomBuffer buffer = rooms.get(message.getRoomId());
+        if (buffer != null) {
+            append(buffer, message);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 전송된 채팅 메시지 추가
+     */
+    @EventListener
+    public void onRemoteMessage(FanoutMessageReceivedEvent event) {
+        if (!event.destination().startsWith(CHAT_DESTINATION_PREFIX)) {
+            return;
+        }
+        try {
+            append(objectMapper.readValue(event.payload(), ChatMessageResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("팬아웃 채팅 메시지를 버퍼에 추가하지 못함: {}", e.getMessage());
+        }
+    }
+
+    private void append(RoomBuffer buffer, ChatMessageResponse message) {
+        ChatMessageResponse last = buffer.messages.peekLast();
+        if (last != null && last.getId() >= message.getId()) {
+            // 커밋 순서가 id 순서와 다를 때: 중복이면 버리고 아니면 제자리에 끼워 넣는다
+            if (buffer.messages.stream().anyMatch(existing -> existing.getId().equals(message.getId()))) {
+                return;
+            }
+            List<ChatMessageResponse> sorted = new ArrayList<>(buffer.messages);
+            sorted.add(message);
+            sorted.sort(Comparator.comparing(ChatMessageResponse::getId));
+            buffer.messages.clear();
+            buffer.messages.addAll(sorted);
+        } else {
+            buffer.messages.addLast(message);
+        }
+        if (buffer.messages.size() > capacity) {
+            buffer.messages.pollFirst();
+            buffer.reachesStart = false;
+        }
+    }
+
+    private static class RoomBuffer {
+        private final long generation;
+        private final Deque<ChatMessageResponse> messages = new ArrayDeque<>();
+        private boolean seeded;
+        private boolean reachesStart;
+        private long seededAt;
+
+        private RoomBuffer(long generation) {
+            this.generation = generation;
+        }
+    }
+}
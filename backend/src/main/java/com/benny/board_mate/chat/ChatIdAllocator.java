@@ -0,0 +1,27 @@
+package com.benny.board_mate.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_messages.id 할당
+ * IDENTITY 시퀀스에서 메시지마다 nextval을 받아 INSERT 전에 id를 확정한다.
+ * (DB 저장 전에 전송하는 메시지도 나중에 내역 API와 같은 id를 가진다)
+ *
+ * 인스턴스별로 블록을 미리 받아 두면 인스턴스마다 다른 구간의 id를 동시에 쓰게 되어
+ * id 순서가 전송 순서와 어긋난다. 내역 조회/페이징/버퍼가 모두 id 순서 = 시간 순서를 전제하므로
+ * 메시지마다 시퀀스 왕복 1번(nextval, 락 없음)을 감수한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatIdAllocator {
+
+    private static final String NEXT_ID = "SELECT nextval(pg_get_serial_sequence('chat_messages', 'id'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long next() {
+        return jdbcTemplate.queryForObject(NEXT_ID, Long.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.benny.board_mate.chat;
+
+import com.benny.board_mate.participant.ParticipantRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채팅 참가자 검증 캐시 (roomId:userId → 닉네임)
+ *
+ * 참가자인 경우만 캐시하고, 이 인스턴스에서 나간 참가자는 나가기 트랜잭션 커밋 직후 제거한다.
+ * 다른 인스턴스에서 나간 참가자는 TTL(30초) 동안 채팅이 허용될 수 있다.
+ * MAX_ENTRIES를 넘으면 가장 오래 쓰이지 않은 항목부터 제거한다 (LRU).
+ */
+@Component
+public class ChatMembershipCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final ParticipantRepository participantRepository;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public ChatMembershipCache(ParticipantRepository participantRepository) {
+        this.participantRepository = participantRepository;
+    }
+
+    /**
+     * 참가자면 닉네임 반환, 아니면 empty
+     */
+    public Optional<String> findNickname(Long roomId, Long userId) {
+        String key = key(roomId, userId);
+        long now = System.currentTimeMillis();
+
+        Entry cached = get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached.nickname());
+        }
+
+        Optional<String> nickname = participantRepository.findNicknameByRoomIdAndUserId(roomId, userId);
+        if (nickname.isPresent()) {
+            put(key, new Entry(nickname.get(), now + TTL.toMillis()));
+        } else {
+            remove(key);
+        }
+        return nickname;
+    }
+
+    /**
+     * 나간 참가자 제거 (트랜잭션 안이면 커밋 후 실행)
+     * 커밋 전에 지우면 그 사이 채팅 전송이 아직 남아 있는 참가자 행을 읽어 다시 캐시한다.
+     */
+    public void evict(Long roomId, Long userId) {
+        String key = key(roomId, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(key);
+                }
+            });
+        } else {
+            remove(key);
+        }
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    private synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    private static String key(Long roomId, Long userId) {
+        return roomId + ":" + userId;
+    }
+
+    private record Entry(String nickname, long expiresAt) {
+    }
+}
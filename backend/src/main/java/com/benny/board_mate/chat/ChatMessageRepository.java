@@ -1,5 +1,7 @@
 package com.benny.board_mate.chat;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -8,6 +10,11 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     List<ChatMessage> findByRoomIdOrderByCreatedAtAsc(Long roomId);
 
-    // 최근 N개 메시지 조회
-    List<ChatMessage> findTop50ByRoomIdOrderByCreatedAtDesc(Long roomId);
+    // 최근 메시지 (id 내림차순, idx_chat_messages_room_id_id)
+    @EntityGraph(attributePaths = "sender")
+    List<ChatMessage> findByRoomIdOrderByIdDesc(Long roomId, Limit limit);
+
+    // before보다 이전 메시지 (id 내림차순, idx_chat_messages_room_id_id)
+    @EntityGraph(attributePaths = "sender")
+    List<ChatMessage> findByRoomIdAndIdLessThanOrderByIdDesc(Long roomId, Long before, Limit limit);
 }
@@ -0,0 +1,212 @@
+package com.benny.board_mate.chat;
+
+import com.benny.board_mate.chat.dto.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 메시지 배치 저장 (chat.write-mode=write-behind)
+ *
+ * 작동 방식:
+ * - 제한된 크기의 큐에 넣고, 가득 차면 offer()가 false → 호출 측에서 요청 거부 (backpressure)
+ * - 전용 스레드가 flush-interval-ms 마다 또는 batch-size개가 모이면 다중 행 INSERT 한 번으로 저장
+ * - 저장 실패 시 MAX_ATTEMPTS번까지 재시도, 그래도 실패하면 버리고 failed 카운트 증가
+ * - 종료 시 큐에 남은 메시지를 모두 저장하고 멈춘다
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind implements SmartLifecycle {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_messages (id, room_id, sender_id, content, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ChatMessageResponse> queue;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ChatMessageWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.write-behind.batch-size:500}") int batchSize,
+            @Value("${chat.write-behind.flush-interval-ms:50}") long flushIntervalMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    /**
+     * @return 큐가 가득 찼으면 false
+     */
+    public boolean offer(ChatMessageResponse message) {
+        if (!queue.offer(message)) {
+            rejected.increment();
+            return false;
+        }
+        enqueued.increment();
+        return true;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueSize", queue.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("enqueued", enqueued.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("persisted", persisted.sum());
+        stats.put("failed", failed.sum());
+        stats.put("batches", batches.sum());
+        stats.put("lastFlushMillis", lastFlushMillis.get());
+        return stats;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("chat-write-behind").daemon().start(this::runFlushLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // DataSource보다 먼저 멈춰서 남은 메시지를 저장할 수 있도록 늦게 시작하고 일찍 멈춘다
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1;
+    }
+
+    private void runFlushLoop() {
+        List<ChatMessageResponse> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // stop() 호출: 아래에서 남은 메시지 저장
+                break;
+            }
+            flush(batch);
+        }
+
+        // 종료 전 남은 메시지 저장
+        while (!queue.isEmpty() || !batch.isEmpty()) {
+            queue.drainTo(batch, batchSize - batch.size());
+            flush(batch);
+        }
+    }
+
+    // 첫 메시지가 들어온 뒤 flush-interval-ms가 지나거나 batch-size개가 모일 때까지 모은다
+    private void collect(List<ChatMessageResponse> batch) throws InterruptedException {
+        ChatMessageResponse first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            ChatMessageResponse next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<ChatMessageResponse> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long begin = System.currentTimeMillis();
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                insert(batch);
+                persisted.add(batch.size());
+                batches.increment();
+                lastFlushMillis.set(System.currentTimeMillis() - begin);
+                batch.clear();
+                return;
+            } catch (Exception e) {
+                log.warn("채팅 배치 저장 실패 ({}/{}): size={}, error={}",
+                        attempt, MAX_ATTEMPTS, batch.size(), e.getMessage());
+            }
+        }
+
+        log.error("채팅 메시지 {}건 저장 포기 (첫 id={})", batch.size(), batch.get(0).getId());
+        failed.add(batch.size());
+        batch.clear();
+    }
+
+    private void insert(List<ChatMessageResponse> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 6];
+        for (int i = 0; i < batch.size(); i++) {
+            ChatMessageResponse message = batch.get(i);
+            Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[i * 6] = message.getId();
+            args[i * 6 + 1] = message.getRoomId();
+            args[i * 6 + 2] = message.getSenderId();
+            args[i * 6 + 3] = message.getContent();
+            args[i * 6 + 4] = createdAt;
+            args[i * 6 + 5] = createdAt;
+        }
+        // 재시도로 같은 id가 다시 들어와도 중복 저장하지 않음
+        sql.append(" ON CONFLICT (id) DO NOTHING");
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
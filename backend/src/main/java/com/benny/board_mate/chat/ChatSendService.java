@@ -0,0 +1,37 @@
+package com.benny.board_mate.chat;
+
+import com.benny.board_mate.chat.dto.ChatMessageRequest;
+import com.benny.board_mate.chat.dto.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 설정(chat.write-mode)에 따라 채팅 메시지 저장 방식 선택
+ */
+@Slf4j
+@Service
+public class ChatSendService {
+
+    private final ChatService chatService;
+    private final ChatWriteBehindService chatWriteBehindService;
+    private final ChatWriteMode writeMode;
+
+    public ChatSendService(
+            ChatService chatService,
+            ChatWriteBehindService chatWriteBehindService,
+            @Value("${chat.write-mode:sync}") ChatWriteMode writeMode
+    ) {
+        this.chatService = chatService;
+        this.chatWriteBehindService = chatWriteBehindService;
+        this.writeMode = writeMode;
+        log.info("채팅 저장 방식: {}", writeMode);
+    }
+
+    public ChatMessageResponse sendMessage(Long roomId, Long senderId, ChatMessageRequest request) {
+        return switch (writeMode) {
+            case SYNC -> chatService.sendMessage(roomId, senderId, request);
+            case WRITE_BEHIND -> chatWriteBehindService.sendMessage(roomId, senderId, request);
+        };
+    }
+}
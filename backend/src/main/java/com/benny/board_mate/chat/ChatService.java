@@ -4,29 +4,35 @@ import com.benny.board_mate.chat.dto.ChatMessageRequest;
 import com.benny.board_mate.chat.dto.ChatMessageResponse;
 import com.benny.board_mate.common.exception.BusinessException;
 import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.common.websocket.MessageFanout;
 import com.benny.board_mate.participant.ParticipantRepository;
 import com.benny.board_mate.room.Room;
 import com.benny.board_mate.room.RoomRepository;
 import com.benny.board_mate.user.User;
 import com.benny.board_mate.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatService {
 
+    private static final int MAX_HISTORY_LIMIT = 100;
+
     private final ChatMessageRepository chatMessageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final ParticipantRepository participantRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final MessageFanout messageFanout;
+    private final ChatHistoryBuffer chatHistoryBuffer;
 
     @Transactional
     public ChatMessageResponse sendMessage(Long roomId, Long senderId, ChatMessageRequest request) {
@@ -51,20 +57,52 @@ public class ChatService {
 
         ChatMessageResponse response = ChatMessageResponse.from(message);
 
-        // WebSocket으로 실시간 전송
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, response);
+        // 커밋된 메시지만 버퍼에 넣고 WebSocket으로 실시간 전송 (다른 인스턴스 구독자 포함)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chatHistoryBuffer.append(response);
+                messageFanout.publish("/topic/chat/" + roomId, response);
+            }
+        });
 
         return response;
     }
 
-    public List<ChatMessageResponse> getChatHistory(Long roomId) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+    /**
+     * 채팅 내역 조회 (시간순)
+     *
+     * @param before 이 id보다 이전 메시지만 (null이면 최신부터), 다음 페이지는 응답의 첫 메시지 id를 넘긴다
+     */
+    public List<ChatMessageResponse> getChatHistory(Long roomId, Long before, int limit) {
+        int size = Math.clamp(limit, 1, Math.min(MAX_HISTORY_LIMIT, chatHistoryBuffer.capacity()));
+
+        // 활성 방의 최근 메시지는 메모리 버퍼에서 바로 응답
+        Optional<List<ChatMessageResponse>> buffered = chatHistoryBuffer.find(roomId, before, size);
+        if (buffered.isPresent()) {
+            return buffered.get();
+        }
+
+        if (!roomRepository.existsById(roomId)) {
+            throw new BusinessException(ErrorCode.ROOM_NOT_FOUND);
+        }
+
+        if (before != null) {
+            return toChronological(chatMessageRepository.findByRoomIdAndIdLessThanOrderByIdDesc(
+                    roomId, before, Limit.of(size)));
+        }
+
+        // 첫 페이지 캐시 미스: 버퍼 크기만큼 읽어서 버퍼를 채운다
+        long generation = chatHistoryBuffer.prepare(roomId);
+        List<ChatMessageResponse> latest = toChronological(chatMessageRepository.findByRoomIdOrderByIdDesc(
+                roomId, Limit.of(chatHistoryBuffer.capacity())));
+        chatHistoryBuffer.seed(roomId, generation, latest);
+
+        return latest.subList(Math.max(0, latest.size() - size), latest.size());
+    }
 
-        // 최근 50개 메시지를 역순으로 가져온 뒤 시간순 정렬
-        return chatMessageRepository.findTop50ByRoomIdOrderByCreatedAtDesc(roomId)
-                .stream()
-                .sorted(Comparator.comparing(ChatMessage::getCreatedAt))
+    private List<ChatMessageResponse> toChronological(List<ChatMessage> newestFirst) {
+        return newestFirst.reversed().stream()
                 .map(ChatMessageResponse::from)
                 .toList();
     }
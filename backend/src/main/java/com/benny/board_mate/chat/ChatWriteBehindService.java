@@ -0,0 +1,53 @@
+package com.benny.board_mate.chat;
+
+import com.benny.board_mate.chat.dto.ChatMessageRequest;
+import com.benny.board_mate.chat.dto.ChatMessageResponse;
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.common.websocket.MessageFanout;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ChatWriteBehindService {
+
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatIdAllocator chatIdAllocator;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+    private final MessageFanout messageFanout;
+
+    /**
+     * 메시지 전송 - 트랜잭션 없이 캐시로 참가자 검증 후 바로 전송, DB 저장은 배치로
+     *
+     * 메시지마다 DB 왕복 4번(방/유저/참가 여부 조회 + INSERT) → id 할당(nextval) 1번 + 캐시 미스일 때 1번
+     * 큐가 가득 차면 전송하지 않고 CHAT_OVERLOADED로 거부한다.
+     */
+    public ChatMessageResponse sendMessage(Long roomId, Long senderId, ChatMessageRequest request) {
+        // 방 참가자만 채팅 가능
+        String nickname = chatMembershipCache.findNickname(roomId, senderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_PARTICIPANT));
+
+        ChatMessageResponse response = ChatMessageResponse.builder()
+                .id(chatIdAllocator.next())
+                .roomId(roomId)
+                .senderId(senderId)
+                .senderNickname(nickname)
+                .content(request.getContent())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        if (!chatMessageWriteBehind.offer(response)) {
+            throw new BusinessException(ErrorCode.CHAT_OVERLOADED);
+        }
+        chatHistoryBuffer.append(response);
+
+        // WebSocket으로 실시간 전송 (다른 인스턴스 구독자 포함)
+        messageFanout.publish("/topic/chat/" + roomId, response);
+
+        return response;
+    }
+}
@@ -0,0 +1,9 @@
+package com.benny.board_mate.chat;
+
+/**
+ * 채팅 메시지 저장 방식 (chat.write-mode)
+ */
+public enum ChatWriteMode {
+    SYNC,          // 메시지마다 트랜잭션 안에서 검증 + INSERT 후 전송 (ChatService)
+    WRITE_BEHIND   // 캐시로 검증, 즉시 전송, 배치 INSERT (ChatWriteBehindService)
+}
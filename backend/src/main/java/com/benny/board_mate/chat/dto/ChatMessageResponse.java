@@ -1,13 +1,17 @@
 package com.benny.board_mate.chat.dto;
 
 import com.benny.board_mate.chat.ChatMessage;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ChatMessageResponse {
 
     private Long id;
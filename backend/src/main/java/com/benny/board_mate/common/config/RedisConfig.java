@@ -4,12 +4,14 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
@@ -21,7 +23,6 @@ import java.util.Map;
 @EnableCaching
 public class RedisConfig {
 
-    public static final String CACHE_ROOMS = "rooms";
     public static final String CACHE_USER_RATING = "userRating";
     public static final String CACHE_GAME_SEARCH = "game-search";
     public static final String CACHE_GAME_DETAIL = "game-detail";
@@ -49,9 +50,6 @@ public class RedisConfig {
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
-        // 방 목록 캐시: TTL 1분
-        cacheConfigurations.put(CACHE_ROOMS, defaultConfig.entryTtl(Duration.ofMinutes(1)));
-
         // 유저 평균 별점 캐시: TTL 10분
         cacheConfigurations.put(CACHE_USER_RATING, defaultConfig.entryTtl(Duration.ofMinutes(10)));
 
@@ -66,4 +64,13 @@ public class RedisConfig {
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
     }
+
+    // STOMP 팬아웃용 pub/sub 구독 컨테이너 (websocket.fanout=redis 일 때만)
+    @Bean
+    @ConditionalOnProperty(name = "websocket.fanout", havingValue = "redis")
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -27,16 +27,29 @@ public enum ErrorCode {
     ROOM_NOT_HOST(403, "방장만 가능한 작업입니다"),
     ROOM_NOT_WAITING(400, "대기 중인 방이 아닙니다"),
     ROOM_HOST_CANNOT_LEAVE(409, "방장은 나갈 수 없습니다"),
+    ROOM_LOCK_TIMEOUT(409, "요청이 몰리고 있습니다. 잠시 후 다시 시도해주세요"),
+    ROOM_LOCK_EXPIRED(409, "처리 시간이 초과되었습니다. 다시 시도해주세요"),
 
     // User
     USER_NOT_FOUND(404, "사용자를 찾을 수 없습니다"),
 
     // Game
     GAME_NOT_FOUND(404, "게임을 찾을 수 없습니다"),
+    EMBEDDING_API_NOT_CONFIGURED(503, "임베딩 API 키가 설정되지 않았습니다"),
+    EMBEDDING_JOB_RUNNING(409, "임베딩 생성이 이미 진행 중입니다"),
+    EMBEDDING_API_ERROR(502, "임베딩 API 호출에 실패해 임베딩 생성을 중단했습니다"),
+
+    // Admin Job
+    JOB_NOT_FOUND(404, "작업을 찾을 수 없습니다"),
+    JOB_ALREADY_ACTIVE(409, "같은 종류의 작업이 이미 대기 중이거나 진행 중입니다"),
+    JOB_ALREADY_FINISHED(409, "이미 끝난 작업입니다"),
 
     // Participant
     PARTICIPANT_NOT_FOUND(404, "참가 정보를 찾을 수 없습니다"),
 
+    // Chat
+    CHAT_OVERLOADED(503, "채팅 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+
     // Review
     REVIEW_SELF_NOT_ALLOWED(400, "자기 자신에게 리뷰를 작성할 수 없습니다"),
     REVIEW_DUPLICATE(409, "이미 해당 방에서 이 유저에게 리뷰를 작성했습니다"),
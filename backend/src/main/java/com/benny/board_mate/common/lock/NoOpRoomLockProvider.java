@@ -0,0 +1,25 @@
+package com.benny.board_mate.common.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "room.lock.provider", havingValue = "none", matchIfMissing = true)
+public class NoOpRoomLockProvider implements RoomLockProvider {
+
+    private static final RoomLock NO_LOCK = new RoomLock() {
+        @Override
+        public Long fencingToken() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Override
+    public RoomLock acquire(Long roomId) {
+        return NO_LOCK;
+    }
+}
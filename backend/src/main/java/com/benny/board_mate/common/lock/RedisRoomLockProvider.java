@@ -0,0 +1,131 @@
+package com.benny.board_mate.common.lock;
+
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 분산 락 (Redisson 없이 SET NX PX)
+ *
+ * 작동 방식:
+ * - lock:room:{roomId}       → 소유자 식별값, lease-ms 후 자동 만료
+ * - lock:room:{roomId}:fence → 획득할 때마다 INCR (fencing token)
+ * - 획득 실패 시 지수 백오프(+지터)로 wait-ms까지 재시도
+ * - 해제는 소유자가 같을 때만 DEL (만료 후 다른 인스턴스가 잡은 락을 지우지 않도록)
+ *
+ * 임대 시간이 지나 락이 넘어간 뒤 이전 소유자의 쓰기는 Room.fence()가 토큰으로 거부한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "room.lock.provider", havingValue = "redis")
+public class RedisRoomLockProvider implements RoomLockProvider {
+
+    private static final long MIN_BACKOFF_MILLIS = 5;
+    private static final long MAX_BACKOFF_MILLIS = 100;
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return redis.call('INCR', KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long leaseMillis;
+    private final long waitMillis;
+
+    public RedisRoomLockProvider(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${room.lock.lease-ms:5000}") long leaseMillis,
+            @Value("${room.lock.wait-ms:3000}") long waitMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaseMillis = leaseMillis;
+        this.waitMillis = waitMillis;
+    }
+
+    @Override
+    public RoomLock acquire(Long roomId) {
+        String lockKey = lockKey(roomId);
+        List<String> keys = List.of(lockKey, lockKey + ":fence");
+        String owner = UUID.randomUUID().toString();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        long backoff = MIN_BACKOFF_MILLIS;
+
+        while (true) {
+            Long token = redisTemplate.execute(ACQUIRE_SCRIPT, keys, owner, String.valueOf(leaseMillis));
+            if (token != null && token > 0) {
+                return new RedisRoomLock(roomId, lockKey, owner, token);
+            }
+
+            if (System.nanoTime() >= deadline) {
+                log.warn("방 락 획득 시간 초과: roomId={}, wait={}ms", roomId, waitMillis);
+                throw new BusinessException(ErrorCode.ROOM_LOCK_TIMEOUT);
+            }
+
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.ROOM_LOCK_TIMEOUT);
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private static String lockKey(Long roomId) {
+        return "lock:room:" + roomId;
+    }
+
+    private class RedisRoomLock implements RoomLock {
+
+        private final Long roomId;
+        private final String lockKey;
+        private final String owner;
+        private final long fencingToken;
+
+        private RedisRoomLock(Long roomId, String lockKey, String owner, long fencingToken) {
+            this.roomId = roomId;
+            this.lockKey = lockKey;
+            this.owner = owner;
+            this.fencingToken = fencingToken;
+        }
+
+        @Override
+        public Long fencingToken() {
+            return fencingToken;
+        }
+
+        @Override
+        public void close() {
+            try {
+                Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), owner);
+                if (released == null || released == 0) {
+                    log.warn("방 락이 해제 전에 만료됨: roomId={}, token={}", roomId, fencingToken);
+                }
+            } catch (Exception e) {
+                // 해제 실패 시 lease-ms 후 자동 만료
+                log.warn("방 락 해제 실패: roomId={}, error={}", roomId, e.getMessage());
+            }
+        }
+    }
+}
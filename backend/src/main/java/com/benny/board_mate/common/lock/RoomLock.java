@@ -0,0 +1,16 @@
+package com.benny.board_mate.common.lock;
+
+/**
+ * 획득한 방 단위 락 (try-with-resources로 해제)
+ */
+public interface RoomLock extends AutoCloseable {
+
+    /**
+     * 락을 획득할 때마다 증가하는 토큰
+     * 락 임대 시간이 지난 뒤 늦게 도착한 쓰기를 DB에서 거부하는 데 사용 (DB 행 락을 쓰는 구현은 null)
+     */
+    Long fencingToken();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,14 @@
+package com.benny.board_mate.common.lock;
+
+/**
+ * 방 단위 락 제공자 (room.lock.provider)
+ *
+ * - none: 인스턴스 간 락 없음, 서비스가 SELECT ... FOR UPDATE로 보호 (NoOpRoomLockProvider)
+ * - redis: SET NX PX + fencing token (RedisRoomLockProvider)
+ *
+ * 락은 트랜잭션 밖에서 획득하고 커밋이 끝난 뒤 해제해야 한다.
+ */
+public interface RoomLockProvider {
+
+    RoomLock acquire(Long roomId);
+}
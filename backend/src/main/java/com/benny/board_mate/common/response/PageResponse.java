@@ -1,26 +1,31 @@
 package com.benny.board_mate.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
 
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private boolean last;
+    private String nextCursor;
 
-    private PageResponse(List<T> content, int page, int size, long totalElements, int totalPages, boolean last) {
+    private PageResponse(List<T> content, int page, int size, Long totalElements, Integer totalPages,
+                         boolean last, String nextCursor) {
         this.content = content;
         this.page = page;
         this.size = size;
         this.totalElements = totalElements;
         this.totalPages = totalPages;
         this.last = last;
+        this.nextCursor = nextCursor;
     }
 
     public static <T> PageResponse<T> from(Page<T> page) {
@@ -30,7 +35,23 @@ public class PageResponse<T> {
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
-                page.isLast()
+                page.isLast(),
+                null
+        );
+    }
+
+    /**
+     * 커서 기반 페이지 (전체 개수는 계산하지 않음)
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, String nextCursor) {
+        return new PageResponse<>(
+                content,
+                0,
+                size,
+                null,
+                null,
+                nextCursor == null,
+                nextCursor
         );
     }
 }
@@ -0,0 +1,10 @@
+package com.benny.board_mate.common.websocket;
+
+/**
+ * 다른 인스턴스에서 팬아웃된 채팅 메시지 수신 (RedisMessageFanout)
+ *
+ * @param destination STOMP destination (/topic/chat/{roomId})
+ * @param payload     보낸 쪽에서 직렬화한 JSON
+ */
+public record FanoutMessageReceivedEvent(String destination, String payload) {
+}
@@ -0,0 +1,12 @@
+package com.benny.board_mate.common.websocket;
+
+/**
+ * STOMP 브로드캐스트 (websocket.fanout)
+ *
+ * - local: 이 인스턴스의 simple broker 구독자에게만 전송 (LocalMessageFanout)
+ * - redis: Redis pub/sub으로 다른 인스턴스 구독자에게도 전송 (RedisMessageFanout)
+ */
+public interface MessageFanout {
+
+    void publish(String destination, Object payload);
+}
@@ -0,0 +1,206 @@
+package com.benny.board_mate.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 STOMP 팬아웃 (다중 인스턴스)
+ *
+ * 작동 방식:
+ * - publish: 로컬 구독자에게 바로 전송 + Redis 채널 ws:{destination}에 PUBLISH
+ * - 각 인스턴스는 로컬 구독자가 있는 destination 채널만 SUBSCRIBE (구독 0 → 1일 때 구독, 1 → 0일 때 해제)
+ * - 받은 메시지가 자기 인스턴스에서 보낸 것이면 무시 (이미 로컬 전송함)
+ * - 채팅 채널(ws:/topic/chat/*)은 구독자와 관계없이 패턴으로도 구독해 FanoutMessageReceivedEvent로 알린다
+ *   (방별 최근 메시지 버퍼가 다른 인스턴스에서 보낸 메시지도 받도록, STOMP 전송은 하지 않음)
+ *
+ * 대상: /topic/chat/{roomId}, /topic/rooms/{roomId}
+ * pub/sub은 최대 1회 전달이라 구독 직후 짧은 순간의 메시지는 놓칠 수 있다.
+ * (채팅은 DB에 저장되므로 클라이언트가 내역 API로 보정)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.fanout", havingValue = "redis")
+public class RedisMessageFanout implements MessageFanout, MessageListener {
+
+    private static final String CHANNEL_PREFIX = "ws:";
+    private static final String CHAT_DESTINATION_PREFIX = "/topic/chat/";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // destination → 이 인스턴스의 구독 수
+    private final Map<String, Integer> localSubscriptions = new HashMap<>();
+    // sessionId → (subscriptionId → destination)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+
+    public RedisMessageFanout(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            SimpMessagingTemplate messagingTemplate,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        listenerContainer.addMessageListener(this::onChatMessage,
+                new PatternTopic(CHANNEL_PREFIX + CHAT_DESTINATION_PREFIX + "*"));
+    }
+
+    @Override
+    public void publish(String destination, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("메시지 직렬화 실패: " + destination, e);
+        }
+
+        deliverLocally(destination, json);
+
+        if (!isFanoutDestination(destination)) {
+            return;
+        }
+        try {
+            Envelope envelope = new Envelope(nodeId, destination, json, System.currentTimeMillis());
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + destination, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            log.warn("다른 인스턴스로 메시지 전파 실패 (로컬만 전송): destination={}, error={}",
+                    destination, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+            deliverLocally(envelope.destination(), envelope.payload());
+            log.debug("팬아웃 수신: destination={}, 지연={}ms",
+                    envelope.destination(), System.currentTimeMillis() - envelope.publishedAt());
+        } catch (IOException e) {
+            log.warn("팬아웃 메시지 파싱 실패: {}", e.getMessage());
+        }
+    }
+
+    // 채팅 채널 패턴 구독: 로컬 구독자 전송은 채널 구독(onMessage)이 하므로 이벤트만 발행
+    private void onChatMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+            eventPublisher.publishEvent(new FanoutMessageReceivedEvent(envelope.destination(), envelope.payload()));
+        } catch (IOException e) {
+            log.warn("팬아웃 채팅 메시지 파싱 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !isFanoutDestination(destination)) {
+            return;
+        }
+        synchronized (this) {
+            sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), id -> new HashMap<>())
+                    .put(accessor.getSubscriptionId(), destination);
+            if (localSubscriptions.merge(destination, 1, Integer::sum) == 1) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+            }
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        synchronized (this) {
+            Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+            if (subscriptions == null) {
+                return;
+            }
+            String destination = subscriptions.remove(accessor.getSubscriptionId());
+            if (destination != null) {
+                release(destination);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        synchronized (this) {
+            Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::release);
+            }
+        }
+    }
+
+    /**
+     * 이 인스턴스에서 destination을 구독 중인 세션 수
+     */
+    public synchronized int localSubscriberCount(String destination) {
+        return localSubscriptions.getOrDefault(destination, 0);
+    }
+
+    private void release(String destination) {
+        Integer remaining = localSubscriptions.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+        }
+    }
+
+    // 미리 직렬화한 JSON을 그대로 simple broker에 전달 (인스턴스마다 다시 직렬화하지 않음)
+    private void deliverLocally(String destination, String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination,
+                MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+
+    private boolean isFanoutDestination(String destination) {
+        return destination.startsWith(CHAT_DESTINATION_PREFIX) || destination.startsWith("/topic/rooms/");
+    }
+
+    record Envelope(String origin, String destination, String payload, long publishedAt) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.benny.board_mate.game;
+
+/**
+ * 게임 카탈로그(게임 정보 또는 임베딩)가 바뀌었음을 알리는 이벤트
+ * 카탈로그 기반으로 만든 캐시(소믈리에 응답 캐시 등)를 비울 때 사용
+ */
+public record GameCatalogChangedEvent(String reason, int changedGames) {
+}
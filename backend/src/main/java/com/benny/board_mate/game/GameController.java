@@ -2,12 +2,17 @@ package com.benny.board_mate.game;
 
 import com.benny.board_mate.common.response.ApiResponse;
 import com.benny.board_mate.game.dto.GameResponse;
+import com.benny.board_mate.game.dto.GameSearchRequest;
+import com.benny.board_mate.game.dto.GameSearchResponse;
+import com.benny.board_mate.game.dto.GameSuggestion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -24,4 +29,18 @@ public class GameController {
     public ResponseEntity<ApiResponse<List<GameResponse>>> getAllGames() {
         return ResponseEntity.ok(ApiResponse.ok(gameService.getAllGames()));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "게임 필터 검색", description = "메커니즘/카테고리(AND), 인원, 플레이 시간/난이도(OR) 조건으로 인기순 검색하고 필터별 게임 수를 함께 반환")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<GameSearchResponse>> search(@ModelAttribute GameSearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok(gameService.search(request)));
+    }
+
+    @Operation(summary = "게임 제목 자동완성", description = "한글/원제 부분 일치, 입력 중인 음절, 초성(ㅋㅌ) 검색. 앞부분 일치 > 유사도 > 평가 수 순")
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<GameSuggestion>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.ok(gameService.suggestTitles(q, limit)));
+    }
+}
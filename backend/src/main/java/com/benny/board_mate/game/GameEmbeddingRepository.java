@@ -1,18 +1,9 @@
 package com.benny.board_mate.game;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-
-import java.util.List;
 
+/**
+ * 유사도 검색은 ef_search/probes를 쿼리마다 지정해야 해서 GameEmbeddingSearch(JdbcTemplate)에서 처리
+ */
 public interface GameEmbeddingRepository extends JpaRepository<GameEmbedding, Long> {
-
-    @Query(value = """
-        SELECT bgg_id, content, 1 - (embedding <=> CAST(:queryVector AS vector)) as similarity
-        FROM game_embeddings
-        ORDER BY embedding <=> CAST(:queryVector AS vector)
-        LIMIT :limit
-        """, nativeQuery = true)
-    List<Object[]> findSimilarGames(@Param("queryVector") String queryVector, @Param("limit") int limit);
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,11 +13,17 @@ public interface GameRepository extends JpaRepository<BoardGame, Long> {
 
     Optional<BoardGame> findByBggId(Long bggId);
 
-    @Query("SELECT g FROM BoardGame g WHERE " +
-           "LOWER(g.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(g.titleKorean) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "ORDER BY g.numRatings DESC NULLS LAST")
-    List<BoardGame> searchByTitle(@Param("query") String query, Pageable pageable);
+    List<BoardGame> findByBggIdIn(Collection<Long> bggIds);
 
     List<BoardGame> findTop100ByOrderByNumRatingsDesc();
+
+    // 임베딩이 아직 없는 게임을 bggId 순으로 (EmbeddingPipeline 페이지 조회)
+    @Query("SELECT g FROM BoardGame g WHERE g.bggId > :afterBggId " +
+           "AND NOT EXISTS (SELECT 1 FROM GameEmbedding e WHERE e.bggId = g.bggId) " +
+           "ORDER BY g.bggId")
+    List<BoardGame> findWithoutEmbeddingAfter(@Param("afterBggId") Long afterBggId, Pageable pageable);
+
+    @Query("SELECT COUNT(g) FROM BoardGame g WHERE g.bggId > :afterBggId " +
+           "AND NOT EXISTS (SELECT 1 FROM GameEmbedding e WHERE e.bggId = g.bggId)")
+    long countWithoutEmbeddingAfter(@Param("afterBggId") Long afterBggId);
 }
\ No newline at end of file
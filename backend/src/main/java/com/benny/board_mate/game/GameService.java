@@ -1,22 +1,138 @@
 package com.benny.board_mate.game;
 
+import com.benny.board_mate.common.config.RedisConfig;
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
 import com.benny.board_mate.game.dto.GameResponse;
+import com.benny.board_mate.game.dto.GameSearchRequest;
+import com.benny.board_mate.game.dto.GameSearchResponse;
+import com.benny.board_mate.game.dto.GameSuggestion;
+import com.benny.board_mate.game.service.GameFacetIndex;
+import com.benny.board_mate.game.service.GameTitleTypeahead;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GameService {
 
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+
     private final GameRepository gameRepository;
+    private final GameFacetIndex facetIndex;
+    private final GameTitleTypeahead titleTypeahead;
+    private final CacheManager cacheManager;
 
     public List<GameResponse> getAllGames() {
         return gameRepository.findAll().stream()
                 .map(GameResponse::from)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * 필터 검색 - 조건 조합과 필터별 개수는 GameFacetIndex(메모리)에서, DB는 현재 페이지 게임만 조회
+     */
+    public GameSearchResponse search(GameSearchRequest request) {
+        if (request.getPage() < 0 || request.getSize() < 1 || request.getSize() > MAX_SEARCH_SIZE
+                || (request.getPlayers() != null
+                && (request.getPlayers() < 1 || request.getPlayers() > GameFacetIndex.MAX_PLAYERS))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        GameFacetIndex.Criteria criteria = new GameFacetIndex.Criteria(
+                request.getMechanics(),
+                request.getCategories(),
+                request.getPlayers(),
+                parsePlaytimes(request.getPlaytime()),
+                parseDifficulties(request.getDifficulty()));
+
+        GameFacetIndex.Result result = facetIndex.search(criteria, request.getPage() * request.getSize(), request.getSize());
+
+        Map<Long, BoardGame> games = gameRepository.findAllById(result.gameIds()).stream()
+                .collect(Collectors.toMap(BoardGame::getId, Function.identity()));
+        List<GameResponse> content = result.gameIds().stream()
+                .map(games::get)
+                .filter(Objects::nonNull)
+                .map(GameResponse::from)
+                .toList();
+
+        return GameSearchResponse.builder()
+                .content(content)
+                .page(request.getPage())
+                .size(request.getSize())
+                .totalElements(result.total())
+                .facets(result.facets())
+                .build();
+    }
+
+    /**
+     * 제목 자동완성 - 같은 입력(정규화 기준)은 CACHE_GAME_SEARCH에서 바로 돌려준다
+     */
+    @Cacheable(value = RedisConfig.CACHE_GAME_SEARCH,
+            key = "T(com.benny.board_mate.game.service.GameTitleTypeahead).normalize(#query) + ':' + #limit",
+            condition = "#query != null && !#query.isBlank()")
+    public List<GameSuggestion> suggestTitles(String query, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        // 캐시 직렬화(JSON 기본 타입 정보)가 되도록 가변 리스트로
+        return new ArrayList<>(titleTypeahead.suggest(query, limit));
+    }
+
+    /**
+     * 임포트로 게임/한글 제목이 바뀌면 자동완성 캐시를 비운다 (Redis 장애가 임포트를 실패시키지 않도록 예외는 로그만)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(GameCatalogChangedEvent event) {
+        try {
+            Cache cache = cacheManager.getCache(RedisConfig.CACHE_GAME_SEARCH);
+            if (cache != null) {
+                cache.clear();
+            }
+        } catch (Exception e) {
+            log.warn("게임 검색 캐시 삭제 실패 (TTL 후 갱신됨): {}", e.getMessage());
+        }
+    }
+
+    private static List<GameFacetIndex.Playtime> parsePlaytimes(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<GameFacetIndex.Playtime> playtimes = new ArrayList<>();
+        for (String value : values) {
+            try {
+                playtimes.add(GameFacetIndex.Playtime.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+        }
+        return playtimes;
+    }
+
+    private static List<String> parseDifficulties(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> difficulties = values.stream().map(String::trim).toList();
+        if (!GameFacetIndex.DIFFICULTIES.containsAll(difficulties)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        return difficulties;
+    }
+}
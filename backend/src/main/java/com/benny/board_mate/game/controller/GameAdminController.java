@@ -1,8 +1,12 @@
 package com.benny.board_mate.game.controller;
 
 import com.benny.board_mate.common.response.ApiResponse;
-import com.benny.board_mate.game.service.EmbeddingService;
-import com.benny.board_mate.game.service.GameDataImportService;
+import com.benny.board_mate.game.service.GameEmbeddingIndexManager;
+import com.benny.board_mate.game.service.GameFacetIndex;
+import com.benny.board_mate.game.service.QueryEmbeddingCache;
+import com.benny.board_mate.job.AdminJobService;
+import com.benny.board_mate.job.AdminJobType;
+import com.benny.board_mate.job.dto.AdminJobResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -18,41 +22,53 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GameAdminController {
 
-    private final GameDataImportService importService;
-    private final EmbeddingService embeddingService;
+    private final AdminJobService jobService;
+    private final GameEmbeddingIndexManager embeddingIndexManager;
+    private final QueryEmbeddingCache queryEmbeddingCache;
+    private final GameFacetIndex facetIndex;
 
+    /**
+     * CSV 임포트 작업 등록 - 진행률은 GET /api/admin/jobs/{id}
+     */
     @PostMapping("/import")
-    public ApiResponse<Map<String, Object>> importGames(
+    public ApiResponse<AdminJobResponse> importGames(
             @RequestParam String filePath,
             @RequestParam(defaultValue = "1000") int limit
     ) {
         log.info("게임 데이터 임포트 요청: filePath={}, limit={}", filePath, limit);
-
-        try {
-            int imported = importService.importFromCsv(filePath, limit);
-            return ApiResponse.ok(Map.of(
-                    "imported", imported,
-                    "message", imported + "개 게임이 임포트되었습니다."
-            ));
-        } catch (Exception e) {
-            log.error("게임 데이터 임포트 실패", e);
-            throw new RuntimeException("임포트 실패: " + e.getMessage());
-        }
+        return ApiResponse.ok(jobService.submit(AdminJobType.GAME_IMPORT, filePath, limit));
     }
 
+    /**
+     * 임베딩 생성 작업 등록 (끝나면 벡터 인덱스 생성/재생성까지) - 진행률은 GET /api/admin/jobs/{id}
+     */
     @PostMapping("/embeddings")
-    public ApiResponse<Map<String, Object>> generateEmbeddings() {
+    public ApiResponse<AdminJobResponse> generateEmbeddings() {
         log.info("임베딩 생성 요청");
+        return ApiResponse.ok(jobService.submit(AdminJobType.GAME_EMBEDDING, null, null));
+    }
+
+    @GetMapping("/embeddings/index")
+    public ApiResponse<Map<String, Object>> getEmbeddingIndex() {
+        return ApiResponse.ok(embeddingIndexManager.status());
+    }
+
+    /**
+     * 벡터 인덱스 재생성 작업 등록 - 진행 상황은 GET /api/admin/jobs/{id}, 결과는 GET /embeddings/index
+     */
+    @PostMapping("/embeddings/index/rebuild")
+    public ApiResponse<AdminJobResponse> rebuildEmbeddingIndex() {
+        log.info("벡터 인덱스 재생성 요청");
+        return ApiResponse.ok(jobService.submit(AdminJobType.GAME_EMBEDDING_INDEX, null, null));
+    }
+
+    @GetMapping("/embeddings/query-cache")
+    public ApiResponse<Map<String, Object>> queryEmbeddingCacheStats() {
+        return ApiResponse.ok(queryEmbeddingCache.stats());
+    }
 
-        try {
-            int created = embeddingService.generateEmbeddingsForAllGames();
-            return ApiResponse.ok(Map.of(
-                    "created", created,
-                    "message", created + "개 게임의 임베딩이 생성되었습니다."
-            ));
-        } catch (Exception e) {
-            log.error("임베딩 생성 실패", e);
-            throw new RuntimeException("임베딩 생성 실패: " + e.getMessage());
-        }
+    @GetMapping("/facets")
+    public ApiResponse<Map<String, Object>> facetIndexStats() {
+        return ApiResponse.ok(facetIndex.stats());
     }
 }
@@ -0,0 +1,30 @@
+package com.benny.board_mate.game.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * GET /api/games/search 조건 (같은 파라미터를 여러 번 주면 목록)
+ * 예: ?mechanics=Worker Placement&mechanics=Hand Management&players=2&playtime=SHORT&difficulty=중급
+ */
+@Getter
+@Setter
+public class GameSearchRequest {
+    // 모두 가진 게임
+    private List<String> mechanics;
+    private List<String> categories;
+
+    // 이 인원으로 할 수 있는 게임 (1~GameFacetIndex.MAX_PLAYERS)
+    private Integer players;
+
+    // QUICK(~30분) | SHORT(~60분) | MEDIUM(~120분) | LONG(120분 초과), 하나라도 맞는 게임
+    private List<String> playtime;
+
+    // 초급 | 중급 | 고급 | 전문가, 하나라도 맞는 게임
+    private List<String> difficulty;
+
+    private int page = 0;
+    private int size = 20;
+}
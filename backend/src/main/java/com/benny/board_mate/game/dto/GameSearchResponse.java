@@ -0,0 +1,22 @@
+package com.benny.board_mate.game.dto;
+
+import com.benny.board_mate.game.service.GameFacetIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class GameSearchResponse {
+
+    // 인기순(평가 수 많은 순)
+    private List<GameResponse> content;
+    private int page;
+    private int size;
+    private int totalElements;
+
+    // 필터 이름(mechanics, categories, players, playtime, difficulty) → 값별 게임 수
+    private Map<String, List<GameFacetIndex.FacetCount>> facets;
+}
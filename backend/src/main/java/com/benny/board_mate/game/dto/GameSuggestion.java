@@ -0,0 +1,26 @@
+package com.benny.board_mate.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제목 자동완성 항목 (Redis 캐시에 JSON으로 저장되므로 기본 생성자 필요)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSuggestion {
+
+    private Long id;
+    private Long bggId;
+    private String title;
+    private String titleKorean;
+    private int minPlayers;
+    private int maxPlayers;
+    private Integer playtime;
+    private String difficulty;
+    private String thumbnailUrl;
+}
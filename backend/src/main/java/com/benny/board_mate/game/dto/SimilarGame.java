@@ -0,0 +1,7 @@
+package com.benny.board_mate.game.dto;
+
+/**
+ * 벡터 검색 결과 (similarity = 1 - 코사인 거리)
+ */
+public record SimilarGame(Long bggId, double similarity) {
+}
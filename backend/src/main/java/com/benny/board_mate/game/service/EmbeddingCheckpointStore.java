@@ -0,0 +1,43 @@
+package com.benny.board_mate.game.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 임베딩 생성 체크포인트 (embedding_checkpoints)
+ * 페이지 저장과 같은 트랜잭션에서 갱신해야 "저장됨"과 "체크포인트 이동"이 어긋나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddingCheckpointStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이어서 시작할 bggId (완료된 적 있거나 기록이 없으면 0)
+     */
+    public long resumeAfter(String jobName) {
+        List<Long> lastBggIds = jdbcTemplate.queryForList(
+                "SELECT last_bgg_id FROM embedding_checkpoints WHERE job_name = ? AND NOT completed",
+                Long.class, jobName);
+        return lastBggIds.isEmpty() ? 0 : lastBggIds.get(0);
+    }
+
+    public void advance(String jobName, long lastBggId) {
+        jdbcTemplate.update("""
+                INSERT INTO embedding_checkpoints (job_name, last_bgg_id, completed, updated_at)
+                VALUES (?, ?, false, now())
+                ON CONFLICT (job_name) DO UPDATE
+                SET last_bgg_id = EXCLUDED.last_bgg_id, completed = false, updated_at = now()
+                """, jobName, lastBggId);
+    }
+
+    public void complete(String jobName) {
+        jdbcTemplate.update(
+                "UPDATE embedding_checkpoints SET completed = true, updated_at = now() WHERE job_name = ?",
+                jobName);
+    }
+}
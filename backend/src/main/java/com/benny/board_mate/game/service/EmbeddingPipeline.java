@@ -0,0 +1,240 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.game.GameCatalogChangedEvent;
+import com.benny.board_mate.game.GameEmbedding;
+import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.job.JobProgress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게임 카탈로그 임베딩 일괄 생성
+ *
+ * - 임베딩이 없는 게임을 bggId 순으로 페이지 단위 조회 (전체를 메모리에 올리지 않음)
+ * - 한 페이지를 batch-size개씩 나눠 batchEmbedContents를 concurrency개까지 동시에 호출
+ *   호출 속도는 토큰 버킷으로 requests-per-second 이하로 제한하고, 429/5xx/연결 오류는 지수 백오프로 재시도
+ * - 페이지 저장과 체크포인트(마지막 bggId) 갱신을 한 트랜잭션으로 커밋
+ *   → 중간에 죽어도 다음 실행이 체크포인트 다음부터 이어서 진행
+ * - 재시도 후에도 실패한 게임은 이번 실행에서 건너뛰고, 다음 실행(처음부터)에서 다시 시도된다
+ */
+@Slf4j
+@Service
+public class EmbeddingPipeline {
+
+    static final String JOB_NAME = "game-embeddings";
+
+    private final GameRepository gameRepository;
+    private final EmbeddingService embeddingService;
+    private final GameEmbeddingWriter embeddingWriter;
+    private final EmbeddingCheckpointStore checkpointStore;
+    private final VectorIndex vectorIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int concurrency;
+    private final double requestsPerSecond;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public EmbeddingPipeline(
+            GameRepository gameRepository,
+            EmbeddingService embeddingService,
+            GameEmbeddingWriter embeddingWriter,
+            EmbeddingCheckpointStore checkpointStore,
+            VectorIndex vectorIndex,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${game.embedding.pipeline.batch-size:100}") int batchSize,
+            @Value("${game.embedding.pipeline.concurrency:4}") int concurrency,
+            @Value("${game.embedding.pipeline.requests-per-second:5}") double requestsPerSecond,
+            @Value("${game.embedding.pipeline.max-attempts:5}") int maxAttempts,
+            @Value("${game.embedding.pipeline.retry-backoff-ms:1000}") long retryBackoffMs
+    ) {
+        // 0 이하면 토큰이 영영 채워지지 않아 작업이 running을 쥔 채 멈추므로 기동 시점에 거절
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException(
+                    "game.embedding.pipeline.requests-per-second는 0보다 커야 합니다: " + requestsPerSecond);
+        }
+        this.gameRepository = gameRepository;
+        this.embeddingService = embeddingService;
+        this.embeddingWriter = embeddingWriter;
+        this.checkpointStore = checkpointStore;
+        this.vectorIndex = vectorIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.clamp(batchSize, 1, EmbeddingService.MAX_BATCH_SIZE);
+        this.concurrency = Math.max(concurrency, 1);
+        this.requestsPerSecond = requestsPerSecond;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    public Map<String, Object> run() {
+        return run(JobProgress.NONE);
+    }
+
+    /**
+     * 임베딩이 없는 모든 게임 처리 (동시에 한 번만 실행)
+     * 페이지마다 progress에 보고하고, 취소 요청이 있으면 체크포인트를 남긴 채 멈춘다 (다음 실행이 이어서 진행)
+     */
+    public Map<String, Object> run(JobProgress progress) {
+        if (!embeddingService.isConfigured()) {
+            throw new BusinessException(ErrorCode.EMBEDDING_API_NOT_CONFIGURED);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.EMBEDDING_JOB_RUNNING);
+        }
+        try {
+            return process(progress);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, Object> process(JobProgress progress) {
+        long startTime = System.currentTimeMillis();
+        long resumedAfter = checkpointStore.resumeAfter(JOB_NAME);
+        if (resumedAfter > 0) {
+            log.info("임베딩 생성 체크포인트에서 재개: bggId > {}", resumedAfter);
+        }
+
+        progress.start(gameRepository.countWithoutEmbeddingAfter(resumedAfter));
+
+        TokenBucket rateLimiter = new TokenBucket(requestsPerSecond, concurrency);
+        int pageSize = batchSize * concurrency;
+        long after = resumedAfter;
+        int created = 0;
+        int failed = 0;
+        boolean cancelled = false;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                if (progress.isCancelRequested()) {
+                    cancelled = true;
+                    log.info("임베딩 생성 취소: 체크포인트 bggId={}", after);
+                    break;
+                }
+                List<BoardGame> page = gameRepository.findWithoutEmbeddingAfter(after, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                List<Future<List<GameEmbedding>>> batches = new ArrayList<>();
+                for (int from = 0; from < page.size(); from += batchSize) {
+                    List<BoardGame> batch = page.subList(from, Math.min(from + batchSize, page.size()));
+                    batches.add(executor.submit(() -> embedBatch(batch, rateLimiter)));
+                }
+                List<GameEmbedding> embeddings = new ArrayList<>(page.size());
+                for (Future<List<GameEmbedding>> batch : batches) {
+                    embeddings.addAll(await(batch));
+                }
+
+                long lastBggId = page.getLast().getBggId();
+                transactionTemplate.executeWithoutResult(status -> {
+                    embeddingWriter.upsertAll(embeddings);
+                    checkpointStore.advance(JOB_NAME, lastBggId);
+                });
+                embeddings.forEach(embedding -> vectorIndex.add(embedding.getBggId(), embedding.getEmbedding()));
+
+                after = lastBggId;
+                created += embeddings.size();
+                failed += page.size() - embeddings.size();
+                progress.advance(embeddings.size(), page.size() - embeddings.size());
+                log.info("임베딩 생성 진행: 생성 {}, 실패 {}, bggId={}", created, failed, lastBggId);
+            }
+        }
+
+        if (!cancelled) {
+            checkpointStore.complete(JOB_NAME);
+        }
+        if (created > 0) {
+            eventPublisher.publishEvent(new GameCatalogChangedEvent("embeddings", created));
+        }
+        long elapsedMs = System.currentTimeMillis() - startTime;
+        log.info("임베딩 생성 완료: 생성 {}, 실패 {}, {}ms", created, failed, elapsedMs);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("created", created);
+        result.put("failed", failed);
+        result.put("resumedAfterBggId", resumedAfter);
+        result.put("elapsedMs", elapsedMs);
+        result.put("cancelled", cancelled);
+        return result;
+    }
+
+    private List<GameEmbedding> embedBatch(List<BoardGame> batch, TokenBucket rateLimiter) throws InterruptedException {
+        List<String> contents = batch.stream().map(embeddingService::buildEmbeddingContent).toList();
+
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            try {
+                List<float[]> vectors = embeddingService.createEmbeddings(contents);
+                List<GameEmbedding> embeddings = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    if (vectors.get(i).length == EmbeddingService.EMBEDDING_DIMENSION) {
+                        embeddings.add(GameEmbedding.builder()
+                                .bggId(batch.get(i).getBggId())
+                                .content(contents.get(i))
+                                .embedding(vectors.get(i))
+                                .build());
+                    }
+                }
+                return embeddings;
+            } catch (WebClientResponseException e) {
+                if (!isRetryable(e.getStatusCode())) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    log.warn("임베딩 배치 실패 (건너뜀): bggId {}~{}, status={}",
+                            batch.getFirst().getBggId(), batch.getLast().getBggId(), e.getStatusCode());
+                    return List.of();
+                }
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("임베딩 배치 실패 (건너뜀): bggId {}~{}, error={}",
+                            batch.getFirst().getBggId(), batch.getLast().getBggId(), e.getMessage());
+                    return List.of();
+                }
+            }
+            Thread.sleep(retryBackoffMs * (1L << Math.min(attempt - 1, 10)));
+        }
+    }
+
+    private boolean isRetryable(HttpStatusCode status) {
+        return status.value() == 429 || status.is5xxServerError();
+    }
+
+    // 재시도할 수 없는 오류(잘못된 키, 잘못된 요청 등)는 실행 전체를 중단 - 체크포인트는 마지막 커밋 페이지에 남는다
+    private List<GameEmbedding> await(Future<List<GameEmbedding>> batch) {
+        try {
+            return batch.get();
+        } catch (ExecutionException e) {
+            log.error("임베딩 생성 중단: {}", e.getCause().getMessage());
+            throw new BusinessException(ErrorCode.EMBEDDING_API_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+}
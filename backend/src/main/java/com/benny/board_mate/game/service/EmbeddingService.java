@@ -1,79 +1,63 @@
 package com.benny.board_mate.game.service;
 
 import com.benny.board_mate.game.BoardGame;
-import com.benny.board_mate.game.GameEmbedding;
-import com.benny.board_mate.game.GameEmbeddingRepository;
-import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.game.dto.SimilarGame;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Gemini 임베딩 API 클라이언트 + 유사 게임 검색
+ * (카탈로그 전체 임베딩 생성은 EmbeddingPipeline)
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmbeddingService {
 
-    private final GameRepository gameRepository;
-    private final GameEmbeddingRepository embeddingRepository;
-    private final ObjectMapper objectMapper;
+    public static final int EMBEDDING_DIMENSION = 768;
+    // batchEmbedContents 한 번에 보낼 수 있는 최대 요청 수
+    public static final int MAX_BATCH_SIZE = 100;
 
-    @Value("${sommelier.gemini.api-key:}")
-    private String geminiApiKey;
-
-    private static final String GEMINI_EMBEDDING_URL = "https://generativelanguage.googleapis.com/v1beta/models/text-embedding-004:embedContent";
-    private static final int EMBEDDING_DIMENSION = 768;
-
-    @Transactional
-    public int generateEmbeddingsForAllGames() {
-        List<BoardGame> games = gameRepository.findAll();
-        log.info("임베딩 생성 시작: {} 게임", games.size());
-
-        int created = 0;
-        for (BoardGame game : games) {
-            try {
-                // 이미 임베딩이 존재하는지 확인
-                if (embeddingRepository.existsById(game.getBggId())) {
-                    continue;
-                }
-
-                String content = buildEmbeddingContent(game);
-                float[] embedding = createEmbedding(content);
-
-                if (embedding != null) {
-                    GameEmbedding gameEmbedding = GameEmbedding.builder()
-                            .bggId(game.getBggId())
-                            .content(content)
-                            .embedding(embedding)
-                            .build();
-                    embeddingRepository.save(gameEmbedding);
-                    created++;
-
-                    if (created % 50 == 0) {
-                        log.info("임베딩 생성 진행: {}/{}", created, games.size());
-                    }
-                }
-
-                // Rate limit 방지
-                Thread.sleep(100);
-            } catch (Exception e) {
-                log.warn("임베딩 생성 실패: bggId={}, error={}", game.getBggId(), e.getMessage());
-            }
-        }
+    private final VectorIndex vectorIndex;
+    private final QueryEmbeddingCache queryEmbeddingCache;
+    private final ObjectMapper objectMapper;
+    private final WebClient webClient;
+    private final String model;
+    private final String geminiApiKey;
+
+    public EmbeddingService(
+            VectorIndex vectorIndex,
+            QueryEmbeddingCache queryEmbeddingCache,
+            ObjectMapper objectMapper,
+            @Value("${game.embedding.api.base-url:https://generativelanguage.googleapis.com/v1beta}") String baseUrl,
+            @Value("${game.embedding.api.model:text-embedding-004}") String model,
+            @Value("${sommelier.gemini.api-key:}") String geminiApiKey
+    ) {
+        this.vectorIndex = vectorIndex;
+        this.queryEmbeddingCache = queryEmbeddingCache;
+        this.objectMapper = objectMapper;
+        this.model = model;
+        this.geminiApiKey = geminiApiKey;
+        // 호출마다 만들지 않고 커넥션 풀을 공유 (배치 응답은 100 × 768 float ≈ 1.5MB)
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .build();
+    }
 
-        log.info("임베딩 생성 완료: {} 게임", created);
-        return created;
+    public boolean isConfigured() {
+        return geminiApiKey != null && !geminiApiKey.isBlank();
     }
 
-    private String buildEmbeddingContent(BoardGame game) {
+    public String buildEmbeddingContent(BoardGame game) {
         StringBuilder sb = new StringBuilder();
         sb.append("게임명: ").append(game.getTitle());
         if (game.getTitleKorean() != null) {
@@ -112,72 +96,102 @@ public class EmbeddingService {
     }
 
     public float[] createEmbedding(String text) {
-        if (geminiApiKey == null || geminiApiKey.isBlank()) {
+        if (!isConfigured()) {
             log.warn("Gemini API 키가 설정되지 않았습니다.");
             return null;
         }
 
         try {
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(GEMINI_EMBEDDING_URL)
-                    .build();
-
-            Map<String, Object> content = Map.of(
-                    "parts", List.of(Map.of("text", text))
-            );
-            Map<String, Object> requestBody = Map.of("content", content);
-
             String response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder.queryParam("key", geminiApiKey).build())
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestBody)
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/models/{model}:embedContent")
+                            .queryParam("key", geminiApiKey)
+                            .build(model))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("content", content(text)))
                     .retrieve()
                     .bodyToMono(String.class)
                     .block();
 
             JsonNode root = objectMapper.readTree(response);
-            JsonNode embeddingNode = root.path("embedding").path("values");
+            return toFloatArray(root.path("embedding").path("values"));
+        } catch (Exception e) {
+            log.error("Gemini 임베딩 API 호출 실패: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            List<Float> embeddingList = new ArrayList<>();
-            for (JsonNode node : embeddingNode) {
-                embeddingList.add(node.floatValue());
-            }
+    /**
+     * batchEmbedContents 한 번으로 여러 텍스트 임베딩 (입력 순서대로 반환)
+     * 실패하면 예외를 그대로 던진다 - 재시도 여부는 호출 쪽에서 판단 (WebClientResponseException 상태 코드)
+     */
+    public List<float[]> createEmbeddings(List<String> texts) {
+        if (texts.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("배치 크기 초과: " + texts.size() + " > " + MAX_BATCH_SIZE);
+        }
 
-            float[] embedding = new float[embeddingList.size()];
-            for (int i = 0; i < embeddingList.size(); i++) {
-                embedding[i] = embeddingList.get(i);
-            }
+        List<Map<String, Object>> requests = texts.stream()
+                .map(text -> Map.<String, Object>of("model", "models/" + model, "content", content(text)))
+                .toList();
 
-            return embedding;
+        String response = webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/models/{model}:batchEmbedContents")
+                        .queryParam("key", geminiApiKey)
+                        .build(model))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("requests", requests))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+
+        JsonNode embeddings;
+        try {
+            embeddings = objectMapper.readTree(response).path("embeddings");
         } catch (Exception e) {
-            log.error("Gemini 임베딩 API 호출 실패: {}", e.getMessage());
-            return null;
+            throw new IllegalStateException("임베딩 응답 파싱 실패: " + e.getMessage(), e);
+        }
+        if (embeddings.size() != texts.size()) {
+            throw new IllegalStateException("임베딩 응답 개수 불일치: " + embeddings.size() + " != " + texts.size());
+        }
+
+        List<float[]> result = new ArrayList<>(texts.size());
+        for (JsonNode embedding : embeddings) {
+            result.add(toFloatArray(embedding.path("values")));
+        }
+        return result;
+    }
+
+    private Map<String, Object> content(String text) {
+        return Map.of("parts", List.of(Map.of("text", text)));
+    }
+
+    private float[] toFloatArray(JsonNode values) {
+        float[] embedding = new float[values.size()];
+        for (int i = 0; i < embedding.length; i++) {
+            embedding[i] = values.get(i).floatValue();
         }
+        return embedding;
+    }
+
+    /**
+     * 검색 질의 임베딩 (같은 질의는 캐시에서 반환해 API를 호출하지 않는다)
+     */
+    public float[] embedQuery(String query) {
+        return queryEmbeddingCache.get(query, this::createEmbedding);
     }
 
     public List<Long> findSimilarGames(String query, int limit) {
-        float[] queryEmbedding = createEmbedding(query);
+        float[] queryEmbedding = embedQuery(query);
         if (queryEmbedding == null) {
             return List.of();
         }
-
-        String vectorString = arrayToVectorString(queryEmbedding);
-        List<Object[]> results = embeddingRepository.findSimilarGames(vectorString, limit);
-
-        return results.stream()
-                .map(row -> ((Number) row[0]).longValue())
-                .toList();
+        return findSimilarGames(queryEmbedding, limit);
     }
 
-    private String arrayToVectorString(float[] array) {
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < array.length; i++) {
-            sb.append(array[i]);
-            if (i < array.length - 1) {
-                sb.append(",");
-            }
-        }
-        sb.append("]");
-        return sb.toString();
+    public List<Long> findSimilarGames(float[] queryEmbedding, int limit) {
+        return vectorIndex.search(queryEmbedding, limit).stream()
+                .map(SimilarGame::bggId)
+                .toList();
     }
 }
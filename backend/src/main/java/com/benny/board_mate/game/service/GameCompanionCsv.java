@@ -0,0 +1,105 @@
+package com.benny.board_mate.game.service;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * BGGId로 게임 파일과 이어지는 보조 CSV를 한 번 훑으며 조인 (해시 조인: 임포트 대상 bggId 집합이 빌드 쪽)
+ *
+ * 두 가지 형식을 지원하며, 형식은 파일마다 호출자가 정한다 (컬럼 수로 추측하면 항목이 하나인 wide 파일을 long으로 읽음).
+ * - wide: BGGId + 항목별 0/1 컬럼 (Kaggle mechanics.csv, themes.csv, subcategories.csv) → 1인 컬럼 이름이 값
+ * - long: BGGId + 값 컬럼 하나, 한 게임이 여러 행이어도 됨 (korean_titles.csv 등 직접 만든 파일)
+ *
+ * 대상이 아닌 행은 bggId만 보고 버리므로 메모리는 대상 게임 수에만 비례한다.
+ */
+final class GameCompanionCsv {
+
+    private static final String BGG_ID = "BGGId";
+    // Kaggle 파일의 컬럼 접두사 ("Cat:Strategy", "Theme_Fantasy")
+    private static final String[] LABEL_PREFIXES = {"Cat:", "Theme_"};
+
+    enum Format {
+        WIDE, LONG
+    }
+
+    private GameCompanionCsv() {
+    }
+
+    /**
+     * @return 대상 게임에 붙은 값 개수
+     */
+    static int join(CSVReader reader, Format format, Set<Long> bggIds, BiConsumer<Long, String> sink)
+            throws IOException, CsvException {
+        String[] headers = reader.readNext();
+        if (headers == null) {
+            return 0;
+        }
+        int idIndex = -1;
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = headers[i].trim();
+            if (BGG_ID.equalsIgnoreCase(headers[i])) {
+                idIndex = i;
+            }
+        }
+        if (idIndex < 0) {
+            throw new IllegalArgumentException("BGGId 컬럼이 없는 CSV입니다: " + String.join(",", headers));
+        }
+        boolean wide = format == Format.WIDE;
+        int valueIndex = idIndex == 0 ? 1 : 0;
+        if (!wide && headers.length <= valueIndex) {
+            throw new IllegalArgumentException("값 컬럼이 없는 CSV입니다: " + String.join(",", headers));
+        }
+
+        int joined = 0;
+        String[] row;
+        while ((row = reader.readNext()) != null) {
+            Long bggId = row.length > idIndex ? parseBggId(row[idIndex]) : null;
+            if (bggId == null || !bggIds.contains(bggId)) {
+                continue;
+            }
+            if (!wide) {
+                if (row.length > valueIndex && !row[valueIndex].isBlank()) {
+                    sink.accept(bggId, row[valueIndex].trim());
+                    joined++;
+                }
+                continue;
+            }
+            for (int i = 0; i < headers.length && i < row.length; i++) {
+                if (i != idIndex && isFlagSet(row[i])) {
+                    sink.accept(bggId, label(headers[i]));
+                    joined++;
+                }
+            }
+        }
+        return joined;
+    }
+
+    /**
+     * 0/1 플래그 컬럼 이름을 항목 이름으로 ("Cat:Strategy" → "Strategy")
+     */
+    static String label(String header) {
+        for (String prefix : LABEL_PREFIXES) {
+            if (header.startsWith(prefix)) {
+                return header.substring(prefix.length()).trim();
+            }
+        }
+        return header;
+    }
+
+    static boolean isFlagSet(String value) {
+        String trimmed = value.trim();
+        return trimmed.equals("1") || trimmed.equals("1.0") || trimmed.equalsIgnoreCase("true");
+    }
+
+    private static Long parseBggId(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,103 +1,362 @@
 package com.benny.board_mate.game.service;
 
-import com.benny.board_mate.game.BoardGame;
-import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.game.GameCatalogChangedEvent;
+import com.benny.board_mate.job.JobProgress;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.*;
 
+/**
+ * Kaggle BGG CSV 임포트
+ *
+ * - 파일을 한 행씩 읽으며 NumUserRatings 상위 limit개만 최소 힙에 유지 (메모리 = limit행, 파일 크기와 무관)
+ * - 같은 디렉터리의 보조 파일(mechanics.csv, themes.csv, subcategories.csv, korean_titles.csv)이 있으면
+ *   선택된 limit개를 빌드 쪽으로 한 번씩 훑어 해시 조인한다 (메모리는 여전히 limit행)
+ * - INSERT ... ON CONFLICT (bgg_id) DO UPDATE를 JDBC 배치로 저장
+ *   (IDENTITY 키라 Hibernate saveAll은 배치가 안 되고 행마다 INSERT가 나간다)
+ *   이미 있는 게임은 비어 있는 보강 컬럼(한글 제목, 이미지, 메커니즘, 카테고리)만 채우고 기존 값은 덮어쓰지 않는다
+ * - 메커니즘/카테고리는 같은 트랜잭션에서 사전 테이블(game_tags)과 연결 테이블에도 저장 (GET /api/games/search 필터용)
+ * - 보강된 게임의 임베딩은 같은 트랜잭션에서 지워 다음 임베딩 작업 때 새 정보로 다시 만든다
+ * - 배치마다 따로 커밋 - 긴 트랜잭션 하나로 묶지 않으며, 중간에 멈춰도 다시 실행하면 저장된 게임은 건너뛴다
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GameDataImportService {
 
-    private final GameRepository gameRepository;
+    private static final int BATCH_SIZE = 1000;
 
-    @Transactional
-    public int importFromCsv(String filePath, int limit) throws IOException, CsvException {
+    // 보조 파일 이름 → 채울 컬럼과 파일 형식 (메인 CSV와 같은 디렉터리에 있을 때만 읽는다)
+    private static final Map<String, Companion> COMPANION_FILES = new LinkedHashMap<>();
+
+    static {
+        COMPANION_FILES.put("mechanics.csv", new Companion(Attribute.MECHANICS, GameCompanionCsv.Format.WIDE));
+        COMPANION_FILES.put("themes.csv", new Companion(Attribute.CATEGORIES, GameCompanionCsv.Format.WIDE));
+        COMPANION_FILES.put("subcategories.csv", new Companion(Attribute.CATEGORIES, GameCompanionCsv.Format.WIDE));
+        COMPANION_FILES.put("korean_titles.csv", new Companion(Attribute.TITLE_KOREAN, GameCompanionCsv.Format.LONG));
+    }
+
+    private static final String UPSERT_GAME = """
+            INSERT INTO board_games (bgg_id, title, title_korean, min_players, max_players, playtime, min_playtime,
+                                     max_playtime, weight, year_published, average_rating, num_ratings, description,
+                                     difficulty, image_url, thumbnail_url, mechanics, categories, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (bgg_id) DO UPDATE SET
+                title_korean = COALESCE(board_games.title_korean, EXCLUDED.title_korean),
+                image_url = COALESCE(board_games.image_url, EXCLUDED.image_url),
+                thumbnail_url = COALESCE(board_games.thumbnail_url, EXCLUDED.thumbnail_url),
+                mechanics = COALESCE(board_games.mechanics, EXCLUDED.mechanics),
+                categories = COALESCE(board_games.categories, EXCLUDED.categories),
+                updated_at = EXCLUDED.updated_at
+            WHERE (board_games.title_korean IS NULL AND EXCLUDED.title_korean IS NOT NULL)
+               OR (board_games.image_url IS NULL AND EXCLUDED.image_url IS NOT NULL)
+               OR (board_games.thumbnail_url IS NULL AND EXCLUDED.thumbnail_url IS NOT NULL)
+               OR (board_games.mechanics IS NULL AND EXCLUDED.mechanics IS NOT NULL)
+               OR (board_games.categories IS NULL AND EXCLUDED.categories IS NOT NULL)
+            """;
+
+    private static final int[] UPSERT_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.DOUBLE, Types.INTEGER, Types.DOUBLE, Types.INTEGER, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GameTagStore tagStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportResult importFromCsv(String filePath, int limit) throws IOException, CsvException {
+        return importFromCsv(filePath, limit, JobProgress.NONE);
+    }
+
+    /**
+     * 배치마다 progress에 보고하고, 취소 요청이 있으면 다음 배치부터 멈춘다
+     */
+    public ImportResult importFromCsv(String filePath, int limit, JobProgress progress) throws IOException, CsvException {
         log.info("CSV 임포트 시작: filePath={}, limit={}", filePath, limit);
 
-        try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> allRows = reader.readAll();
+        Path path = Path.of(filePath);
+        List<Row> topGames;
+        try (CSVReader reader = new CSVReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            topGames = selectTop(reader, limit);
+        }
+        log.info("상위 {} 게임 선택 완료", topGames.size());
+        progress.start(topGames.size());
+        if (topGames.isEmpty()) {
+            return new ImportResult(0, 0);
+        }
+        joinCompanionFiles(path.toAbsolutePath().getParent(), topGames);
+
+        // 새 게임/기존 게임 구분은 한 번의 조회로 (보강 건수와 임베딩 무효화 대상을 가르는 데 쓴다)
+        Map<Long, StoredText> existing = findExisting(topGames.stream().map(Row::bggId).toList());
+        LocalDateTime now = LocalDateTime.now();
 
-            if (allRows.isEmpty()) {
-                log.warn("CSV 파일이 비어 있습니다.");
-                return 0;
+        int imported = 0;
+        int enriched = 0;
+        for (int from = 0; from < topGames.size(); from += BATCH_SIZE) {
+            if (progress.isCancelRequested()) {
+                log.info("CSV 임포트 취소: {} 게임 저장, {} 게임 보강 후 중단", imported, enriched);
+                break;
             }
-
-            // 헤더 파싱
-            String[] headers = allRows.get(0);
-            Map<String, Integer> headerIndex = new HashMap<>();
-            for (int i = 0; i < headers.length; i++) {
-                headerIndex.put(headers[i].trim(), i);
+            List<Row> batch = topGames.subList(from, Math.min(from + BATCH_SIZE, topGames.size()));
+            List<Object[]> args = batch.stream().map(row -> row.toInsertArgs(now)).toList();
+            int[] counts = transactionTemplate.execute(status -> {
+                int[] written = jdbcTemplate.batchUpdate(UPSERT_GAME, args, UPSERT_TYPES);
+                invalidateEmbeddings(batch, written, existing);
+                tagStore.link(tagsOf(batch));
+                return written;
+            });
+            for (int i = 0; i < counts.length; i++) {
+                if (!isWritten(counts[i])) {
+                    continue;
+                }
+                if (existing.containsKey(batch.get(i).bggId())) {
+                    enriched++;
+                } else {
+                    imported++;
+                }
             }
+            progress.advance(batch.size(), 0);
+            log.info("임포트 진행: {} 게임 저장, {} 게임 보강", imported, enriched);
+        }
 
-            log.info("CSV 헤더: {}", Arrays.toString(headers));
+        log.info("CSV 임포트 완료: 총 {} 게임 저장, {} 게임 보강 (기존 {}개)", imported, enriched, existing.size());
+        eventPublisher.publishEvent(new GameCatalogChangedEvent("import", imported + enriched));
+        return new ImportResult(imported, enriched);
+    }
 
-            // 데이터 행들 (헤더 제외)
-            List<String[]> dataRows = allRows.subList(1, allRows.size());
+    // 임베딩 내용(한글 제목/메커니즘/카테고리)이 보강된 기존 게임만 임베딩을 지워 다음 임베딩 작업 대상으로 되돌린다
+    // (이미지/썸네일만 채워진 게임은 임베딩이 그대로 유효)
+    private void invalidateEmbeddings(List<Row> batch, int[] counts, Map<Long, StoredText> existing) {
+        List<Long> enriched = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            StoredText stored = existing.get(batch.get(i).bggId());
+            if (isWritten(counts[i]) && stored != null && stored.isFilledBy(batch.get(i).attributes())) {
+                enriched.add(batch.get(i).bggId());
+            }
+        }
+        if (!enriched.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM game_embeddings WHERE bgg_id = ANY(?)",
+                    (Object) enriched.toArray(Long[]::new));
+        }
+    }
 
-            // NumUserRatings 기준 정렬하여 상위 limit개 선택
-            int numRatingsIdx = headerIndex.getOrDefault("NumUserRatings", -1);
-            if (numRatingsIdx >= 0) {
-                dataRows.sort((a, b) -> {
-                    int ratingA = parseIntSafe(a.length > numRatingsIdx ? a[numRatingsIdx] : "0");
-                    int ratingB = parseIntSafe(b.length > numRatingsIdx ? b[numRatingsIdx] : "0");
-                    return Integer.compare(ratingB, ratingA);
-                });
+    // 기존 게임도 연결한다 - 다시 임포트하면 태그 테이블이 생기기 전에 저장된 게임까지 채워진다
+    private static List<GameTagStore.Tag> tagsOf(List<Row> batch) {
+        List<GameTagStore.Tag> tags = new ArrayList<>();
+        for (Row row : batch) {
+            for (String mechanic : row.attributes().mechanics) {
+                tags.add(new GameTagStore.Tag(row.bggId(), GameTagType.MECHANIC, mechanic));
+            }
+            for (String category : row.attributes().categories) {
+                tags.add(new GameTagStore.Tag(row.bggId(), GameTagType.CATEGORY, category));
             }
+        }
+        return tags;
+    }
 
-            List<String[]> topGames = dataRows.subList(0, Math.min(limit, dataRows.size()));
-            log.info("상위 {} 게임 선택 완료", topGames.size());
+    /**
+     * @param imported 새로 저장한 게임 수
+     * @param enriched 이미 있던 게임 중 보강 컬럼이 채워진 수
+     */
+    public record ImportResult(int imported, int enriched) {}
 
-            // 배치 저장
-            List<BoardGame> batch = new ArrayList<>();
-            int imported = 0;
+    /**
+     * 메인 CSV 옆의 보조 파일을 하나씩 스트리밍하며 선택된 게임에만 값을 붙인다
+     */
+    private static void joinCompanionFiles(Path directory, List<Row> games) throws IOException, CsvException {
+        if (directory == null) {
+            return;
+        }
+        Map<Long, Row> byBggId = new HashMap<>(games.size() * 2);
+        for (Row game : games) {
+            byBggId.put(game.bggId(), game);
+        }
+        for (Map.Entry<String, Companion> companion : COMPANION_FILES.entrySet()) {
+            Path file = directory.resolve(companion.getKey());
+            if (!Files.isRegularFile(file)) {
+                continue;
+            }
+            Attribute attribute = companion.getValue().attribute();
+            try (CSVReader reader = new CSVReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+                int joined = GameCompanionCsv.join(reader, companion.getValue().format(), byBggId.keySet(),
+                        (bggId, value) -> byBggId.get(bggId).attributes().add(attribute, value));
+                log.info("보조 파일 조인: {} → {}개 값", companion.getKey(), joined);
+            }
+        }
+    }
 
-            for (String[] row : topGames) {
-                try {
-                    BoardGame game = mapToEntity(row, headerIndex);
-                    if (game != null) {
-                        batch.add(game);
-                    }
+    /**
+     * NumUserRatings 상위 limit개 행 (많은 순, 같으면 파일 앞쪽 행 우선)
+     * 최소 힙의 루트(현재 limit번째)보다 평가 수가 많은 행만 힙에 들어가고 나머지는 바로 버려진다
+     */
+    static List<Row> selectTop(CSVReader reader, int limit) throws IOException, CsvException {
+        String[] headers = reader.readNext();
+        if (headers == null || limit <= 0) {
+            log.warn("CSV 파일이 비어 있습니다.");
+            return List.of();
+        }
+        Map<String, Integer> headerIndex = new HashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            headerIndex.put(headers[i].trim(), i);
+        }
+        log.info("CSV 헤더: {}", Arrays.toString(headers));
+        // 메인 파일의 Cat:* 0/1 컬럼도 카테고리로
+        List<Integer> categoryColumns = new ArrayList<>();
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].trim().startsWith("Cat:")) {
+                categoryColumns.add(i);
+            }
+        }
 
-                    if (batch.size() >= 100) {
-                        gameRepository.saveAll(batch);
-                        imported += batch.size();
-                        log.info("임포트 진행: {} 게임 저장됨", imported);
-                        batch.clear();
-                    }
-                } catch (Exception e) {
-                    log.warn("게임 파싱 실패: {}", e.getMessage());
+        // 루트 = 평가 수가 가장 적고, 같으면 가장 나중에 읽은 행
+        Comparator<Candidate> weakestFirst = Comparator
+                .comparingInt(Candidate::numRatings)
+                .thenComparing(Comparator.comparingLong(Candidate::order).reversed());
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, weakestFirst);
+        long order = 0;
+        String[] line;
+        while ((line = reader.readNext()) != null) {
+            Integer numRatings = parseIntSafe(getValue(line, headerIndex, "NumUserRatings"));
+            int score = numRatings != null ? numRatings : 0;
+            if (heap.size() == limit && score <= heap.peek().numRatings()) {
+                order++;
+                continue;
+            }
+            Row row = mapToRow(line, headerIndex);
+            if (row == null) {
+                order++;
+                continue;
+            }
+            for (int column : categoryColumns) {
+                if (column < line.length && GameCompanionCsv.isFlagSet(line[column])) {
+                    row.attributes().add(Attribute.CATEGORIES, GameCompanionCsv.label(headers[column].trim()));
                 }
             }
-
-            // 나머지 저장
-            if (!batch.isEmpty()) {
-                gameRepository.saveAll(batch);
-                imported += batch.size();
+            heap.add(new Candidate(score, order++, row));
+            if (heap.size() > limit) {
+                heap.poll();
             }
+        }
 
-            log.info("CSV 임포트 완료: 총 {} 게임 저장됨", imported);
-            return imported;
+        List<Candidate> selected = new ArrayList<>(heap);
+        selected.sort(weakestFirst.reversed());
+        return selected.stream().map(Candidate::row).toList();
+    }
+
+    private Map<Long, StoredText> findExisting(List<Long> bggIds) {
+        Map<Long, StoredText> existing = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT bgg_id, title_korean IS NOT NULL, mechanics IS NOT NULL, categories IS NOT NULL
+                FROM board_games WHERE bgg_id = ANY(?)
+                """, rs -> {
+            existing.put(rs.getLong(1), new StoredText(rs.getBoolean(2), rs.getBoolean(3), rs.getBoolean(4)));
+        }, (Object) bggIds.toArray(Long[]::new));
+        return existing;
+    }
+
+    // 바뀐 게 없어 ON CONFLICT WHERE로 건너뛴 행은 0, 드라이버가 개수를 안 알려주면(SUCCESS_NO_INFO) 쓴 것으로 본다
+    private static boolean isWritten(int count) {
+        return count == Statement.SUCCESS_NO_INFO || count > 0;
+    }
+
+    private record Candidate(int numRatings, long order, Row row) {}
+
+    private record Companion(Attribute attribute, GameCompanionCsv.Format format) {}
+
+    /**
+     * 기존 게임에서 임베딩 내용에 들어가는 보강 컬럼이 채워져 있는지
+     */
+    private record StoredText(boolean titleKorean, boolean mechanics, boolean categories) {
+
+        // 비어 있던 컬럼을 이번 행이 채우면 (UPSERT_GAME의 COALESCE) 임베딩 내용이 바뀐다
+        boolean isFilledBy(Attributes attributes) {
+            return (!titleKorean && attributes.titleKorean != null)
+                    || (!mechanics && !attributes.mechanics.isEmpty())
+                    || (!categories && !attributes.categories.isEmpty());
         }
     }
 
-    private BoardGame mapToEntity(String[] row, Map<String, Integer> headerIndex) {
-        Long bggId = parseLongSafe(getValue(row, headerIndex, "BGGId"));
-        if (bggId == null) {
-            return null;
+    /**
+     * 임포트할 게임 한 행 (CSV에서 필요한 컬럼만)
+     */
+    record Row(
+            long bggId,
+            String title,
+            int minPlayers,
+            int maxPlayers,
+            Integer playtime,
+            Integer minPlaytime,
+            Integer maxPlaytime,
+            Double weight,
+            Integer yearPublished,
+            Double averageRating,
+            Integer numRatings,
+            String description,
+            String imageUrl,
+            String thumbnailUrl,
+            Attributes attributes
+    ) {
+        Object[] toInsertArgs(LocalDateTime now) {
+            Timestamp timestamp = Timestamp.valueOf(now);
+            return new Object[]{
+                    bggId, title, attributes.titleKorean, minPlayers, maxPlayers, playtime, minPlaytime, maxPlaytime,
+                    weight, yearPublished, averageRating, numRatings, description, mapWeightToDifficulty(weight),
+                    imageUrl, thumbnailUrl, joinOrNull(attributes.mechanics), joinOrNull(attributes.categories),
+                    timestamp, timestamp
+            };
+        }
+    }
+
+    enum Attribute {
+        TITLE_KOREAN, MECHANICS, CATEGORIES
+    }
+
+    /**
+     * 보조 파일에서 모이는 값 (여러 파일/여러 행에서 누적되므로 가변)
+     */
+    static final class Attributes {
+        private String titleKorean;
+        private final Set<String> mechanics = new LinkedHashSet<>();
+        private final Set<String> categories = new LinkedHashSet<>();
+
+        void add(Attribute attribute, String value) {
+            switch (attribute) {
+                case TITLE_KOREAN -> {
+                    if (titleKorean == null) {
+                        titleKorean = value;
+                    }
+                }
+                case MECHANICS -> mechanics.add(value);
+                case CATEGORIES -> categories.add(value);
+            }
         }
+    }
 
-        // 이미 존재하는지 확인
-        if (gameRepository.findByBggId(bggId).isPresent()) {
+    private static String joinOrNull(Set<String> values) {
+        return values.isEmpty() ? null : String.join(", ", values);
+    }
+
+    private static Row mapToRow(String[] row, Map<String, Integer> headerIndex) {
+        Long bggId = parseLongSafe(getValue(row, headerIndex, "BGGId"));
+        if (bggId == null) {
             return null;
         }
 
@@ -106,24 +365,32 @@ public class GameDataImportService {
             return null;
         }
 
-        return BoardGame.builder()
-                .bggId(bggId)
-                .title(title)
-                .minPlayers(parseIntWithDefault(getValue(row, headerIndex, "MinPlayers"), 1))
-                .maxPlayers(parseIntWithDefault(getValue(row, headerIndex, "MaxPlayers"), 4))
-                .playtime(parseIntSafe(getValue(row, headerIndex, "MfgPlaytime")))
-                .minPlaytime(parseIntSafe(getValue(row, headerIndex, "ComMinPlaytime")))
-                .maxPlaytime(parseIntSafe(getValue(row, headerIndex, "ComMaxPlaytime")))
-                .weight(parseDoubleSafe(getValue(row, headerIndex, "GameWeight")))
-                .yearPublished(parseIntSafe(getValue(row, headerIndex, "YearPublished")))
-                .averageRating(parseDoubleSafe(getValue(row, headerIndex, "AvgRating")))
-                .numRatings(parseIntSafe(getValue(row, headerIndex, "NumUserRatings")))
-                .description(getValue(row, headerIndex, "Description"))
-                .difficulty(mapWeightToDifficulty(parseDoubleSafe(getValue(row, headerIndex, "GameWeight"))))
-                .build();
-    }
-
-    private String getValue(String[] row, Map<String, Integer> headerIndex, String columnName) {
+        Attributes attributes = new Attributes();
+        String titleKorean = getValue(row, headerIndex, "TitleKorean");
+        if (titleKorean != null) {
+            attributes.add(Attribute.TITLE_KOREAN, titleKorean);
+        }
+
+        return new Row(
+                bggId,
+                title,
+                parseIntWithDefault(getValue(row, headerIndex, "MinPlayers"), 1),
+                parseIntWithDefault(getValue(row, headerIndex, "MaxPlayers"), 4),
+                parseIntSafe(getValue(row, headerIndex, "MfgPlaytime")),
+                parseIntSafe(getValue(row, headerIndex, "ComMinPlaytime")),
+                parseIntSafe(getValue(row, headerIndex, "ComMaxPlaytime")),
+                parseDoubleSafe(getValue(row, headerIndex, "GameWeight")),
+                parseIntSafe(getValue(row, headerIndex, "YearPublished")),
+                parseDoubleSafe(getValue(row, headerIndex, "AvgRating")),
+                parseIntSafe(getValue(row, headerIndex, "NumUserRatings")),
+                getValue(row, headerIndex, "Description"),
+                getValue(row, headerIndex, "ImagePath"),
+                getValue(row, headerIndex, "ThumbnailPath"),
+                attributes
+        );
+    }
+
+    private static String getValue(String[] row, Map<String, Integer> headerIndex, String columnName) {
         Integer idx = headerIndex.get(columnName);
         if (idx == null || idx >= row.length) {
             return null;
@@ -132,7 +399,7 @@ public class GameDataImportService {
         return value.isEmpty() ? null : value;
     }
 
-    private Long parseLongSafe(String value) {
+    private static Long parseLongSafe(String value) {
         if (value == null || value.isBlank()) return null;
         try {
             return Long.parseLong(value.trim());
@@ -141,7 +408,7 @@ public class GameDataImportService {
         }
     }
 
-    private int parseIntWithDefault(String value, int defaultValue) {
+    private static int parseIntWithDefault(String value, int defaultValue) {
         if (value == null || value.isBlank()) return defaultValue;
         try {
             return (int) Double.parseDouble(value.trim());
@@ -150,7 +417,7 @@ public class GameDataImportService {
         }
     }
 
-    private Integer parseIntSafe(String value) {
+    private static Integer parseIntSafe(String value) {
         if (value == null || value.isBlank()) return null;
         try {
             return (int) Double.parseDouble(value.trim());
@@ -159,7 +426,7 @@ public class GameDataImportService {
         }
     }
 
-    private Double parseDoubleSafe(String value) {
+    private static Double parseDoubleSafe(String value) {
         if (value == null || value.isBlank()) return null;
         try {
             return Double.parseDouble(value.trim());
@@ -168,7 +435,7 @@ public class GameDataImportService {
         }
     }
 
-    private String mapWeightToDifficulty(Double weight) {
+    private static String mapWeightToDifficulty(Double weight) {
         if (weight == null) return null;
         if (weight < 2.0) return "초급";
         if (weight < 3.0) return "중급";
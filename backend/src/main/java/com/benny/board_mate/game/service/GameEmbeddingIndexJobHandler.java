@@ -0,0 +1,31 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.job.AdminJob;
+import com.benny.board_mate.job.AdminJobHandler;
+import com.benny.board_mate.job.AdminJobType;
+import com.benny.board_mate.job.JobProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 벡터 인덱스 재생성 작업 - CREATE INDEX CONCURRENTLY는 행이 많으면 수 분 걸리므로 HTTP 스레드 밖에서 실행
+ * (중간에 끊겨 다시 실행돼도 build가 남은 _new 인덱스를 지우고 처음부터 만든다)
+ */
+@Component
+@RequiredArgsConstructor
+public class GameEmbeddingIndexJobHandler implements AdminJobHandler {
+
+    private final GameEmbeddingIndexManager embeddingIndexManager;
+
+    @Override
+    public AdminJobType type() {
+        return AdminJobType.GAME_EMBEDDING_INDEX;
+    }
+
+    @Override
+    public Map<String, Object> run(AdminJob job, JobProgress progress) {
+        return embeddingIndexManager.rebuild();
+    }
+}
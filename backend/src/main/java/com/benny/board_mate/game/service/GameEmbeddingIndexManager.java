@@ -0,0 +1,265 @@
+package com.benny.board_mate.game.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * game_embeddings 벡터 인덱스 관리
+ *
+ * - 기동 시와 임베딩 생성 후 호출: 임베딩 행 수가 min-rows 이상이면 인덱스 생성
+ *   (행이 적을 때 만든 ivfflat은 클러스터가 부실해 recall이 크게 떨어진다)
+ * - ivfflat의 lists는 생성 시점 행 수로 정해지므로, 행 수가 rebuild-growth배 이상 늘면 다시 만든다
+ * - 생성 조건(type, 파라미터, 행 수)은 인덱스 COMMENT에 기록해 재기동 후에도 비교한다
+ * - CREATE INDEX CONCURRENTLY로 새 인덱스를 만든 뒤 교체하므로 재생성 중에도 검색/저장이 막히지 않는다
+ *   (CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으니 @Transactional 밖에서 호출)
+ * - synchronized는 한 JVM 안에서만 막으므로, 여러 인스턴스가 함께 기동해도 같은 _new 인덱스를 동시에 만들고 지우지 않도록
+ *   점검~생성 전체를 pg_advisory_lock으로 감싼다. 락을 기다린 쪽은 앞선 인스턴스가 만든 인덱스를 보고 다시 판단한다
+ */
+@Slf4j
+@Component
+public class GameEmbeddingIndexManager {
+
+    static final String INDEX_NAME = "idx_game_embeddings_embedding";
+    private static final String BUILDING_INDEX_NAME = INDEX_NAME + "_new";
+    // 세션 단위 advisory lock 키 - 같은 연결에서 잡고 풀어야 하므로 ConnectionCallback 안에서만 사용
+    private static final String BUILD_LOCK_SQL = "SELECT pg_advisory_lock(hashtext('" + INDEX_NAME + "'))";
+    private static final String BUILD_UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext('" + INDEX_NAME + "'))";
+    private static final String EMBEDDING_TYPE = "vector(" + EmbeddingService.EMBEDDING_DIMENSION + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VectorIndexType type;
+    private final long minRows;
+    private final double rebuildGrowth;
+    private final int hnswM;
+    private final int hnswEfConstruction;
+    private final String maintenanceWorkMem;
+
+    public GameEmbeddingIndexManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${game.embedding.index.type:hnsw}") VectorIndexType type,
+            @Value("${game.embedding.index.min-rows:1000}") long minRows,
+            @Value("${game.embedding.index.rebuild-growth:2.0}") double rebuildGrowth,
+            @Value("${game.embedding.index.hnsw.m:16}") int hnswM,
+            @Value("${game.embedding.index.hnsw.ef-construction:64}") int hnswEfConstruction,
+            @Value("${game.embedding.index.maintenance-work-mem:256MB}") String maintenanceWorkMem
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.type = type;
+        this.minRows = minRows;
+        this.rebuildGrowth = rebuildGrowth;
+        this.hnswM = hnswM;
+        this.hnswEfConstruction = hnswEfConstruction;
+        this.maintenanceWorkMem = maintenanceWorkMem;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            migrateDimension();
+            ensureIndex();
+        } catch (Exception e) {
+            log.warn("임베딩 인덱스 점검 실패 (전체 스캔으로 검색): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 설정과 현재 행 수에 맞게 인덱스 생성/재생성/삭제
+     */
+    public synchronized Map<String, Object> ensureIndex() {
+        withBuildLock(() -> {
+            // 락을 잡은 뒤에 읽어야 먼저 끝난 다른 인스턴스의 결과를 보고 중복 생성하지 않는다
+            long rows = countEmbeddings();
+            Map<String, String> built = builtSpec();
+
+            if (type == VectorIndexType.NONE) {
+                if (built != null) {
+                    log.info("벡터 인덱스 삭제 (game.embedding.index.type=none)");
+                    jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + INDEX_NAME);
+                }
+            } else if (rows >= minRows && needsBuild(built, rows)) {
+                build(type, rows);
+            }
+        });
+        return status();
+    }
+
+    /**
+     * 조건과 관계없이 설정된 종류로 다시 생성
+     */
+    public synchronized Map<String, Object> rebuild() {
+        if (type != VectorIndexType.NONE) {
+            withBuildLock(() -> build(type, countEmbeddings()));
+        }
+        return status();
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("configuredType", type.name().toLowerCase());
+        status.put("rows", countEmbeddings());
+        status.put("minRows", minRows);
+
+        Map<String, String> built = builtSpec();
+        status.put("indexed", built != null);
+        if (built != null) {
+            status.put("index", built);
+            status.put("indexSize", jdbcTemplate.queryForObject(
+                    "SELECT pg_size_pretty(pg_relation_size(to_regclass(?)))", String.class, INDEX_NAME));
+        }
+        return status;
+    }
+
+    /**
+     * 인스턴스 간 인덱스 점검/생성 직렬화. 락은 별도 연결(autocommit, 트랜잭션 없음)에서 잡으므로
+     * 빌드 연결의 CREATE INDEX CONCURRENTLY가 이 연결을 기다리지 않는다
+     */
+    private void withBuildLock(Runnable action) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement lock = connection.createStatement()) {
+                lock.execute(BUILD_LOCK_SQL);
+                try {
+                    action.run();
+                } finally {
+                    lock.execute(BUILD_UNLOCK_SQL);
+                }
+            }
+            return null;
+        });
+    }
+
+    private boolean needsBuild(Map<String, String> built, long rows) {
+        if (built == null) {
+            return true;
+        }
+        Map<String, String> desired = spec(type, rows);
+        if (!desired.get("type").equals(built.get("type"))) {
+            return true;
+        }
+        if (type == VectorIndexType.HNSW) {
+            // HNSW는 행이 늘어도 품질이 유지되므로 파라미터가 바뀐 경우만
+            return !desired.get("m").equals(built.get("m"))
+                    || !desired.get("ef_construction").equals(built.get("ef_construction"));
+        }
+        long builtRows = Long.parseLong(built.getOrDefault("rows", "0"));
+        return rows >= builtRows * rebuildGrowth;
+    }
+
+    /**
+     * 새 이름으로 CONCURRENTLY 생성 → 기존 인덱스 삭제 → 이름 교체
+     */
+    void build(VectorIndexType indexType, long rows) {
+        Map<String, String> spec = spec(indexType, rows);
+        String comment = spec.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+        String createSql = switch (indexType) {
+            case HNSW -> "CREATE INDEX CONCURRENTLY " + BUILDING_INDEX_NAME
+                    + " ON game_embeddings USING hnsw (embedding vector_cosine_ops)"
+                    + " WITH (m = " + spec.get("m") + ", ef_construction = " + spec.get("ef_construction") + ")";
+            case IVFFLAT -> "CREATE INDEX CONCURRENTLY " + BUILDING_INDEX_NAME
+                    + " ON game_embeddings USING ivfflat (embedding vector_cosine_ops)"
+                    + " WITH (lists = " + spec.get("lists") + ")";
+            case NONE -> throw new IllegalArgumentException("인덱스 종류가 지정되지 않았습니다");
+        };
+
+        log.info("벡터 인덱스 생성 시작: {}", comment);
+        long startTime = System.currentTimeMillis();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement setMemory = connection.prepareStatement("SELECT set_config('maintenance_work_mem', ?, false)");
+                 Statement statement = connection.createStatement()) {
+                setMemory.setString(1, maintenanceWorkMem);
+                setMemory.execute();
+                try {
+                    // 이전에 실패한 CONCURRENTLY 빌드가 남긴 INVALID 인덱스 정리
+                    statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + BUILDING_INDEX_NAME);
+                    statement.execute(createSql);
+                    statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + INDEX_NAME);
+                    statement.execute("ALTER INDEX " + BUILDING_INDEX_NAME + " RENAME TO " + INDEX_NAME);
+                    statement.execute("COMMENT ON INDEX " + INDEX_NAME + " IS '" + comment + "'");
+                } finally {
+                    statement.execute("RESET maintenance_work_mem");
+                }
+            }
+            return null;
+        });
+
+        log.info("벡터 인덱스 생성 완료: {}ms, {}", System.currentTimeMillis() - startTime, comment);
+    }
+
+    private Map<String, String> spec(VectorIndexType indexType, long rows) {
+        Map<String, String> spec = new LinkedHashMap<>();
+        spec.put("type", indexType.name().toLowerCase());
+        if (indexType == VectorIndexType.HNSW) {
+            spec.put("m", String.valueOf(hnswM));
+            spec.put("ef_construction", String.valueOf(hnswEfConstruction));
+        } else {
+            spec.put("lists", String.valueOf(ivfflatLists(rows)));
+        }
+        spec.put("rows", String.valueOf(rows));
+        return spec;
+    }
+
+    // pgvector 권장값: 100만 행까지 rows / 1000, 그 이상은 sqrt(rows)
+    static int ivfflatLists(long rows) {
+        long lists = rows <= 1_000_000 ? rows / 1000 : (long) Math.sqrt(rows);
+        return (int) Math.max(lists, 10);
+    }
+
+    private Map<String, String> builtSpec() {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, INDEX_NAME);
+        if (!Boolean.TRUE.equals(exists)) {
+            return null;
+        }
+        String comment = jdbcTemplate.queryForObject(
+                "SELECT obj_description(to_regclass(?), 'pg_class')", String.class, INDEX_NAME);
+        if (comment == null || comment.isBlank()) {
+            return Map.of("type", "unknown");
+        }
+        return Arrays.stream(comment.split(","))
+                .map(pair -> pair.split("=", 2))
+                .filter(pair -> pair.length == 2)
+                .collect(Collectors.toMap(pair -> pair[0], pair -> pair[1], (a, b) -> b, LinkedHashMap::new));
+    }
+
+    private long countEmbeddings() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM game_embeddings WHERE embedding IS NOT NULL", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 임베딩 모델 차원이 바뀐 경우에만 기존 벡터를 비우고 컬럼 타입 변경
+     * (이전에는 기동할 때마다 테이블을 DROP해서 매번 임베딩을 다시 만들어야 했음)
+     */
+    private void migrateDimension() {
+        String currentType = jdbcTemplate.query("""
+                        SELECT format_type(atttypid, atttypmod)
+                        FROM pg_attribute
+                        WHERE attrelid = to_regclass('game_embeddings') AND attname = 'embedding'
+                        """,
+                rs -> rs.next() ? rs.getString(1) : null);
+        if (currentType == null || currentType.equals(EMBEDDING_TYPE)) {
+            return;
+        }
+
+        log.warn("임베딩 차원 변경 감지 ({} → {}): 기존 임베딩을 삭제합니다. 임베딩을 다시 생성하세요.",
+                currentType, EMBEDDING_TYPE);
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + INDEX_NAME);
+        jdbcTemplate.execute("TRUNCATE game_embeddings");
+        jdbcTemplate.execute("ALTER TABLE game_embeddings ALTER COLUMN embedding TYPE " + EMBEDDING_TYPE);
+    }
+}
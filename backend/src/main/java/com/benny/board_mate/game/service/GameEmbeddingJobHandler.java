@@ -0,0 +1,37 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.job.AdminJob;
+import com.benny.board_mate.job.AdminJobHandler;
+import com.benny.board_mate.job.AdminJobType;
+import com.benny.board_mate.job.JobProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 임베딩 생성 작업 - 끝까지 돌았으면 벡터 인덱스 생성/재생성까지 (페이지 트랜잭션 밖에서 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class GameEmbeddingJobHandler implements AdminJobHandler {
+
+    private final EmbeddingPipeline embeddingPipeline;
+    private final GameEmbeddingIndexManager embeddingIndexManager;
+
+    @Override
+    public AdminJobType type() {
+        return AdminJobType.GAME_EMBEDDING;
+    }
+
+    @Override
+    public Map<String, Object> run(AdminJob job, JobProgress progress) {
+        Map<String, Object> result = new LinkedHashMap<>(embeddingPipeline.run(progress));
+        if (!Boolean.TRUE.equals(result.get("cancelled"))) {
+            // 행 수가 기준을 넘었으면 벡터 인덱스 생성/재생성
+            result.put("index", embeddingIndexManager.ensureIndex());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.SimilarGame;
+import com.pgvector.PGvector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * game_embeddings 코사인 유사도 검색
+ *
+ * ORDER BY embedding <=> ? LIMIT n 형태여야 플래너가 HNSW/ivfflat 인덱스를 사용한다.
+ * hnsw.ef_search / ivfflat.probes는 set_config(..., true)로 현재 트랜잭션에만 적용해
+ * 커넥션 풀의 다른 요청에 영향을 주지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "game.embedding.search.engine", havingValue = "pgvector", matchIfMissing = true)
+public class GameEmbeddingSearch implements VectorIndex {
+
+    // 질의 벡터는 PGvector 바이너리로 한 번만 바인딩 (ORDER BY distance도 인덱스 정렬 조건과 같은 식)
+    // 임베딩이 아직 없는 행은 distance가 NULL이라 맨 뒤로 정렬되지만, limit이 크면 유사도 1.0으로 섞여 나오므로 제외
+    private static final String SEARCH_SQL = """
+            SELECT bgg_id, embedding <=> ? AS distance
+            FROM game_embeddings
+            WHERE embedding IS NOT NULL
+            ORDER BY distance
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultEfSearch;
+    private final int defaultProbes;
+
+    public GameEmbeddingSearch(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${game.embedding.search.ef-search:40}") int defaultEfSearch,
+            @Value("${game.embedding.search.probes:10}") int defaultProbes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.defaultEfSearch = defaultEfSearch;
+        this.defaultProbes = defaultProbes;
+    }
+
+    @Override
+    public List<SimilarGame> search(float[] queryEmbedding, int limit) {
+        return search(queryEmbedding, limit, VectorSearchOptions.defaults());
+    }
+
+    public List<SimilarGame> search(float[] queryEmbedding, int limit, VectorSearchOptions options) {
+        PGvector vector = new PGvector(queryEmbedding);
+
+        return transactionTemplate.execute(status -> {
+            if (options.exact()) {
+                // 벡터 인덱스는 index scan만 지원하므로 끄면 전체 스캔
+                setLocal("enable_indexscan", "off");
+            } else {
+                // ef_search가 limit보다 작으면 HNSW가 limit개를 다 못 돌려준다
+                int efSearch = Math.max(options.efSearch() != null ? options.efSearch() : defaultEfSearch, limit);
+                setLocal("hnsw.ef_search", String.valueOf(efSearch));
+                setLocal("ivfflat.probes", String.valueOf(options.probes() != null ? options.probes() : defaultProbes));
+            }
+
+            return jdbcTemplate.query(SEARCH_SQL,
+                    ps -> {
+                        PgVectors.register(ps.getConnection());
+                        ps.setObject(1, vector);
+                        ps.setInt(2, limit);
+                    },
+                    (rs, rowNum) -> new SimilarGame(rs.getLong("bgg_id"), 1 - rs.getDouble("distance")));
+        });
+    }
+
+    private void setLocal(String name, String value) {
+        jdbcTemplate.queryForObject("SELECT set_config(?, ?, true)", String.class, name, value);
+    }
+
+    // 텍스트 형식 벡터 ("[0.1,0.2,...]") - 테스트 데이터 적재와 바인딩 방식 비교 벤치마크용
+    static String toVectorLiteral(float[] array) {
+        StringBuilder sb = new StringBuilder(array.length * 12).append('[');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(array[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.GameEmbedding;
+import com.pgvector.PGvector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * game_embeddings 저장 - 벡터를 PGvector 바이너리로 바인딩
+ * (JPA save는 float[]를 real[]로 보내 서버에서 vector로 다시 변환함)
+ */
+@Component
+@RequiredArgsConstructor
+public class GameEmbeddingWriter {
+
+    private static final String UPSERT_EMBEDDING = """
+            INSERT INTO game_embeddings (bgg_id, content, embedding)
+            VALUES (?, ?, ?)
+            ON CONFLICT (bgg_id) DO UPDATE SET content = EXCLUDED.content, embedding = EXCLUDED.embedding
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(GameEmbedding embedding) {
+        upsertAll(List.of(embedding));
+    }
+
+    public void upsertAll(List<GameEmbedding> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            PgVectors.register(connection);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_EMBEDDING)) {
+                for (GameEmbedding embedding : embeddings) {
+                    statement.setLong(1, embedding.getBggId());
+                    statement.setString(2, embedding.getContent());
+                    statement.setObject(3, new PGvector(embedding.getEmbedding()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,367 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.GameCatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 게임 필터 인덱스 (GET /api/games/search)
+ *
+ * 게임마다 평가 수 많은 순으로 번호(0..n-1)를 매기고, 필터 값마다 그 값을 가진 게임 번호의 BitSet을 둔다.
+ * - 메커니즘/카테고리: board_game_tags 연결 기준, 항목별
+ * - 인원: 1..MAX_PLAYERS명, min~max 범위에 드는 인원마다 (MAX_PLAYERS를 넘는 인원은 검색 조건으로 받지 않는다)
+ * - 플레이 시간/난이도: 구간별
+ * 조건 조합은 BitSet AND/OR이고, 결과를 번호 순으로 읽으면 곧 인기순이라 따로 정렬하지 않는다.
+ * 게임 2만 개면 BitSet 하나가 2.5KB, 항목이 수백 개여도 1MB 안쪽이라 압축 비트맵까지는 쓰지 않는다.
+ *
+ * - 기동 시, 임포트 직후(GameCatalogChangedEvent) 새 스냅샷을 만들어 교체 (적재 중에도 기존 스냅샷으로 검색)
+ * - 다른 인스턴스의 임포트는 refresh-interval-ms마다 SIGNATURE_SQL(게임 수정 시각, 태그 연결 합계 등)을 비교해 다르면 다시 적재
+ */
+@Slf4j
+@Component
+public class GameFacetIndex {
+
+    public static final int MAX_PLAYERS = 10;
+    public static final List<String> DIFFICULTIES = List.of("초급", "중급", "고급", "전문가");
+    // 메커니즘/카테고리는 개수 많은 항목만 돌려준다
+    private static final int MAX_TAG_FACETS = 30;
+
+    // 게임: 개수 + 마지막 수정 시각 (추가/삭제/수정), 태그: 새 태그 id + 연결 개수와 합 (연결 추가/삭제/교체)
+    private static final String SIGNATURE_SQL = """
+            SELECT concat_ws(':',
+                (SELECT count(*) || ':' || coalesce(max(updated_at)::text, '') FROM board_games),
+                (SELECT coalesce(max(id), 0) FROM game_tags),
+                (SELECT count(*) || ':' || coalesce(sum(game_id * 31 + tag_id), 0) FROM board_game_tags))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Snapshot snapshot = Snapshot.empty();
+    private volatile String signature;
+
+    public GameFacetIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 플레이 시간 구간 (분, 이전 구간 초과 ~ max 이하)
+     */
+    public enum Playtime {
+        QUICK(30),
+        SHORT(60),
+        MEDIUM(120),
+        LONG(Integer.MAX_VALUE);
+
+        private final int max;
+
+        Playtime(int max) {
+            this.max = max;
+        }
+
+        static Playtime of(int minutes) {
+            for (Playtime playtime : values()) {
+                if (minutes <= playtime.max) {
+                    return playtime;
+                }
+            }
+            return LONG;
+        }
+    }
+
+    /**
+     * 검색 조건 (null/빈 목록이면 그 조건 없음)
+     * 메커니즘/카테고리는 모두 가진 게임(AND), 플레이 시간/난이도는 하나라도 맞는 게임(OR)
+     */
+    public record Criteria(
+            List<String> mechanics,
+            List<String> categories,
+            Integer players,
+            List<Playtime> playtimes,
+            List<String> difficulties
+    ) {}
+
+    public record FacetCount(String value, int count) {}
+
+    /**
+     * @param gameIds board_games.id (인기순, offset부터 limit개)
+     * @param facets  필터 이름 → 값별 게임 수
+     */
+    public record Result(int total, List<Long> gameIds, Map<String, List<FacetCount>> facets) {}
+
+    public Result search(Criteria criteria, int offset, int limit) {
+        Snapshot current = snapshot;
+        BitSet mechanics = current.allOf(GameTagType.MECHANIC, criteria.mechanics());
+        BitSet categories = current.allOf(GameTagType.CATEGORY, criteria.categories());
+        if (criteria.players() != null && (criteria.players() < 1 || criteria.players() > MAX_PLAYERS)) {
+            throw new IllegalArgumentException("인원은 1~" + MAX_PLAYERS + "명만 검색할 수 있습니다: " + criteria.players());
+        }
+        BitSet players = criteria.players() == null ? null : current.players()[criteria.players()];
+        BitSet playtimes = anyOf(current.playtimes(), criteria.playtimes());
+        BitSet difficulties = anyOf(current.difficulties(), criteria.difficulties());
+
+        BitSet matched = intersect(current.all(), mechanics, categories, players, playtimes, difficulties);
+
+        // AND 조건(메커니즘/카테고리)은 현재 결과 안에서 더 좁히는 개수,
+        // 한 값만 고르거나 OR인 조건은 자기 조건을 뺀 결과 기준 개수 (다른 값으로 바꿨을 때의 개수)
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        facets.put("mechanics", tagCounts(current.tags().get(GameTagType.MECHANIC), matched, MAX_TAG_FACETS));
+        facets.put("categories", tagCounts(current.tags().get(GameTagType.CATEGORY), matched, MAX_TAG_FACETS));
+
+        BitSet withoutPlayers = intersect(current.all(), mechanics, categories, playtimes, difficulties);
+        List<FacetCount> playerCounts = new ArrayList<>();
+        for (int count = 1; count <= MAX_PLAYERS; count++) {
+            playerCounts.add(new FacetCount(String.valueOf(count), andCardinality(current.players()[count], withoutPlayers)));
+        }
+        facets.put("players", playerCounts);
+
+        BitSet withoutPlaytime = intersect(current.all(), mechanics, categories, players, difficulties);
+        List<FacetCount> playtimeCounts = new ArrayList<>();
+        for (Playtime playtime : Playtime.values()) {
+            playtimeCounts.add(new FacetCount(playtime.name(), andCardinality(current.playtimes().get(playtime), withoutPlaytime)));
+        }
+        facets.put("playtime", playtimeCounts);
+
+        BitSet withoutDifficulty = intersect(current.all(), mechanics, categories, players, playtimes);
+        List<FacetCount> difficultyCounts = new ArrayList<>();
+        for (String difficulty : DIFFICULTIES) {
+            difficultyCounts.add(new FacetCount(difficulty, andCardinality(current.difficulties().get(difficulty), withoutDifficulty)));
+        }
+        facets.put("difficulty", difficultyCounts);
+
+        List<Long> page = new ArrayList<>(limit);
+        int skipped = 0;
+        for (int ordinal = matched.nextSetBit(0); ordinal >= 0 && page.size() < limit; ordinal = matched.nextSetBit(ordinal + 1)) {
+            if (skipped++ >= offset) {
+                page.add(current.gameIds()[ordinal]);
+            }
+        }
+        return new Result(matched.cardinality(), page, facets);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(GameCatalogChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${game.facets.refresh-interval-ms:60000}",
+            initialDelayString = "${game.facets.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            if (!Objects.equals(jdbcTemplate.queryForObject(SIGNATURE_SQL, String.class), signature)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("게임 필터 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 스냅샷에 전부 적재한 뒤 교체
+     */
+    public synchronized void reload() {
+        long startTime = System.currentTimeMillis();
+        String loadedSignature = jdbcTemplate.queryForObject(SIGNATURE_SQL, String.class);
+
+        List<Long> gameIds = new ArrayList<>();
+        Map<Long, Integer> ordinals = new HashMap<>();
+        BitSet all = new BitSet();
+        BitSet[] players = newPlayerSets();
+        Map<Playtime, BitSet> playtimes = newPlaytimeSets();
+        Map<String, BitSet> difficulties = newDifficultySets();
+
+        jdbcTemplate.query("""
+                SELECT id, min_players, max_players, COALESCE(playtime, max_playtime, min_playtime), difficulty
+                FROM board_games
+                ORDER BY num_ratings DESC NULLS LAST, id
+                """, (RowCallbackHandler) rs -> {
+            int ordinal = gameIds.size();
+            long id = rs.getLong(1);
+            gameIds.add(id);
+            ordinals.put(id, ordinal);
+            all.set(ordinal);
+
+            int minPlayers = Math.max(rs.getInt(2), 1);
+            int maxPlayers = rs.getInt(3);
+            for (int count = minPlayers; count <= Math.min(maxPlayers, MAX_PLAYERS); count++) {
+                players[count].set(ordinal);
+            }
+            int playtime = rs.getInt(4);
+            if (!rs.wasNull()) {
+                playtimes.get(Playtime.of(playtime)).set(ordinal);
+            }
+            BitSet difficulty = difficulties.get(rs.getString(5));
+            if (difficulty != null) {
+                difficulty.set(ordinal);
+            }
+        });
+
+        Map<GameTagType, Map<String, Facet>> tags = new EnumMap<>(GameTagType.class);
+        for (GameTagType type : GameTagType.values()) {
+            tags.put(type, new HashMap<>());
+        }
+        jdbcTemplate.query("""
+                SELECT bt.game_id, t.type, t.name
+                FROM board_game_tags bt
+                JOIN game_tags t ON t.id = bt.tag_id
+                """, (RowCallbackHandler) rs -> {
+            Integer ordinal = ordinals.get(rs.getLong(1));
+            if (ordinal == null) {
+                return;
+            }
+            String name = rs.getString(3);
+            tags.get(GameTagType.valueOf(rs.getString(2)))
+                    .computeIfAbsent(key(name), k -> new Facet(name, new BitSet()))
+                    .games().set(ordinal);
+        });
+
+        snapshot = new Snapshot(gameIds.stream().mapToLong(Long::longValue).toArray(), all, tags, players,
+                playtimes, difficulties);
+        signature = loadedSignature;
+        log.info("게임 필터 인덱스 적재 완료: 게임 {}개, 메커니즘 {}개, 카테고리 {}개, {}ms", gameIds.size(),
+                tags.get(GameTagType.MECHANIC).size(), tags.get(GameTagType.CATEGORY).size(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    public Map<String, Object> stats() {
+        Snapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("games", current.gameIds().length);
+        stats.put("mechanics", current.tags().get(GameTagType.MECHANIC).size());
+        stats.put("categories", current.tags().get(GameTagType.CATEGORY).size());
+        long bytes = 0;
+        for (Map<String, Facet> facets : current.tags().values()) {
+            for (Facet facet : facets.values()) {
+                bytes += facet.games().size() / 8;
+            }
+        }
+        stats.put("tagBitsetBytes", bytes);
+        return stats;
+    }
+
+    private static List<FacetCount> tagCounts(Map<String, Facet> facets, BitSet base, int max) {
+        List<FacetCount> counts = new ArrayList<>();
+        for (Facet facet : facets.values()) {
+            int count = andCardinality(facet.games(), base);
+            if (count > 0) {
+                counts.add(new FacetCount(facet.name(), count));
+            }
+        }
+        counts.sort(Comparator.comparingInt(FacetCount::count).reversed().thenComparing(FacetCount::value));
+        return counts.size() > max ? List.copyOf(counts.subList(0, max)) : counts;
+    }
+
+    private static <K> BitSet anyOf(Map<K, BitSet> facets, List<K> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (K value : values) {
+            BitSet games = facets.get(value);
+            if (games != null) {
+                union.or(games);
+            }
+        }
+        return union;
+    }
+
+    // null인 조건은 건너뛴다
+    private static BitSet intersect(BitSet all, BitSet... filters) {
+        BitSet result = (BitSet) all.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static int andCardinality(BitSet a, BitSet b) {
+        if (a.length() < b.length()) {
+            BitSet copy = (BitSet) a.clone();
+            copy.and(b);
+            return copy.cardinality();
+        }
+        BitSet copy = (BitSet) b.clone();
+        copy.and(a);
+        return copy.cardinality();
+    }
+
+    private static BitSet[] newPlayerSets() {
+        BitSet[] players = new BitSet[MAX_PLAYERS + 1];
+        Arrays.setAll(players, count -> new BitSet());
+        return players;
+    }
+
+    private static Map<Playtime, BitSet> newPlaytimeSets() {
+        Map<Playtime, BitSet> playtimes = new EnumMap<>(Playtime.class);
+        for (Playtime playtime : Playtime.values()) {
+            playtimes.put(playtime, new BitSet());
+        }
+        return playtimes;
+    }
+
+    private static Map<String, BitSet> newDifficultySets() {
+        Map<String, BitSet> difficulties = new HashMap<>();
+        for (String difficulty : DIFFICULTIES) {
+            difficulties.put(difficulty, new BitSet());
+        }
+        return difficulties;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Facet(String name, BitSet games) {}
+
+    private record Snapshot(
+            long[] gameIds,
+            BitSet all,
+            Map<GameTagType, Map<String, Facet>> tags,
+            BitSet[] players,
+            Map<Playtime, BitSet> playtimes,
+            Map<String, BitSet> difficulties
+    ) {
+        static Snapshot empty() {
+            Map<GameTagType, Map<String, Facet>> tags = new EnumMap<>(GameTagType.class);
+            for (GameTagType type : GameTagType.values()) {
+                tags.put(type, Map.of());
+            }
+            return new Snapshot(new long[0], new BitSet(), tags, newPlayerSets(), newPlaytimeSets(), newDifficultySets());
+        }
+
+        /**
+         * 모든 값을 가진 게임 (모르는 값이 하나라도 있으면 빈 결과)
+         */
+        BitSet allOf(GameTagType type, List<String> names) {
+            if (names == null || names.isEmpty()) {
+                return null;
+            }
+            BitSet result = null;
+            for (String name : names) {
+                Facet facet = tags.get(type).get(key(name));
+                if (facet == null) {
+                    return new BitSet();
+                }
+                if (result == null) {
+                    result = (BitSet) facet.games().clone();
+                } else {
+                    result.and(facet.games());
+                }
+            }
+            return result;
+        }
+    }
+}
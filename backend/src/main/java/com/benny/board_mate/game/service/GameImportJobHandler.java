@@ -0,0 +1,34 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.job.AdminJob;
+import com.benny.board_mate.job.AdminJobHandler;
+import com.benny.board_mate.job.AdminJobType;
+import com.benny.board_mate.job.JobProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * CSV 임포트 작업 (source = CSV 경로, rowLimit = 가져올 게임 수)
+ */
+@Component
+@RequiredArgsConstructor
+public class GameImportJobHandler implements AdminJobHandler {
+
+    private static final int DEFAULT_LIMIT = 1000;
+
+    private final GameDataImportService importService;
+
+    @Override
+    public AdminJobType type() {
+        return AdminJobType.GAME_IMPORT;
+    }
+
+    @Override
+    public Map<String, Object> run(AdminJob job, JobProgress progress) throws Exception {
+        int limit = job.getRowLimit() != null ? job.getRowLimit() : DEFAULT_LIMIT;
+        GameDataImportService.ImportResult result = importService.importFromCsv(job.getSource(), limit, progress);
+        return Map.of("imported", result.imported(), "enriched", result.enriched());
+    }
+}
@@ -0,0 +1,58 @@
+package com.benny.board_mate.game.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 메커니즘/카테고리 사전(game_tags)과 게임 연결(board_game_tags) 저장
+ *
+ * 이름에 쉼표가 들어가는 항목("Deck, Bag, and Pool Building")이 있어 TEXT 컬럼을 다시 쪼개지 않고,
+ * 임포트가 CSV에서 읽은 값을 그대로 넘긴다. 배열 파라미터 하나씩으로 배치 전체를 두 문장에 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameTagStore {
+
+    private static final String INSERT_TAGS = """
+            INSERT INTO game_tags (type, name)
+            SELECT DISTINCT type, name FROM unnest(?::text[], ?::text[]) AS t(type, name)
+            ON CONFLICT (type, name) DO NOTHING
+            """;
+
+    private static final String INSERT_LINKS = """
+            INSERT INTO board_game_tags (game_id, tag_id)
+            SELECT DISTINCT g.id, t.id
+            FROM unnest(?::bigint[], ?::text[], ?::text[]) AS x(bgg_id, type, name)
+            JOIN board_games g ON g.bgg_id = x.bgg_id
+            JOIN game_tags t ON t.type = x.type AND t.name = x.name
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게임에 태그를 연결 (이미 있는 사전 항목/연결은 그대로, 호출한 트랜잭션 안에서 실행)
+     *
+     * @return 새로 생긴 연결 수
+     */
+    public int link(List<Tag> tags) {
+        if (tags.isEmpty()) {
+            return 0;
+        }
+        Long[] bggIds = new Long[tags.size()];
+        String[] types = new String[tags.size()];
+        String[] names = new String[tags.size()];
+        for (int i = 0; i < tags.size(); i++) {
+            bggIds[i] = tags.get(i).bggId();
+            types[i] = tags.get(i).type().name();
+            names[i] = tags.get(i).name();
+        }
+        jdbcTemplate.update(INSERT_TAGS, types, names);
+        return jdbcTemplate.update(INSERT_LINKS, bggIds, types, names);
+    }
+
+    public record Tag(long bggId, GameTagType type, String name) {}
+}
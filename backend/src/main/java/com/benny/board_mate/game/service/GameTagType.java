@@ -0,0 +1,9 @@
+package com.benny.board_mate.game.service;
+
+/**
+ * game_tags.type - 게임에 붙는 분류 종류
+ */
+public enum GameTagType {
+    MECHANIC,
+    CATEGORY
+}
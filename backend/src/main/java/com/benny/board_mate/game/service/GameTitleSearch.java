@@ -0,0 +1,122 @@
+package com.benny.board_mate.game.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 자연어 질문 속 게임 이름으로 게임 검색 (pg_trgm 단어 유사도)
+ *
+ * "카탄이랑 비슷한 게임" 같은 질문에서 조사/불용어를 뗀 단어("카탄")와 인접 두 단어 묶음("ticket to" 등)을 뽑고,
+ * 각 단어가 제목의 일부와 얼마나 닮았는지(word_similarity)로 순위를 매긴다.
+ * lower(title) %> ? 조건은 idx_board_games_title_trgm / idx_board_games_title_korean_trgm GIN 인덱스를 탄다.
+ * (임계값은 pg_trgm.word_similarity_threshold, 기본 0.6)
+ */
+@Component
+@RequiredArgsConstructor
+public class GameTitleSearch {
+
+    private static final int MAX_TERMS = 8;
+
+    // 긴 조사부터 비교
+    private static final String[] PARTICLES = {
+            "이랑", "하고", "이나", "처럼", "보다", "까지", "부터", "에서", "으로",
+            "랑", "과", "와", "은", "는", "이", "가", "을", "를", "의", "에", "도", "로", "나"
+    };
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "게임", "보드게임", "보드", "추천", "추천해", "추천해줘", "추천해주세요", "비슷한", "비슷하게", "같은", "같이",
+            "해줘", "알려줘", "있어", "있나요", "좋은", "좋아", "재밌는", "재미있는", "하는", "할", "수", "있는",
+            "친구", "가족", "연인", "사람", "인원", "뭐가", "어떤", "그런", "말고", "정도", "요즘", "쉬운", "어려운",
+            "game", "games", "board", "boardgame", "like", "similar", "recommend", "the", "a", "an", "to", "and",
+            "or", "with", "for", "of", "me", "some"
+    );
+
+    // "2인용", "4명", "3" 같은 인원/숫자 표현은 제목 검색어로 쓰지 않는다
+    private static final Pattern PLAYER_COUNT = Pattern.compile("\\d+(인용|인|명|명이서|분)?");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 질문에 이름이 들어 있는 게임의 bggId (유사도 높은 순, 같으면 평가 수 많은 순)
+     */
+    public List<Long> search(String message, int limit) {
+        List<String> terms = extractTerms(message);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder where = new StringBuilder();
+        StringBuilder score = new StringBuilder();
+        List<Object> termArgs = new ArrayList<>();
+        for (String term : terms) {
+            where.append(where.isEmpty() ? "" : " OR ")
+                    .append("lower(title) %> ? OR lower(title_korean) %> ?");
+            score.append(score.isEmpty() ? "" : ", ")
+                    .append("word_similarity(?, lower(title)), word_similarity(?, lower(title_korean))");
+            termArgs.add(term);
+            termArgs.add(term);
+        }
+        // WHERE와 ORDER BY가 같은 순서로 검색어를 쓴다
+        List<Object> args = new ArrayList<>(termArgs);
+        args.addAll(termArgs);
+        args.add(limit);
+
+        String sql = "SELECT bgg_id FROM board_games"
+                + " WHERE " + where
+                + " ORDER BY GREATEST(" + score + ") DESC, num_ratings DESC NULLS LAST"
+                + " LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    /**
+     * 검색어 후보: 조사/불용어를 뗀 단어 + 인접 두 단어 묶음 (여러 단어 제목용)
+     */
+    static List<String> extractTerms(String message) {
+        String[] words = message.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}\\s]", " ")
+                .trim()
+                .split("\\s+");
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (int i = 0; i < words.length; i++) {
+            String word = stripParticle(words[i]);
+            if (!isTerm(word)) {
+                continue;
+            }
+            terms.add(word);
+            if (i + 1 < words.length) {
+                String next = stripParticle(words[i + 1]);
+                if (isTerm(next)) {
+                    terms.add(word + " " + next);
+                }
+            }
+        }
+        return terms.stream().limit(MAX_TERMS).toList();
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            int stem = word.length() - particle.length();
+            if (stem >= 2 && word.endsWith(particle) && isHangul(word.charAt(stem - 1))) {
+                return word.substring(0, stem);
+            }
+        }
+        return word;
+    }
+
+    private static boolean isTerm(String word) {
+        return word.length() >= 2 && !STOPWORDS.contains(word) && !PLAYER_COUNT.matcher(word).matches();
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,115 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.GameSuggestion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게임 제목 자동완성 (방 만들기 게임 선택 등)
+ *
+ * 검색 키는 db/game-search-indexes.sql의 생성 컬럼을 쓴다.
+ * - title_jamo: '한글 제목|원제'를 자모로 분해 (공백 제거) - 입력 중인 음절("캍" → 카탄)과 영문 부분 일치
+ * - title_choseong: 초성만 - "ㅋㅌ" → 카탄
+ * 두 컬럼 모두 trigram GIN 인덱스라 LIKE '%x%'가 전체 스캔 없이 돈다. 세 글자 이상이면 원제 오타도 word_similarity로 찾는다.
+ *
+ * 순위: 앞부분 일치 > 제목 유사도 > 평가 수
+ */
+@Component
+@RequiredArgsConstructor
+public class GameTitleTypeahead {
+
+    public static final int MAX_QUERY_LENGTH = 50;
+    private static final int FUZZY_MIN_LENGTH = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<GameSuggestion> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String pattern = escapeLike(normalized);
+        String choseong = isChoseong(normalized) ? pattern.replace(" ", "") : null;
+        boolean fuzzy = normalized.length() >= FUZZY_MIN_LENGTH;
+
+        StringBuilder where = new StringBuilder("title_jamo LIKE '%' || hangul_jamo(?) || '%'");
+        StringBuilder prefix = new StringBuilder(
+                "title_jamo LIKE hangul_jamo(?) || '%' OR title_jamo LIKE '%|' || hangul_jamo(?) || '%'");
+        List<Object> whereArgs = new ArrayList<>(List.of(pattern));
+        List<Object> prefixArgs = new ArrayList<>(List.of(pattern, pattern));
+        if (choseong != null) {
+            where.append(" OR title_choseong LIKE '%' || ? || '%'");
+            whereArgs.add(choseong);
+            prefix.append(" OR title_choseong LIKE ? || '%' OR title_choseong LIKE '%|' || ? || '%'");
+            prefixArgs.add(choseong);
+            prefixArgs.add(choseong);
+        }
+        if (fuzzy) {
+            where.append(" OR lower(title) %> ?");
+            whereArgs.add(normalized);
+        }
+
+        String sql = "SELECT id, bgg_id, title, title_korean, min_players, max_players, playtime, difficulty, thumbnail_url"
+                + " FROM board_games"
+                + " WHERE " + where
+                + " ORDER BY (" + prefix + ") DESC,"
+                + " GREATEST(word_similarity(?, lower(title)), word_similarity(?, coalesce(lower(title_korean), ''))) DESC,"
+                + " num_ratings DESC NULLS LAST, id"
+                + " LIMIT ?";
+        List<Object> args = new ArrayList<>(whereArgs);
+        args.addAll(prefixArgs);
+        args.add(normalized);
+        args.add(normalized);
+        args.add(limit);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> GameSuggestion.builder()
+                .id(rs.getLong("id"))
+                .bggId(rs.getObject("bgg_id", Long.class))
+                .title(rs.getString("title"))
+                .titleKorean(rs.getString("title_korean"))
+                .minPlayers(rs.getInt("min_players"))
+                .maxPlayers(rs.getInt("max_players"))
+                .playtime(rs.getObject("playtime", Integer.class))
+                .difficulty(rs.getString("difficulty"))
+                .thumbnailUrl(rs.getString("thumbnail_url"))
+                .build(), args.toArray());
+    }
+
+    /**
+     * 앞뒤 공백 제거, 연속 공백 하나로, 소문자, 최대 MAX_QUERY_LENGTH자 (캐시 키도 이 값 기준)
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String normalized = query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_QUERY_LENGTH ? normalized.substring(0, MAX_QUERY_LENGTH) : normalized;
+    }
+
+    /**
+     * 공백을 빼고 모두 한글 자음(ㄱ~ㅎ)이면 초성 검색
+     */
+    static boolean isChoseong(String query) {
+        boolean any = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            any = true;
+        }
+        return any;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
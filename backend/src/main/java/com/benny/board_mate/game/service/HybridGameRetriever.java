@@ -0,0 +1,109 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.SimilarGame;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 소믈리에 컨텍스트용 게임 검색 (하이브리드)
+ *
+ * - 제목 검색(GameTitleSearch): 질문에 게임 이름이 나오면 정확히 그 게임을 찾는다 ("카탄이랑 비슷한 게임")
+ * - 벡터 검색(VectorIndex): 취향/상황 설명처럼 이름이 없는 질문을 의미로 찾는다
+ *
+ * 두 검색을 동시에 실행하고 Reciprocal Rank Fusion(score = Σ 1 / (k + rank))으로 합친다.
+ * 점수 척도가 다른 두 결과를 순위만으로 합치므로 별도 정규화가 필요 없다.
+ * 한쪽이 실패하면 나머지 결과만 사용한다.
+ */
+@Slf4j
+@Service
+public class HybridGameRetriever {
+
+    private final GameTitleSearch titleSearch;
+    private final VectorIndex vectorIndex;
+    private final int candidates;
+    private final int contextSize;
+    private final int rrfK;
+
+    public HybridGameRetriever(
+            GameTitleSearch titleSearch,
+            VectorIndex vectorIndex,
+            @Value("${game.retrieval.candidates:20}") int candidates,
+            @Value("${game.retrieval.context-size:4}") int contextSize,
+            @Value("${game.retrieval.rrf-k:60}") int rrfK
+    ) {
+        this.titleSearch = titleSearch;
+        this.vectorIndex = vectorIndex;
+        this.candidates = candidates;
+        this.contextSize = contextSize;
+        this.rrfK = rrfK;
+    }
+
+    /**
+     * 프롬프트 컨텍스트에 넣을 게임 (context-size개)
+     */
+    public List<Long> retrieve(String message, float[] queryEmbedding) {
+        return retrieve(message, queryEmbedding, contextSize);
+    }
+
+    /**
+     * 질문과 질의 임베딩(null이면 제목 검색만)으로 게임 bggId를 관련도 순으로 limit개
+     */
+    public List<Long> retrieve(String message, float[] queryEmbedding, int limit) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<List<Long>> byTitle = CompletableFuture
+                    .supplyAsync(() -> titleSearch.search(message, candidates), executor)
+                    .exceptionally(e -> {
+                        log.warn("제목 검색 실패 (벡터 검색만 사용): {}", e.getMessage());
+                        return List.of();
+                    });
+            CompletableFuture<List<Long>> byVector = CompletableFuture
+                    .supplyAsync(() -> searchVector(queryEmbedding), executor)
+                    .exceptionally(e -> {
+                        log.warn("벡터 검색 실패 (제목 검색만 사용): {}", e.getMessage());
+                        return List.of();
+                    });
+
+            return fuse(List.of(byTitle.join(), byVector.join()), rrfK, limit);
+        }
+    }
+
+    private List<Long> searchVector(float[] queryEmbedding) {
+        if (queryEmbedding == null) {
+            return List.of();
+        }
+        return vectorIndex.search(queryEmbedding, candidates).stream()
+                .map(SimilarGame::bggId)
+                .toList();
+    }
+
+    /**
+     * Reciprocal Rank Fusion - 여러 순위 목록을 합쳐 상위 limit개 (동점이면 앞 목록의 순위가 높은 쪽)
+     */
+    static List<Long> fuse(List<List<Long>> rankings, int k, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Integer> firstSeen = new HashMap<>();
+        int order = 0;
+        for (List<Long> ranking : rankings) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                Long bggId = ranking.get(rank);
+                scores.merge(bggId, 1.0 / (k + rank + 1), Double::sum);
+                firstSeen.putIfAbsent(bggId, order++);
+            }
+        }
+
+        return scores.keySet().stream()
+                .sorted(Comparator.<Long>comparingDouble(scores::get).reversed()
+                        .thenComparing(firstSeen::get))
+                .limit(limit)
+                .toList();
+    }
+}
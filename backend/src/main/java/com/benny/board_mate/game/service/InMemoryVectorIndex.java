@@ -0,0 +1,103 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.SimilarGame;
+import com.pgvector.PGvector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 인메모리 벡터 검색 (game.embedding.search.engine=in-memory)
+ *
+ * 게임 2만 개 × 768차원이면 float 기준 약 60MB라 전부 힙에 올려도 부담이 없고,
+ * 매 질문마다 Postgres를 왕복하는 대신 JDK Vector API로 전체 스캔해도 1ms 안팎이다. (결과는 항상 정확)
+ *
+ * - 기동 시 game_embeddings 전체 적재
+ * - 이 인스턴스에서 생성한 임베딩은 add()로 바로 반영
+ * - 다른 인스턴스에서 생성한 임베딩은 refresh-interval-ms마다 시그니처(행 수 + 벡터 해시 합)를 비교해 다르면 다시 적재
+ *   (행 수만 비교하면 같은 수의 행이 재생성/교체된 경우를 놓친다. 이 인스턴스의 add()도 다음 점검 때 한 번 다시 적재된다)
+ *
+ * JVM 옵션 --add-modules jdk.incubator.vector 필요 (build.gradle, Dockerfile)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "game.embedding.search.engine", havingValue = "in-memory")
+public class InMemoryVectorIndex implements VectorIndex {
+
+    // "행 수:해시 합" - 어느 게임의 벡터든 바뀌면 해시 합이 달라진다 (20k × 768차원 기준 수백 ms, 적재보다 훨씬 가볍다)
+    private static final String SIGNATURE_SQL = """
+            SELECT count(*) || ':' || coalesce(sum(hashtext(bgg_id || ':' || embedding::text)), 0)
+            FROM game_embeddings
+            WHERE embedding IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    // 마지막으로 적재한 시점의 SIGNATURE_SQL 결과
+    private volatile String loadedSignature;
+    private volatile VectorSlab slab = new VectorSlab(EmbeddingService.EMBEDDING_DIMENSION);
+
+    public InMemoryVectorIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SimilarGame> search(float[] queryEmbedding, int limit) {
+        return slab.search(queryEmbedding, limit);
+    }
+
+    @Override
+    public void add(Long bggId, float[] embedding) {
+        slab.add(bggId, embedding);
+    }
+
+    public int size() {
+        return slab.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${game.embedding.in-memory.refresh-interval-ms:60000}",
+            initialDelayString = "${game.embedding.in-memory.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            String signature = jdbcTemplate.queryForObject(SIGNATURE_SQL, String.class);
+            if (!Objects.equals(signature, loadedSignature)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("인메모리 벡터 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 slab에 전부 적재한 뒤 교체 (적재 중에도 기존 slab으로 검색)
+     */
+    public synchronized void reload() {
+        long startTime = System.currentTimeMillis();
+        // 적재 전에 읽어 둔다: 적재 중에 바뀐 행이 있으면 다음 점검에서 시그니처가 달라 다시 적재된다
+        String signature = jdbcTemplate.queryForObject(SIGNATURE_SQL, String.class);
+        long count = signature == null ? 0 : Long.parseLong(signature.substring(0, signature.indexOf(':')));
+        VectorSlab loaded = new VectorSlab(EmbeddingService.EMBEDDING_DIMENSION, (int) Math.max(count, 1));
+
+        jdbcTemplate.query(connection -> {
+            // vector 타입을 등록해야 getObject가 PGvector를 돌려준다
+            PgVectors.register(connection);
+            return connection.prepareStatement("SELECT bgg_id, embedding FROM game_embeddings WHERE embedding IS NOT NULL");
+        }, (RowCallbackHandler) rs -> loaded.add(rs.getLong(1), ((PGvector) rs.getObject(2)).toArray()));
+
+        slab = loaded;
+        loadedSignature = signature;
+        log.info("인메모리 벡터 인덱스 적재 완료: {}개, {}ms", loaded.size(), System.currentTimeMillis() - startTime);
+    }
+}
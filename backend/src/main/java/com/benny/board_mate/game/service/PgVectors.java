@@ -0,0 +1,23 @@
+package com.benny.board_mate.game.service;
+
+import com.pgvector.PGvector;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * pgvector JDBC 바인딩
+ *
+ * PGvector는 PGBinaryObject라서 커넥션에 vector 타입을 등록하면 드라이버가 파라미터/결과를
+ * 텍스트("[0.1,...]", 768차원이면 약 10KB) 대신 바이너리(8 + 4×768 바이트)로 주고받는다.
+ * 등록은 물리 커넥션 단위이고 두 번째부터는 캐시 조회뿐이라 사용할 때마다 호출해도 된다.
+ */
+final class PgVectors {
+
+    private PgVectors() {
+    }
+
+    static void register(Connection connection) throws SQLException {
+        PGvector.addVectorType(connection);
+    }
+}
@@ -0,0 +1,170 @@
+package com.benny.board_mate.game.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 검색 질의 임베딩 캐시 (2단계)
+ *
+ * - L1: 인스턴스 메모리 LRU (max-entries개)
+ * - L2: Redis embedding:query:{model}:{sha256} → float32 little-endian 바이트 (768차원 = 3KB), TTL
+ *
+ * 키는 정규화한 질의 텍스트(NFC, 소문자, 공백 정리)의 해시라 "2인용 게임  추천해줘"와 "2인용 게임 추천해줘"가 같은 키가 된다.
+ * 임베딩 API가 실패해 null이 오면 캐시하지 않는다. Redis 장애 시에는 L1과 API 호출로 동작한다.
+ */
+@Slf4j
+@Component
+public class QueryEmbeddingCache {
+
+    private static final String KEY_PREFIX = "embedding:query:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String model;
+    private final Duration ttl;
+    private final Map<String, float[]> local;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public QueryEmbeddingCache(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${game.embedding.api.model:text-embedding-004}") String model,
+            @Value("${game.embedding.query-cache.max-entries:10000}") int maxEntries,
+            @Value("${game.embedding.query-cache.ttl-hours:168}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.model = model;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 임베딩을 반환하고, 없으면 loader로 만들어 두 단계 모두에 저장
+     */
+    public float[] get(String query, Function<String, float[]> loader) {
+        String key = KEY_PREFIX + model + ":" + hash(normalize(query));
+
+        float[] cached = getLocal(key);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+
+        cached = getRemote(key);
+        if (cached != null) {
+            redisHits.increment();
+            putLocal(key, cached);
+            return cached;
+        }
+
+        misses.increment();
+        float[] embedding = loader.apply(query);
+        if (embedding != null) {
+            putLocal(key, embedding);
+            putRemote(key, embedding);
+        }
+        return embedding;
+    }
+
+    public Map<String, Object> stats() {
+        long l1 = localHits.sum();
+        long l2 = redisHits.sum();
+        long miss = misses.sum();
+        long total = l1 + l2 + miss;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", total);
+        stats.put("localHits", l1);
+        stats.put("redisHits", l2);
+        stats.put("misses", miss);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) (l1 + l2) / total);
+        stats.put("localSize", localSize());
+        return stats;
+    }
+
+    static String normalize(String query) {
+        return Normalizer.normalize(query, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized float[] getLocal(String key) {
+        return local.get(key);
+    }
+
+    private synchronized void putLocal(String key, float[] embedding) {
+        local.put(key, embedding);
+    }
+
+    private synchronized int localSize() {
+        return local.size();
+    }
+
+    private float[] getRemote(String key) {
+        try {
+            byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+            return bytes == null ? null : decode(bytes);
+        } catch (Exception e) {
+            log.debug("질의 임베딩 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String key, float[] embedding) {
+        try {
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), encode(embedding),
+                            Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+        } catch (Exception e) {
+            log.debug("질의 임베딩 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    static byte[] encode(float[] embedding) {
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding);
+        return buffer.array();
+    }
+
+    static float[] decode(byte[] bytes) {
+        float[] embedding = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(embedding);
+        return embedding;
+    }
+
+    private static String hash(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.SimilarGame;
+
+import java.util.List;
+
+/**
+ * 게임 임베딩 유사도 검색 엔진 (game.embedding.search.engine)
+ *
+ * - pgvector: 매 검색마다 Postgres에 질의 (GameEmbeddingSearch)
+ * - in-memory: 임베딩 전체를 메모리에 올려 SIMD 전체 스캔 (InMemoryVectorIndex)
+ */
+public interface VectorIndex {
+
+    List<SimilarGame> search(float[] queryEmbedding, int limit);
+
+    /**
+     * 새로 저장된 임베딩 반영 (DB에서 바로 읽는 엔진은 할 일 없음)
+     */
+    default void add(Long bggId, float[] embedding) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.benny.board_mate.game.service;
+
+/**
+ * game_embeddings 벡터 인덱스 종류 (game.embedding.index.type)
+ */
+public enum VectorIndexType {
+    NONE,     // 인덱스 없음, 항상 전체 스캔 (정확한 결과)
+    HNSW,     // 그래프 인덱스, 빌드는 느리지만 행이 늘어도 재생성 불필요 (검색 시 hnsw.ef_search)
+    IVFFLAT   // 클러스터 인덱스, 빌드가 빠르지만 행 수가 크게 늘면 재생성 필요 (검색 시 ivfflat.probes)
+}
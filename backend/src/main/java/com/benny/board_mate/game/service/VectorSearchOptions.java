@@ -0,0 +1,27 @@
+package com.benny.board_mate.game.service;
+
+/**
+ * 쿼리별 벡터 검색 옵션
+ *
+ * @param efSearch HNSW 탐색 후보 수 (null이면 game.embedding.search.ef-search), 클수록 recall↑ 지연↑
+ * @param probes   ivfflat 탐색 클러스터 수 (null이면 game.embedding.search.probes), 클수록 recall↑ 지연↑
+ * @param exact    true면 인덱스를 쓰지 않고 전체 스캔
+ */
+public record VectorSearchOptions(Integer efSearch, Integer probes, boolean exact) {
+
+    public static VectorSearchOptions defaults() {
+        return new VectorSearchOptions(null, null, false);
+    }
+
+    public static VectorSearchOptions exactScan() {
+        return new VectorSearchOptions(null, null, true);
+    }
+
+    public static VectorSearchOptions hnsw(int efSearch) {
+        return new VectorSearchOptions(efSearch, null, false);
+    }
+
+    public static VectorSearchOptions ivfflat(int probes) {
+        return new VectorSearchOptions(null, probes, false);
+    }
+}
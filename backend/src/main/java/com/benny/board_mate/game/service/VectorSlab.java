@@ -0,0 +1,205 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.SimilarGame;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정규화된 벡터를 하나의 float[]에 이어 붙여 보관하고 SIMD 내적으로 top-k 검색
+ *
+ * - 저장 시 L2 정규화하므로 코사인 유사도 = 내적
+ * - 추가는 여유 용량(뒤쪽)에 쓴 뒤 새 스냅샷을 volatile로 공개 → 검색은 락 없이 진행
+ * - 같은 id를 다시 넣으면 이전 슬롯은 삭제 표시(DELETED) 후 뒤에 추가
+ */
+final class VectorSlab {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final long DELETED = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int dimension;
+    private final Map<Long, Integer> slots = new HashMap<>();  // this로 보호
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(float[] data, long[] ids, int count) {
+    }
+
+    VectorSlab(int dimension) {
+        this(dimension, INITIAL_CAPACITY);
+    }
+
+    VectorSlab(int dimension, int initialCapacity) {
+        this.dimension = dimension;
+        int capacity = Math.max(initialCapacity, 1);
+        this.snapshot = new Snapshot(new float[capacity * dimension], new long[capacity], 0);
+    }
+
+    synchronized void add(long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원 불일치: " + vector.length + " != " + dimension);
+        }
+
+        Snapshot current = snapshot;
+        float[] data = current.data();
+        long[] ids = current.ids();
+        int count = current.count();
+        if (count == ids.length) {
+            int capacity = ids.length * 2;
+            data = Arrays.copyOf(data, capacity * dimension);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+
+        normalizeInto(vector, data, count * dimension);
+        ids[count] = id;
+        Integer previous = slots.put(id, count);
+        if (previous != null) {
+            ids[previous] = DELETED;
+        }
+        snapshot = new Snapshot(data, ids, count + 1);
+    }
+
+    synchronized int size() {
+        return slots.size();
+    }
+
+    List<SimilarGame> search(float[] query, int limit) {
+        Snapshot current = snapshot;
+        float[] normalized = new float[dimension];
+        normalizeInto(query, normalized, 0);
+
+        TopK top = new TopK(limit);
+        float[] data = current.data();
+        long[] ids = current.ids();
+        for (int row = 0; row < current.count(); row++) {
+            if (ids[row] != DELETED) {
+                top.offer(dot(normalized, data, row * dimension, dimension), row);
+            }
+        }
+        return top.toResults(ids);
+    }
+
+    static float dot(float[] query, float[] data, int offset, int dimension) {
+        // 누산기 두 개로 FMA 의존 체인을 나눈다
+        FloatVector acc0 = FloatVector.zero(SPECIES);
+        FloatVector acc1 = FloatVector.zero(SPECIES);
+        int step = SPECIES.length();
+        int i = 0;
+        for (int upper = dimension - 2 * step; i <= upper; i += 2 * step) {
+            acc0 = FloatVector.fromArray(SPECIES, query, i)
+                    .fma(FloatVector.fromArray(SPECIES, data, offset + i), acc0);
+            acc1 = FloatVector.fromArray(SPECIES, query, i + step)
+                    .fma(FloatVector.fromArray(SPECIES, data, offset + i + step), acc1);
+        }
+        for (int upper = SPECIES.loopBound(dimension); i < upper; i += step) {
+            acc0 = FloatVector.fromArray(SPECIES, query, i)
+                    .fma(FloatVector.fromArray(SPECIES, data, offset + i), acc0);
+        }
+        float sum = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < dimension; i++) {
+            sum += query[i] * data[offset + i];
+        }
+        return sum;
+    }
+
+    // 벤치마크 비교용 스칼라 구현
+    static float dotScalar(float[] query, float[] data, int offset, int dimension) {
+        float sum = 0;
+        for (int i = 0; i < dimension; i++) {
+            sum += query[i] * data[offset + i];
+        }
+        return sum;
+    }
+
+    private void normalizeInto(float[] vector, float[] target, int offset) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        float scale = norm == 0 ? 0 : (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+            target[offset + i] = vector[i] * scale;
+        }
+    }
+
+    /**
+     * 크기 k의 최소 힙: 루트가 현재 k번째 점수, 그보다 큰 점수만 교체
+     */
+    private static final class TopK {
+
+        private final float[] scores;
+        private final int[] rows;
+        private int size;
+
+        TopK(int k) {
+            this.scores = new float[k];
+            this.rows = new int[k];
+        }
+
+        void offer(float score, int row) {
+            if (size < scores.length) {
+                scores[size] = score;
+                rows[size] = row;
+                siftUp(size++);
+            } else if (size > 0 && score > scores[0]) {
+                scores[0] = score;
+                rows[0] = row;
+                siftDown(0);
+            }
+        }
+
+        List<SimilarGame> toResults(long[] ids) {
+            List<SimilarGame> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                results.add(new SimilarGame(ids[rows[i]], scores[i]));
+            }
+            results.sort((a, b) -> Double.compare(b.similarity(), a.similarity()));
+            return results;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (scores[parent] <= scores[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && scores[right] < scores[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+        }
+    }
+}
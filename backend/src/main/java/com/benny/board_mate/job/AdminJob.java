@@ -0,0 +1,74 @@
+package com.benny.board_mate.job;
+
+import com.benny.board_mate.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 백그라운드 작업 (게임 임포트, 임베딩 생성)
+ * 상태/진행률을 DB에 두어 재시작 후에도 조회/재개할 수 있다. 진행 중 갱신은 AdminJobRepository의 벌크 UPDATE로 한다.
+ */
+@Entity
+@Table(name = "admin_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AdminJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private AdminJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AdminJobStatus status;
+
+    // 작업 입력 (임포트: CSV 경로, 가져올 게임 수)
+    @Column(length = 500)
+    private String source;
+
+    private Integer rowLimit;
+
+    private long totalRows;
+
+    private long processedRows;
+
+    private long failedRows;
+
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT false")
+    private boolean cancelRequested = false;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    // 완료 결과 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String result;
+
+    private LocalDateTime startedAt;
+
+    // 실행권을 가져간 인스턴스 - heartbeat/종료 처리는 이 값이 자기 것일 때만
+    @Column(length = 100)
+    private String owner;
+
+    // 실행 중인 인스턴스가 주기적으로 갱신 - 오래 멈춰 있으면 죽은 것으로 보고 다시 대기열에 넣는다
+    private LocalDateTime heartbeatAt;
+
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public AdminJob(AdminJobType type, String source, Integer rowLimit) {
+        this.type = type;
+        this.source = source;
+        this.rowLimit = rowLimit;
+        this.status = AdminJobStatus.QUEUED;
+    }
+}
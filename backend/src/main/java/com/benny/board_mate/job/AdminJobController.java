@@ -0,0 +1,37 @@
+package com.benny.board_mate.job;
+
+import com.benny.board_mate.common.response.ApiResponse;
+import com.benny.board_mate.job.dto.AdminJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Admin Job", description = "관리자 - 백그라운드 작업 진행률 조회, 취소")
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+public class AdminJobController {
+
+    private final AdminJobService jobService;
+
+    @Operation(summary = "최근 작업 목록", description = "최근 20개 작업")
+    @GetMapping
+    public ApiResponse<List<AdminJobResponse>> getRecentJobs() {
+        return ApiResponse.ok(jobService.getRecentJobs());
+    }
+
+    @Operation(summary = "작업 조회", description = "상태, 처리 행 수, 초당 처리량, 남은 예상 시간, 오류")
+    @GetMapping("/{id}")
+    public ApiResponse<AdminJobResponse> getJob(@PathVariable Long id) {
+        return ApiResponse.ok(jobService.getJob(id));
+    }
+
+    @Operation(summary = "작업 취소", description = "대기 중이면 바로, 실행 중이면 현재 청크를 커밋한 뒤 멈춘다")
+    @PostMapping("/{id}/cancel")
+    public ApiResponse<AdminJobResponse> cancel(@PathVariable Long id) {
+        return ApiResponse.ok(jobService.cancel(id));
+    }
+}
@@ -0,0 +1,17 @@
+package com.benny.board_mate.job;
+
+import java.util.Map;
+
+/**
+ * 작업 종류별 실행기. 청크 단위로 커밋하고, 청크마다 progress에 보고하며 취소 요청을 확인해야 한다.
+ * 같은 작업이 재시작 후 처음부터 다시 실행될 수 있으므로 이미 처리한 행은 건너뛰도록(멱등) 구현한다.
+ */
+public interface AdminJobHandler {
+
+    AdminJobType type();
+
+    /**
+     * @return 완료 결과 (작업 조회 응답의 result)
+     */
+    Map<String, Object> run(AdminJob job, JobProgress progress) throws Exception;
+}
@@ -0,0 +1,89 @@
+package com.benny.board_mate.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 실행 중 상태 변경은 모두 조건부 벌크 UPDATE - 여러 인스턴스가 같은 작업을 동시에 가져가지 않도록
+ * 영향받은 행 수(0/1)로 성공 여부를 판단한다.
+ */
+public interface AdminJobRepository extends JpaRepository<AdminJob, Long> {
+
+    List<AdminJob> findByStatusOrderByIdAsc(AdminJobStatus status);
+
+    List<AdminJob> findTop20ByOrderByIdDesc();
+
+    @Query("SELECT j.cancelRequested FROM AdminJob j WHERE j.id = :id")
+    boolean isCancelRequested(@Param("id") Long id);
+
+    // QUEUED → RUNNING (이 인스턴스가 실행권을 가져감)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :running, j.owner = :owner, j.startedAt = :now, j.heartbeatAt = :now, " +
+           "j.updatedAt = :now WHERE j.id = :id AND j.status = :queued")
+    int claim(@Param("id") Long id, @Param("queued") AdminJobStatus queued, @Param("running") AdminJobStatus running,
+              @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // 이 인스턴스가 실행 중인 작업의 heartbeat 갱신 (다른 인스턴스가 이어받은 작업은 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.heartbeatAt = :now WHERE j.id IN :ids AND j.status = :running AND j.owner = :owner")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("running") AdminJobStatus running,
+                  @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.totalRows = :totalRows, j.processedRows = 0, j.failedRows = 0, " +
+           "j.startedAt = :now, j.heartbeatAt = :now, j.updatedAt = :now WHERE j.id = :id")
+    int start(@Param("id") Long id, @Param("totalRows") long totalRows, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.processedRows = j.processedRows + :processed, " +
+           "j.failedRows = j.failedRows + :failed, j.heartbeatAt = :now, j.updatedAt = :now WHERE j.id = :id")
+    int advance(@Param("id") Long id, @Param("processed") long processed, @Param("failed") long failed,
+                @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :status, j.error = :error, j.result = :result, " +
+           "j.finishedAt = :now, j.updatedAt = :now WHERE j.id = :id AND j.status = :running AND j.owner = :owner")
+    int finish(@Param("id") Long id, @Param("running") AdminJobStatus running, @Param("owner") String owner,
+               @Param("status") AdminJobStatus status, @Param("error") String error, @Param("result") String result,
+               @Param("now") LocalDateTime now);
+
+    // 대기 중인 작업은 바로 취소, 실행 중인 작업은 다음 청크 경계에서 멈추도록 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :cancelled, j.cancelRequested = true, j.finishedAt = :now, " +
+           "j.updatedAt = :now WHERE j.id = :id AND j.status = :queued")
+    int cancelQueued(@Param("id") Long id, @Param("queued") AdminJobStatus queued,
+                     @Param("cancelled") AdminJobStatus cancelled, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.cancelRequested = true, j.updatedAt = :now WHERE j.id = :id AND j.status = :running")
+    int requestCancel(@Param("id") Long id, @Param("running") AdminJobStatus running, @Param("now") LocalDateTime now);
+
+    // heartbeat가 끊긴 RUNNING 작업(인스턴스 종료/장애) 또는 이 인스턴스가 종료하며 내려놓는 작업을 다시 대기열로
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :queued, j.owner = null, j.updatedAt = :now " +
+           "WHERE j.status = :running AND j.heartbeatAt < :staleBefore")
+    int requeueStale(@Param("running") AdminJobStatus running, @Param("queued") AdminJobStatus queued,
+                     @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdminJob j SET j.status = :queued, j.owner = null, j.updatedAt = :now " +
+           "WHERE j.id IN :ids AND j.status = :running AND j.owner = :owner")
+    int requeue(@Param("ids") Collection<Long> ids, @Param("running") AdminJobStatus running,
+                @Param("owner") String owner, @Param("queued") AdminJobStatus queued, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,251 @@
+package com.benny.board_mate.job;
+
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.job.dto.AdminJobResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자 작업 실행 엔진
+ *
+ * - submit은 작업 행만 저장하고 바로 id를 돌려준다 (HTTP 스레드는 기다리지 않음)
+ * - 실행은 worker-threads개짜리 전용 풀에서. 대기열(queue-capacity)이 가득 차면 QUEUED로 남겨 두고 주기 점검 때 다시 넣는다
+ * - 종류별 대기/진행 중 작업은 하나: admin_jobs의 부분 유니크 인덱스가 동시 등록을 막는다 (db/admin-jobs.sql)
+ * - 실행 전 QUEUED → RUNNING 조건부 UPDATE로 실행권(owner)을 가져가므로 여러 인스턴스가 같은 작업을 중복 실행하지 않는다
+ * - 실행 중에는 heartbeat-interval-ms마다 owner가 자기인 작업의 heartbeat를 갱신한다 (청크가 길어도 살아 있음)
+ * - 재시작/장애: 종료 시 실행 중이던 작업을 QUEUED로 되돌리고, heartbeat가 stale-after-seconds 이상 끊긴 작업도
+ *   다시 대기열에 넣는다. 핸들러는 멱등이라 처음부터 다시 실행해도 이미 처리한 행은 건너뛴다
+ */
+@Slf4j
+@Service
+public class AdminJobService {
+
+    private final AdminJobRepository jobRepository;
+    private final Map<AdminJobType, AdminJobHandler> handlers = new EnumMap<>(AdminJobType.class);
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final long staleAfterSeconds;
+    private final String owner = UUID.randomUUID().toString();
+    // 이 인스턴스의 풀에 들어가 있는(대기/실행 중) 작업 - 주기 점검 때 중복 제출 방지
+    private final Set<Long> localJobs = ConcurrentHashMap.newKeySet();
+
+    public AdminJobService(
+            AdminJobRepository jobRepository,
+            List<AdminJobHandler> handlers,
+            ObjectMapper objectMapper,
+            @Value("${admin.jobs.worker-threads:1}") int workerThreads,
+            @Value("${admin.jobs.queue-capacity:10}") int queueCapacity,
+            @Value("${admin.jobs.stale-after-seconds:300}") long staleAfterSeconds
+    ) {
+        this.jobRepository = jobRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.objectMapper = objectMapper;
+        this.staleAfterSeconds = staleAfterSeconds;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int threads = Math.max(workerThreads, 1);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "admin-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 작업 등록 (같은 종류의 작업이 대기/진행 중이면 거절)
+     */
+    public AdminJobResponse submit(AdminJobType type, String source, Integer rowLimit) {
+        if (!handlers.containsKey(type)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        AdminJob job;
+        try {
+            job = jobRepository.save(AdminJob.builder()
+                    .type(type)
+                    .source(source)
+                    .rowLimit(rowLimit)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // uq_admin_jobs_active_type: 같은 종류의 작업이 이미 대기/진행 중
+            throw new BusinessException(ErrorCode.JOB_ALREADY_ACTIVE);
+        }
+        log.info("관리자 작업 등록: id={}, type={}", job.getId(), type);
+
+        dispatch(job.getId());
+        return toResponse(job);
+    }
+
+    public AdminJobResponse getJob(Long id) {
+        return toResponse(findJob(id));
+    }
+
+    public List<AdminJobResponse> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByIdDesc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * 대기 중이면 바로 취소, 실행 중이면 다음 청크 경계에서 멈춘다 (이미 커밋된 청크는 유지)
+     */
+    public AdminJobResponse cancel(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobRepository.cancelQueued(id, AdminJobStatus.QUEUED, AdminJobStatus.CANCELLED, now) == 0
+                && jobRepository.requestCancel(id, AdminJobStatus.RUNNING, now) == 0) {
+            findJob(id);
+            throw new BusinessException(ErrorCode.JOB_ALREADY_FINISHED);
+        }
+        log.info("관리자 작업 취소 요청: id={}", id);
+        return getJob(id);
+    }
+
+    /**
+     * 시작 직후와 주기적으로: heartbeat가 끊긴 작업을 되살리고 대기 중인 작업을 풀에 넣는다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${admin.jobs.recover-interval-ms:60000}", initialDelayString = "${admin.jobs.recover-interval-ms:60000}")
+    public void recover() {
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = jobRepository.requeueStale(AdminJobStatus.RUNNING, AdminJobStatus.QUEUED,
+                now.minusSeconds(staleAfterSeconds), now);
+        if (requeued > 0) {
+            log.warn("heartbeat가 끊긴 관리자 작업 {}개를 다시 대기열에 넣음", requeued);
+        }
+        for (AdminJob job : jobRepository.findByStatusOrderByIdAsc(AdminJobStatus.QUEUED)) {
+            dispatch(job.getId());
+        }
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중인 작업이 살아 있음을 기록 (진행률 보고가 뜸한 긴 청크 동안에도 stale 판정되지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${admin.jobs.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (localJobs.isEmpty()) {
+            return;
+        }
+        try {
+            jobRepository.heartbeat(Set.copyOf(localJobs), AdminJobStatus.RUNNING, owner, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("관리자 작업 heartbeat 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (!localJobs.isEmpty()) {
+            try {
+                // 실행 중이던 작업은 다음 인스턴스가 바로 이어받도록
+                jobRepository.requeue(Set.copyOf(localJobs), AdminJobStatus.RUNNING, owner, AdminJobStatus.QUEUED,
+                        LocalDateTime.now());
+            } catch (Exception e) {
+                log.warn("종료 시 관리자 작업 반환 실패 (heartbeat 만료 후 재개됨): {}", e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(Long id) {
+        if (!localJobs.add(id)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    execute(id);
+                } finally {
+                    localJobs.remove(id);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            localJobs.remove(id);
+            log.info("관리자 작업 대기열이 가득 참 (다음 점검 때 실행): id={}", id);
+        }
+    }
+
+    private void execute(Long id) {
+        if (jobRepository.claim(id, AdminJobStatus.QUEUED, AdminJobStatus.RUNNING, owner, LocalDateTime.now()) == 0) {
+            return;
+        }
+        AdminJob job = findJob(id);
+        long startTime = System.currentTimeMillis();
+        log.info("관리자 작업 시작: id={}, type={}", id, job.getType());
+        try {
+            Map<String, Object> result = handlers.get(job.getType()).run(job, progress(id));
+            AdminJobStatus status = jobRepository.isCancelRequested(id) ? AdminJobStatus.CANCELLED : AdminJobStatus.SUCCEEDED;
+            jobRepository.finish(id, AdminJobStatus.RUNNING, owner, status, null,
+                    objectMapper.writeValueAsString(result), LocalDateTime.now());
+            log.info("관리자 작업 종료: id={}, status={}, {}ms", id, status, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || executor.isShutdown()) {
+                // 종료 중 중단 - shutdown()이 QUEUED로 되돌린다
+                log.warn("관리자 작업 중단 (재시작 후 재개): id={}", id);
+                return;
+            }
+            log.error("관리자 작업 실패: id={}", id, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            jobRepository.finish(id, AdminJobStatus.RUNNING, owner, AdminJobStatus.FAILED, message, null,
+                    LocalDateTime.now());
+        }
+    }
+
+    private JobProgress progress(Long id) {
+        return new JobProgress() {
+            @Override
+            public void start(long totalRows) {
+                jobRepository.start(id, totalRows, LocalDateTime.now());
+            }
+
+            @Override
+            public void advance(long processedRows, long failedRows) {
+                jobRepository.advance(id, processedRows, failedRows, LocalDateTime.now());
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return jobRepository.isCancelRequested(id);
+            }
+        };
+    }
+
+    private AdminJob findJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.JOB_NOT_FOUND));
+    }
+
+    private AdminJobResponse toResponse(AdminJob job) {
+        Map<String, Object> result = null;
+        if (job.getResult() != null) {
+            try {
+                result = objectMapper.readValue(job.getResult(), new TypeReference<>() {});
+            } catch (Exception e) {
+                log.debug("작업 결과 파싱 실패: id={}", job.getId());
+            }
+        }
+        return AdminJobResponse.from(job, result, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,13 @@
+package com.benny.board_mate.job;
+
+import java.util.List;
+
+public enum AdminJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public static final List<AdminJobStatus> ACTIVE = List.of(QUEUED, RUNNING);
+}
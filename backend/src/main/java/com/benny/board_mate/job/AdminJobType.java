@@ -0,0 +1,7 @@
+package com.benny.board_mate.job;
+
+public enum AdminJobType {
+    GAME_IMPORT,
+    GAME_EMBEDDING,
+    GAME_EMBEDDING_INDEX
+}
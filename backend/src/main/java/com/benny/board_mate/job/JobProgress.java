@@ -0,0 +1,35 @@
+package com.benny.board_mate.job;
+
+/**
+ * 작업 진행률 보고 / 취소 확인 (청크 경계마다 호출)
+ */
+public interface JobProgress {
+
+    // 작업 없이 직접 호출할 때 (테스트, 동기 실행)
+    JobProgress NONE = new JobProgress() {
+        @Override
+        public void start(long totalRows) {
+        }
+
+        @Override
+        public void advance(long processedRows, long failedRows) {
+        }
+
+        @Override
+        public boolean isCancelRequested() {
+            return false;
+        }
+    };
+
+    /**
+     * 처리할 전체 행 수를 알게 됐을 때 (재개 시 카운터와 시작 시각이 초기화된다)
+     */
+    void start(long totalRows);
+
+    /**
+     * 한 청크를 커밋한 뒤 이번 청크에서 처리/실패한 행 수
+     */
+    void advance(long processedRows, long failedRows);
+
+    boolean isCancelRequested();
+}
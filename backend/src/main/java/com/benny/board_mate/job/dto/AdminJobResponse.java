@@ -0,0 +1,70 @@
+package com.benny.board_mate.job.dto;
+
+import com.benny.board_mate.job.AdminJob;
+import com.benny.board_mate.job.AdminJobStatus;
+import com.benny.board_mate.job.AdminJobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminJobResponse {
+
+    private Long id;
+    private AdminJobType type;
+    private AdminJobStatus status;
+    private String source;
+    private Integer rowLimit;
+    private long totalRows;
+    private long processedRows;
+    private long failedRows;
+    // 시작 이후 평균 처리 속도와 남은 예상 시간 (실행 중일 때만)
+    private Double rowsPerSecond;
+    private Long etaSeconds;
+    private boolean cancelRequested;
+    private String error;
+    private Map<String, Object> result;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static AdminJobResponse from(AdminJob job, Map<String, Object> result, LocalDateTime now) {
+        Double rowsPerSecond = null;
+        Long etaSeconds = null;
+        if (job.getStatus() == AdminJobStatus.RUNNING && job.getStartedAt() != null) {
+            double elapsedSeconds = Duration.between(job.getStartedAt(), now).toMillis() / 1000.0;
+            long done = job.getProcessedRows() + job.getFailedRows();
+            if (elapsedSeconds > 0 && done > 0) {
+                rowsPerSecond = Math.round(done / elapsedSeconds * 10) / 10.0;
+                etaSeconds = Math.round(Math.max(job.getTotalRows() - done, 0) * elapsedSeconds / done);
+            }
+        }
+
+        return AdminJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .source(job.getSource())
+                .rowLimit(job.getRowLimit())
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .failedRows(job.getFailedRows())
+                .rowsPerSecond(rowsPerSecond)
+                .etaSeconds(etaSeconds)
+                .cancelRequested(job.isCancelRequested())
+                .error(job.getError())
+                .result(result)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
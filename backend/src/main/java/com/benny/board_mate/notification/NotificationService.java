@@ -1,5 +1,6 @@
 package com.benny.board_mate.notification;
 
+import com.benny.board_mate.common.websocket.MessageFanout;
 import com.benny.board_mate.notification.dto.RoomNotification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,14 +13,15 @@ import org.springframework.stereotype.Service;
 public class NotificationService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final MessageFanout messageFanout;
 
     /**
      * 특정 방의 모든 참가자에게 알림 전송
-     * 구독 경로: /topic/rooms/{roomId}
+     * 구독 경로: /topic/rooms/{roomId} (다른 인스턴스 구독자 포함)
      */
     public void notifyRoom(Long roomId, RoomNotification notification) {
         String destination = "/topic/rooms/" + roomId;
-        messagingTemplate.convertAndSend(destination, notification);
+        messageFanout.publish(destination, notification);
         log.info("Room {} 알림 전송: {}", roomId, notification.getMessage());
     }
 
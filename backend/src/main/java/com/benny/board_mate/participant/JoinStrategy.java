@@ -0,0 +1,11 @@
+package com.benny.board_mate.participant;
+
+/**
+ * 방 참가 동시성 제어 전략 (participant.join-strategy)
+ */
+public enum JoinStrategy {
+    PESSIMISTIC,  // SELECT ... FOR UPDATE 또는 분산 락 (ParticipantLockFacade, room.lock.provider)
+    OPTIMISTIC,   // @Version + 재시도 (ParticipantServiceOptimistic)
+    ATOMIC,       // 조건부 UPDATE 한 번 (ParticipantServiceAtomic)
+    RESERVATION   // Redis 좌석 배정 + DB 배치 반영 (SeatReservationService)
+}
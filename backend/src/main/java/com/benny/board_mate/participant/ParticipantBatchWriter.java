@@ -0,0 +1,51 @@
+package com.benny.board_mate.participant;
+
+import com.benny.board_mate.room.RoomRepository;
+import com.benny.board_mate.room.WaitingRoomCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Redis에서 배정된 좌석을 방 단위로 모아 DB에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipantBatchWriter {
+
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO participants (room_id, user_id, attendance_status, joined_at) " +
+            "VALUES (?, ?, 'PENDING', ?) " +
+            "ON CONFLICT (room_id, user_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RoomRepository roomRepository;
+    private final WaitingRoomCache waitingRoomCache;
+
+    /**
+     * 참가자 INSERT 배치 + rooms.current_participants 한 번 갱신
+     * 이미 반영된 참가자(재전송)는 ON CONFLICT로 건너뛰고 좌석 수에서도 제외한다.
+     *
+     * @return 실제로 추가된 참가자 수
+     */
+    @Transactional
+    public int persist(Long roomId, List<SeatClaim> claims) {
+        int[] results = jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, claims, claims.size(), (ps, claim) -> {
+            ps.setLong(1, claim.roomId());
+            ps.setLong(2, claim.userId());
+            ps.setTimestamp(3, Timestamp.valueOf(claim.joinedAt()));
+        })[0];
+
+        int inserted = Arrays.stream(results).map(count -> Math.max(count, 0)).sum();
+        if (inserted > 0) {
+            roomRepository.addSeats(roomId, inserted);
+            roomRepository.findResponseById(roomId).ifPresent(waitingRoomCache::put);
+        }
+        return inserted;
+    }
+}
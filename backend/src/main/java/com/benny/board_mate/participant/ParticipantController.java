@@ -19,13 +19,15 @@ import java.util.List;
 public class ParticipantController {
 
     private final ParticipantService participantService;
+    private final ParticipantJoinService participantJoinService;
+    private final ParticipantLockFacade participantLockFacade;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ParticipantResponse>> joinRoom(
             Authentication authentication,
             @PathVariable Long roomId) {
         Long userId = (Long) authentication.getPrincipal();
-        ParticipantResponse response = participantService.joinRoom(userId, roomId);
+        ParticipantResponse response = participantJoinService.joinRoom(userId, roomId);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.created(response));
     }
@@ -35,7 +37,7 @@ public class ParticipantController {
             Authentication authentication,
             @PathVariable Long roomId) {
         Long userId = (Long) authentication.getPrincipal();
-        participantService.leaveRoom(userId, roomId);
+        participantLockFacade.leaveRoom(userId, roomId);
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
@@ -51,7 +53,7 @@ public class ParticipantController {
             @PathVariable Long roomId,
             @RequestBody AttendanceCheckRequest request) {
         Long userId = (Long) authentication.getPrincipal();
-        participantService.checkAttendance(userId, roomId, request);
+        participantLockFacade.checkAttendance(userId, roomId, request);
         return ResponseEntity.ok(ApiResponse.ok());
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.benny.board_mate.participant;
+
+import com.benny.board_mate.participant.dto.ParticipantResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 설정(participant.join-strategy)에 따라 방 참가 전략 선택
+ */
+@Slf4j
+@Service
+public class ParticipantJoinService {
+
+    private final ParticipantLockFacade participantLockFacade;
+    private final ParticipantServiceOptimistic participantServiceOptimistic;
+    private final ParticipantServiceAtomic participantServiceAtomic;
+    private final SeatReservationService seatReservationService;
+    private final JoinStrategy joinStrategy;
+
+    public ParticipantJoinService(
+            ParticipantLockFacade participantLockFacade,
+            ParticipantServiceOptimistic participantServiceOptimistic,
+            ParticipantServiceAtomic participantServiceAtomic,
+            SeatReservationService seatReservationService,
+            @Value("${participant.join-strategy:pessimistic}") JoinStrategy joinStrategy
+    ) {
+        this.participantLockFacade = participantLockFacade;
+        this.participantServiceOptimistic = participantServiceOptimistic;
+        this.participantServiceAtomic = participantServiceAtomic;
+        this.seatReservationService = seatReservationService;
+        this.joinStrategy = joinStrategy;
+        log.info("방 참가 전략: {}", joinStrategy);
+    }
+
+    public ParticipantResponse joinRoom(Long userId, Long roomId) {
+        return switch (joinStrategy) {
+            // room.lock.provider에 따라 DB 행 락 또는 분산 락
+            case PESSIMISTIC -> participantLockFacade.joinRoom(userId, roomId);
+            // 비교용 구현: 알림/방 목록 캐시 갱신 없음
+            case OPTIMISTIC -> participantServiceOptimistic.joinRoomWithRetry(userId, roomId);
+            case ATOMIC -> participantServiceAtomic.joinRoom(userId, roomId);
+            // DB 반영은 비동기: 응답의 참가자 id는 비어 있음
+            case RESERVATION -> seatReservationService.joinRoom(userId, roomId);
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.benny.board_mate.participant;
+
+import com.benny.board_mate.common.lock.RoomLock;
+import com.benny.board_mate.common.lock.RoomLockProvider;
+import com.benny.board_mate.participant.dto.AttendanceCheckRequest;
+import com.benny.board_mate.participant.dto.ParticipantResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 단위 락을 잡고 ParticipantService 호출
+ * 락은 트랜잭션 밖에서 획득하고, 커밋이 끝난 뒤 해제한다. (트랜잭션 안에서 해제하면 커밋 전에 다른 요청이 진입)
+ */
+@Service
+@RequiredArgsConstructor
+public class ParticipantLockFacade {
+
+    private final RoomLockProvider roomLockProvider;
+    private final ParticipantService participantService;
+
+    public ParticipantResponse joinRoom(Long userId, Long roomId) {
+        try (RoomLock lock = roomLockProvider.acquire(roomId)) {
+            return participantService.joinRoom(userId, roomId, lock.fencingToken());
+        }
+    }
+
+    public void leaveRoom(Long userId, Long roomId) {
+        try (RoomLock lock = roomLockProvider.acquire(roomId)) {
+            participantService.leaveRoom(userId, roomId, lock.fencingToken());
+        }
+    }
+
+    public void checkAttendance(Long hostId, Long roomId, AttendanceCheckRequest request) {
+        try (RoomLock lock = roomLockProvider.acquire(roomId)) {
+            participantService.checkAttendance(hostId, roomId, request, lock.fencingToken());
+        }
+    }
+}
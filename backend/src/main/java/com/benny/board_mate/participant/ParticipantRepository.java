@@ -3,6 +3,8 @@ package com.benny.board_mate.participant;
 import com.benny.board_mate.room.Room;
 import com.benny.board_mate.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,4 +24,10 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     Optional<Participant> findByRoomAndUser(Room room, User user);
 
     List<Participant> findByRoom(Room room);
-}
\ No newline at end of file
+
+    @Query("SELECT p.user.id FROM Participant p WHERE p.room.id = :roomId")
+    List<Long> findUserIdsByRoomId(@Param("roomId") Long roomId);
+
+    @Query("SELECT u.nickname FROM Participant p JOIN p.user u WHERE p.room.id = :roomId AND u.id = :userId")
+    Optional<String> findNicknameByRoomIdAndUserId(@Param("roomId") Long roomId, @Param("userId") Long userId);
+}
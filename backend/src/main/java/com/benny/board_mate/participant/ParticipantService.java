@@ -1,6 +1,6 @@
 package com.benny.board_mate.participant;
 
-import com.benny.board_mate.common.config.RedisConfig;
+import com.benny.board_mate.chat.ChatMembershipCache;
 import com.benny.board_mate.common.exception.BusinessException;
 import com.benny.board_mate.common.exception.ErrorCode;
 import com.benny.board_mate.notification.NotificationService;
@@ -9,11 +9,12 @@ import com.benny.board_mate.participant.dto.AttendanceCheckRequest;
 import com.benny.board_mate.participant.dto.ParticipantResponse;
 import com.benny.board_mate.room.Room;
 import com.benny.board_mate.room.RoomRepository;
+import com.benny.board_mate.room.WaitingRoomCache;
+import com.benny.board_mate.room.dto.RoomResponse;
 import com.benny.board_mate.trust.TrustScoreService;
 import com.benny.board_mate.user.User;
 import com.benny.board_mate.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,12 +31,21 @@ public class ParticipantService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final TrustScoreService trustScoreService;
+    private final WaitingRoomCache waitingRoomCache;
+    private final SeatReservationService seatReservationService;
+    private final ChatMembershipCache chatMembershipCache;
 
     @Transactional
-    @CacheEvict(value = RedisConfig.CACHE_ROOMS, allEntries = true)
     public ParticipantResponse joinRoom(Long userId, Long roomId) {
-        Room room = roomRepository.findByIdForUpdate(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        return joinRoom(userId, roomId, null);
+    }
+
+    /**
+     * @param fencingToken 분산 락 토큰 (ParticipantLockFacade), null이면 DB 행 락으로 보호
+     */
+    @Transactional
+    public ParticipantResponse joinRoom(Long userId, Long roomId, Long fencingToken) {
+        Room room = findRoomForWrite(roomId, fencingToken);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -52,6 +62,7 @@ public class ParticipantService {
                 .build();
 
         participantRepository.save(participant);
+        waitingRoomCache.put(RoomResponse.from(room));
 
         // 실시간 알림 전송
         notificationService.notifyRoom(roomId, RoomNotification.join(
@@ -74,10 +85,13 @@ public class ParticipantService {
     }
 
     @Transactional
-    @CacheEvict(value = RedisConfig.CACHE_ROOMS, allEntries = true)
     public void leaveRoom(Long userId, Long roomId) {
-        Room room = roomRepository.findByIdForUpdate(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        leaveRoom(userId, roomId, null);
+    }
+
+    @Transactional
+    public void leaveRoom(Long userId, Long roomId, Long fencingToken) {
+        Room room = findRoomForWrite(roomId, fencingToken);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -91,6 +105,9 @@ public class ParticipantService {
 
         room.removeParticipant();
         participantRepository.delete(participant);
+        waitingRoomCache.put(RoomResponse.from(room));
+        seatReservationService.release(roomId, userId);
+        chatMembershipCache.evict(roomId, userId);
 
         // 실시간 알림 전송
         notificationService.notifyRoom(roomId, RoomNotification.leave(
@@ -112,10 +129,13 @@ public class ParticipantService {
     }
 
     @Transactional
-    @CacheEvict(value = RedisConfig.CACHE_ROOMS, allEntries = true)
     public void checkAttendance(Long hostId, Long roomId, AttendanceCheckRequest request) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        checkAttendance(hostId, roomId, request, null);
+    }
+
+    @Transactional
+    public void checkAttendance(Long hostId, Long roomId, AttendanceCheckRequest request, Long fencingToken) {
+        Room room = findRoomForWrite(roomId, fencingToken);
 
         User host = userRepository.findById(hostId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -127,6 +147,8 @@ public class ParticipantService {
 
         // 게임 완료 처리
         room.closeRoom();
+        waitingRoomCache.evict(roomId);
+        seatReservationService.evictRoom(roomId);
 
         // 각 참가자 출석 상태 업데이트 & 신뢰도 반영
         for (AttendanceCheckRequest.AttendanceItem item : request.getAttendances()) {
@@ -156,4 +178,17 @@ public class ParticipantService {
                 .timestamp(LocalDateTime.now())
                 .build());
         }
-}
\ No newline at end of file
+
+    // 분산 락을 잡은 상태면 토큰만 검사하고, 아니면 SELECT ... FOR UPDATE
+    private Room findRoomForWrite(Long roomId, Long fencingToken) {
+        if (fencingToken == null) {
+            return roomRepository.findByIdForUpdate(roomId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        }
+
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        room.fence(fencingToken);
+        return room;
+    }
+}
@@ -0,0 +1,90 @@
+package com.benny.board_mate.participant;
+
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.notification.NotificationService;
+import com.benny.board_mate.notification.dto.RoomNotification;
+import com.benny.board_mate.participant.dto.ParticipantResponse;
+import com.benny.board_mate.room.Room;
+import com.benny.board_mate.room.RoomRepository;
+import com.benny.board_mate.room.RoomStatus;
+import com.benny.board_mate.room.WaitingRoomCache;
+import com.benny.board_mate.room.dto.RoomResponse;
+import com.benny.board_mate.user.User;
+import com.benny.board_mate.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ParticipantServiceAtomic {
+
+    private final ParticipantRepository participantRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final WaitingRoomCache waitingRoomCache;
+
+    /**
+     * 방 참가 - 조건부 UPDATE 한 번으로 좌석 확보 (락 없는 읽기)
+     *
+     * 작동 방식:
+     * - 참가자 INSERT: (room_id, user_id) 유니크 제약으로 중복 참가 거부
+     * - UPDATE rooms ... WHERE current_participants < max_participants 로 좌석 확보
+     * - 영향받은 행이 0이면 정원 초과 → 롤백되면서 INSERT도 취소
+     *
+     * 장점: 재시도 없음, 행 락은 UPDATE부터 커밋까지만 유지 (SELECT FOR UPDATE 대기 없음)
+     * 단점: 중복/정원 초과를 DB 제약과 영향 행 수로 판단 (엔티티 도메인 로직 우회)
+     */
+    @Transactional
+    public ParticipantResponse joinRoom(Long userId, Long roomId) {
+        if (!roomRepository.existsById(roomId)) {
+            throw new BusinessException(ErrorCode.ROOM_NOT_FOUND);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        Room roomRef = roomRepository.getReferenceById(roomId);
+        Participant participant = Participant.builder()
+                .room(roomRef)
+                .user(user)
+                .build();
+
+        try {
+            participantRepository.saveAndFlush(participant);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.ROOM_ALREADY_JOINED);
+        }
+
+        // 좌석 확보는 마지막에: 행 락 보유 시간을 커밋 직전으로 최소화
+        if (roomRepository.claimSeat(roomId) == 0) {
+            throw new BusinessException(ErrorCode.ROOM_FULL);
+        }
+
+        RoomResponse room = roomRepository.findResponseById(roomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        waitingRoomCache.put(room);
+
+        // 실시간 알림 전송
+        notificationService.notifyRoom(roomId, RoomNotification.join(
+                roomId,
+                userId,
+                user.getNickname(),
+                room.getCurrentParticipants(),
+                room.getMaxParticipants()
+        ));
+
+        // 방이 가득 찼으면 추가 알림
+        if (room.getRoomStatus() == RoomStatus.FULL) {
+            notificationService.notifyRoom(roomId, RoomNotification.roomFull(
+                    roomId,
+                    room.getMaxParticipants()
+            ));
+        }
+
+        return ParticipantResponse.from(participant);
+    }
+}
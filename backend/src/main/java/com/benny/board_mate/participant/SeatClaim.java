@@ -0,0 +1,24 @@
+package com.benny.board_mate.participant;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Redis에서 배정된 좌석 (seats:pending 항목, "roomId:userId:joinedAtMillis")
+ */
+record SeatClaim(Long roomId, Long userId, LocalDateTime joinedAt) {
+
+    static SeatClaim parse(String value) {
+        String[] parts = value.split(":");
+        return new SeatClaim(
+                Long.parseLong(parts[0]),
+                Long.parseLong(parts[1]),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZoneId.systemDefault())
+        );
+    }
+
+    String encode() {
+        return roomId + ":" + userId + ":" + joinedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,83 @@
+package com.benny.board_mate.participant;
+
+import com.benny.board_mate.room.Room;
+import com.benny.board_mate.room.RoomRepository;
+import com.benny.board_mate.room.RoomStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 좌석 정보와 DB 참가자 정합성 점검
+ *
+ * - 종료/삭제된 방: Redis 좌석 정보 제거
+ * - DB에만 있는 참가자: Redis 멤버에 추가, current를 멤버 수로 재계산
+ * - Redis에만 있고 대기열에도 없는 참가자: 좌석 제거 (DB + 대기열이 기준)
+ *   나가기/롤백 뒤 남은 좌석을 되살리지 않도록 다시 대기열에 넣지 않는다.
+ *   DB 반영 중인 좌석은 배정 시각이 유예 시간 안이면 남겨 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatReconciliationJob {
+
+    private final SeatReservationService seatReservationService;
+    private final RoomRepository roomRepository;
+    private final ParticipantRepository participantRepository;
+
+    @Scheduled(fixedDelayString = "${participant.reservation.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!seatReservationService.isEnabled()) {
+            return;
+        }
+
+        Map<Long, Set<Long>> pendingByRoom;
+        Set<Long> roomIds;
+        try {
+            pendingByRoom = seatReservationService.peekPending().stream()
+                    .collect(Collectors.groupingBy(SeatClaim::roomId,
+                            Collectors.mapping(SeatClaim::userId, Collectors.toSet())));
+            roomIds = seatReservationService.activeRoomIds();
+        } catch (Exception e) {
+            log.warn("좌석 정합성 점검 건너뜀: {}", e.getMessage());
+            return;
+        }
+
+        for (Long roomId : roomIds) {
+            try {
+                reconcileRoom(roomId, pendingByRoom.getOrDefault(roomId, Set.of()));
+            } catch (Exception e) {
+                log.warn("좌석 정합성 점검 실패: roomId={}, error={}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    private void reconcileRoom(Long roomId, Set<Long> pendingUserIds) {
+        Optional<Room> found = roomRepository.findById(roomId);
+        if (found.isEmpty() || !isJoinable(found.get())) {
+            seatReservationService.evictRoom(roomId);
+            return;
+        }
+
+        List<Long> dbMemberIds = participantRepository.findUserIdsByRoomId(roomId);
+        Set<Long> removed = seatReservationService.reconcile(
+                found.get(), dbMemberIds, pendingUserIds, LocalDateTime.now());
+
+        if (!removed.isEmpty()) {
+            log.warn("DB에 없는 Redis 좌석 제거: roomId={}, userIds={}", roomId, removed);
+        }
+    }
+
+    private boolean isJoinable(Room room) {
+        return room.getDeletedAt() == null
+                && (room.getRoomStatus() == RoomStatus.WAITING || room.getRoomStatus() == RoomStatus.FULL);
+    }
+}
@@ -0,0 +1,316 @@
+package com.benny.board_mate.participant;
+
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.notification.NotificationService;
+import com.benny.board_mate.notification.dto.RoomNotification;
+import com.benny.board_mate.participant.dto.ParticipantResponse;
+import com.benny.board_mate.room.Room;
+import com.benny.board_mate.room.RoomRepository;
+import com.benny.board_mate.user.User;
+import com.benny.board_mate.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 방 참가 폭주 대응: Redis에서 좌석을 원자적으로 배정하고 DB 반영은 비동기로 처리
+ * (participant.join-strategy=reservation 일 때만 사용)
+ *
+ * Redis 키:
+ * - seats:{roomId}:meta    → Hash (current, max)
+ * - seats:{roomId}:members → Set (참가한 userId)
+ * - seats:{roomId}:joined  → Hash (userId → 배정 시각 millis, 정합성 점검의 유예 판단용)
+ * - seats:pending          → List ("roomId:userId:joinedAtMillis"), SeatWriteBehindFlusher가 배치로 DB 반영
+ * - seats:rooms            → Set (좌석 정보가 올라가 있는 roomId, 정합성 점검 대상)
+ * - seats:dead             → List (DB 반영이 불가능한 항목, 수동 확인용)
+ */
+@Slf4j
+@Service
+public class SeatReservationService {
+
+    static final String PENDING_KEY = "seats:pending";
+    static final String ROOMS_KEY = "seats:rooms";
+    static final String DEAD_LETTER_KEY = "seats:dead";
+
+    private static final long NOT_INITIALIZED = -2;
+    private static final long ALREADY_JOINED = -1;
+    private static final long FULL = 0;
+
+    // 반환: {결과, max} — 결과는 배정 후 current, 0(정원 초과), -1(중복), -2(미초기화)
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {-2, 0} end
+            local max = tonumber(redis.call('HGET', KEYS[1], 'max'))
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return {-1, max} end
+            local current = tonumber(redis.call('HGET', KEYS[1], 'current'))
+            if current >= max then return {0, max} end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('HSET', KEYS[1], 'current', current + 1)
+            redis.call('HSET', KEYS[4], ARGV[1], ARGV[3])
+            redis.call('RPUSH', KEYS[3], ARGV[2] .. ':' .. ARGV[1] .. ':' .. ARGV[3])
+            return {current + 1, max}
+            """, List.class);
+
+    // DB 기준으로 좌석 정보 초기화 (이미 있으면 그대로 둔다)
+    private static final RedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('DEL', KEYS[2], KEYS[3])
+            for i = 3, #ARGV do redis.call('SADD', KEYS[2], ARGV[i]) end
+            redis.call('HSET', KEYS[1], 'current', ARGV[1], 'max', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+                return redis.call('HINCRBY', KEYS[1], 'current', -1)
+            end
+            return -1
+            """, Long.class);
+
+    // DB 참가자를 합치고, DB에도 대기열에도 없는 멤버 중 유예 시각(ARGV[2]) 이전에 배정된 좌석은 제거,
+    // current를 멤버 수로 다시 맞춘 뒤 제거한 멤버 반환
+    // ARGV: max, 유예 기준 millis, DB 참가자 수(n), DB 참가자 n개, 대기열 참가자...
+    private static final RedisScript<List> RECONCILE_SCRIPT = new DefaultRedisScript<>("""
+            local dbCount = tonumber(ARGV[3])
+            local known = {}
+            for i = 4, #ARGV do
+                known[ARGV[i]] = true
+                if i < 4 + dbCount then redis.call('SADD', KEYS[2], ARGV[i]) end
+            end
+            local cutoff = tonumber(ARGV[2])
+            local removed = {}
+            for _, member in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+                if not known[member] then
+                    local joinedAt = tonumber(redis.call('HGET', KEYS[3], member))
+                    if joinedAt == nil or joinedAt < cutoff then
+                        redis.call('SREM', KEYS[2], member)
+                        redis.call('HDEL', KEYS[3], member)
+                        table.insert(removed, member)
+                    end
+                end
+            end
+            redis.call('HSET', KEYS[1], 'current', redis.call('SCARD', KEYS[2]), 'max', ARGV[1])
+            return removed
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final ParticipantRepository participantRepository;
+    private final NotificationService notificationService;
+    private final boolean enabled;
+    private final long reconcileGraceMillis;
+
+    public SeatReservationService(
+            RedisTemplate<String, String> redisTemplate,
+            RoomRepository roomRepository,
+            UserRepository userRepository,
+            ParticipantRepository participantRepository,
+            NotificationService notificationService,
+            @Value("${participant.join-strategy:pessimistic}") JoinStrategy joinStrategy,
+            @Value("${participant.reservation.reconcile-grace-ms:30000}") long reconcileGraceMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.roomRepository = roomRepository;
+        this.userRepository = userRepository;
+        this.participantRepository = participantRepository;
+        this.notificationService = notificationService;
+        this.enabled = joinStrategy == JoinStrategy.RESERVATION;
+        this.reconcileGraceMillis = reconcileGraceMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 방 참가 - Redis Lua 스크립트로 좌석 배정 후 즉시 응답
+     * DB(participants, rooms.current_participants)에는 SeatWriteBehindFlusher가 배치로 반영한다.
+     */
+    @SuppressWarnings("unchecked")
+    public ParticipantResponse joinRoom(Long userId, Long roomId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        LocalDateTime joinedAt = LocalDateTime.now();
+        String joinedAtMillis = String.valueOf(joinedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        List<Long> result = redisTemplate.execute(ADMIT_SCRIPT,
+                List.of(metaKey(roomId), membersKey(roomId), PENDING_KEY, joinedKey(roomId)),
+                userId.toString(), roomId.toString(), joinedAtMillis);
+
+        if (result.get(0) == NOT_INITIALIZED) {
+            initialize(roomId);
+            result = redisTemplate.execute(ADMIT_SCRIPT,
+                    List.of(metaKey(roomId), membersKey(roomId), PENDING_KEY, joinedKey(roomId)),
+                    userId.toString(), roomId.toString(), joinedAtMillis);
+        }
+
+        long current = result.get(0);
+        long max = result.get(1);
+        if (current == ALREADY_JOINED) {
+            throw new BusinessException(ErrorCode.ROOM_ALREADY_JOINED);
+        }
+        if (current == FULL || current == NOT_INITIALIZED) {
+            throw new BusinessException(ErrorCode.ROOM_FULL);
+        }
+
+        // 실시간 알림 전송
+        notificationService.notifyRoom(roomId, RoomNotification.join(
+                roomId,
+                userId,
+                user.getNickname(),
+                (int) current,
+                (int) max
+        ));
+
+        // 방이 가득 찼으면 추가 알림
+        if (current == max) {
+            notificationService.notifyRoom(roomId, RoomNotification.roomFull(roomId, (int) max));
+        }
+
+        return ParticipantResponse.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .nickname(user.getNickname())
+                .attendanceStatus(AttendanceStatus.PENDING)
+                .joinedAt(joinedAt)
+                .build();
+    }
+
+    /**
+     * 나가기 반영 (트랜잭션 커밋 후 실행)
+     * 롤백되면 DB에는 참가자가 남아 있으므로 Redis 좌석도 그대로 둔다.
+     */
+    public void release(Long roomId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT,
+                        List.of(metaKey(roomId), membersKey(roomId), joinedKey(roomId)),
+                        userId.toString());
+            } catch (Exception e) {
+                log.warn("Redis 좌석 반환 실패 (정합성 점검 때 복구): roomId={}, error={}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 종료/삭제된 방의 좌석 정보 제거 (트랜잭션 커밋 후 실행)
+     */
+    public void evictRoom(Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(List.of(metaKey(roomId), membersKey(roomId), joinedKey(roomId)));
+                redisTemplate.opsForSet().remove(ROOMS_KEY, roomId.toString());
+            } catch (Exception e) {
+                log.warn("Redis 좌석 정보 삭제 실패 (무시): roomId={}, error={}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    private void initialize(Long roomId) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
+        List<Long> memberIds = participantRepository.findUserIdsByRoomId(roomId);
+
+        List<String> args = new ArrayList<>(memberIds.size() + 2);
+        args.add(String.valueOf(room.getCurrentParticipants()));
+        args.add(String.valueOf(room.getMaxParticipants()));
+        memberIds.forEach(id -> args.add(id.toString()));
+
+        redisTemplate.execute(INIT_SCRIPT,
+                List.of(metaKey(roomId), membersKey(roomId), joinedKey(roomId)),
+                args.toArray());
+        redisTemplate.opsForSet().add(ROOMS_KEY, roomId.toString());
+    }
+
+    /**
+     * Redis 좌석 정보를 DB 참가자 + 대기열 기준으로 보정하고, 제거한 Redis 멤버(userId) 목록 반환
+     *
+     * 대기열에서 꺼내 DB에 반영 중인 좌석은 잠시 어디에도 보이지 않으므로,
+     * 점검 시각 기준 유예 시간 안에 배정된 좌석은 남겨 둔다.
+     */
+    @SuppressWarnings("unchecked")
+    Set<Long> reconcile(Room room, List<Long> dbMemberIds, Set<Long> pendingUserIds, LocalDateTime now) {
+        long cutoff = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - reconcileGraceMillis;
+
+        List<String> args = new ArrayList<>(dbMemberIds.size() + pendingUserIds.size() + 3);
+        args.add(String.valueOf(room.getMaxParticipants()));
+        args.add(String.valueOf(cutoff));
+        args.add(String.valueOf(dbMemberIds.size()));
+        dbMemberIds.forEach(id -> args.add(id.toString()));
+        pendingUserIds.forEach(id -> args.add(id.toString()));
+
+        List<String> removed = redisTemplate.execute(RECONCILE_SCRIPT,
+                List.of(metaKey(room.getId()), membersKey(room.getId()), joinedKey(room.getId())),
+                args.toArray());
+        return removed.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    Set<Long> activeRoomIds() {
+        Set<String> roomIds = redisTemplate.opsForSet().members(ROOMS_KEY);
+        return roomIds == null ? Set.of() : roomIds.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    List<SeatClaim> popPending(int count) {
+        List<String> values = redisTemplate.opsForList().leftPop(PENDING_KEY, count);
+        return values == null ? List.of() : values.stream().map(SeatClaim::parse).toList();
+    }
+
+    List<SeatClaim> peekPending() {
+        List<String> values = redisTemplate.opsForList().range(PENDING_KEY, 0, -1);
+        return values == null ? List.of() : values.stream().map(SeatClaim::parse).toList();
+    }
+
+    void requeue(List<SeatClaim> claims) {
+        redisTemplate.opsForList().rightPushAll(PENDING_KEY, claims.stream().map(SeatClaim::encode).toList());
+    }
+
+    void deadLetter(SeatClaim claim) {
+        redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, claim.encode());
+    }
+
+    static String metaKey(Long roomId) {
+        return "seats:" + roomId + ":meta";
+    }
+
+    static String membersKey(Long roomId) {
+        return "seats:" + roomId + ":members";
+    }
+
+    static String joinedKey(Long roomId) {
+        return "seats:" + roomId + ":joined";
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.benny.board_mate.participant;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis에서 배정된 좌석(seats:pending)을 주기적으로 모아 DB에 반영
+ * 참가 폭주 중에도 DB에는 방마다 짧은 트랜잭션 하나씩만 들어간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatWriteBehindFlusher {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SeatReservationService seatReservationService;
+    private final ParticipantBatchWriter participantBatchWriter;
+
+    @Scheduled(fixedDelayString = "${participant.reservation.flush-interval-ms:200}")
+    public void flush() {
+        if (!seatReservationService.isEnabled()) {
+            return;
+        }
+
+        List<SeatClaim> claims;
+        try {
+            claims = seatReservationService.popPending(BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("좌석 배정 대기열 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (claims.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<SeatClaim>> claimsByRoom = claims.stream()
+                .collect(Collectors.groupingBy(SeatClaim::roomId, LinkedHashMap::new, Collectors.toList()));
+
+        claimsByRoom.forEach(this::persistRoom);
+    }
+
+    private void persistRoom(Long roomId, List<SeatClaim> claims) {
+        try {
+            int inserted = participantBatchWriter.persist(roomId, claims);
+            log.debug("좌석 DB 반영: roomId={}, 요청={}, 반영={}", roomId, claims.size(), inserted);
+        } catch (DataIntegrityViolationException e) {
+            // 배치 안의 일부 항목 문제(탈퇴한 사용자 등) → 한 건씩 다시 시도해서 문제 항목만 격리
+            claims.forEach(this::persistSingle);
+        } catch (Exception e) {
+            log.warn("좌석 DB 반영 실패, 대기열로 되돌림: roomId={}, count={}, error={}",
+                    roomId, claims.size(), e.getMessage());
+            seatReservationService.requeue(claims);
+        }
+    }
+
+    private void persistSingle(SeatClaim claim) {
+        try {
+            participantBatchWriter.persist(claim.roomId(), List.of(claim));
+        } catch (DataIntegrityViolationException e) {
+            log.error("좌석 DB 반영 불가, 격리: {}, error={}", claim, e.getMessage());
+            seatReservationService.deadLetter(claim);
+        } catch (Exception e) {
+            seatReservationService.requeue(List.of(claim));
+        }
+    }
+}
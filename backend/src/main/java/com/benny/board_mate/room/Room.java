@@ -53,6 +53,9 @@ public class Room extends BaseEntity {
     @Version
     private Long version;
 
+    // 마지막으로 반영된 분산 락 fencing token
+    private Long lockToken;
+
     @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT false")
     private boolean reminderSent = false;
 
@@ -106,6 +109,17 @@ public class Room extends BaseEntity {
         this.roomStatus = RoomStatus.CLOSED;
     }
 
+    /**
+     * 분산 락 fencing token 검사
+     * 더 나중에 발급된 토큰으로 이미 변경된 방이면 (락 임대 시간 초과 후 늦게 도착한 쓰기) 거부
+     */
+    public void fence(long token) {
+        if (this.lockToken != null && token < this.lockToken) {
+            throw new BusinessException(ErrorCode.ROOM_LOCK_EXPIRED);
+        }
+        this.lockToken = token;
+    }
+
     public void markReminderSent() {
         this.reminderSent = true;
     }
@@ -37,6 +37,9 @@ public class RoomController {
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<RoomResponse>>> getWaitingRooms(
             @ModelAttribute RoomSearchRequest request) {
+        if (request.isCursorMode()) {
+            return ResponseEntity.ok(ApiResponse.ok(roomService.scrollRooms(request)));
+        }
         return ResponseEntity.ok(ApiResponse.ok(PageResponse.from(roomService.searchRooms(request))));
     }
 
@@ -1,9 +1,16 @@
 package com.benny.board_mate.room;
 
+import com.benny.board_mate.room.dto.RoomResponse;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,13 +20,68 @@ import java.util.Optional;
 
 public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room> {
 
-    List<Room> findByRoomStatusOrderByCreatedAtDesc(RoomStatus roomStatus);
+    // 목록 조회용: host, game을 함께 조회 (RoomResponse 변환 시 추가 SELECT 방지)
+    @Override
+    @EntityGraph(attributePaths = {"host", "game"})
+    Page<Room> findAll(Specification<Room> spec, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = {"host", "game"})
+    List<Room> findAll(Specification<Room> spec, Sort sort);
+
+    // 목록 조회용 read model: RoomResponse를 쿼리 한 번으로 생성
+    @Query("SELECT new com.benny.board_mate.room.dto.RoomResponse(" +
+           "r.id, h.nickname, g.title, g.bggId, r.region, r.cafeName, r.gameDate, " +
+           "r.maxParticipants, r.currentParticipants, r.roomStatus, r.description, r.createdAt) " +
+           "FROM Room r JOIN r.host h JOIN r.game g " +
+           "WHERE r.roomStatus = :roomStatus " +
+           "ORDER BY r.createdAt DESC")
+    List<RoomResponse> findResponsesByRoomStatus(@Param("roomStatus") RoomStatus roomStatus);
+
+    @Query("SELECT new com.benny.board_mate.room.dto.RoomResponse(" +
+           "r.id, h.nickname, g.title, g.bggId, r.region, r.cafeName, r.gameDate, " +
+           "r.maxParticipants, r.currentParticipants, r.roomStatus, r.description, r.createdAt) " +
+           "FROM Participant p JOIN p.room r JOIN r.host h JOIN r.game g " +
+           "WHERE p.user.id = :userId AND r.deletedAt IS NULL " +
+           "ORDER BY r.createdAt DESC")
+    List<RoomResponse> findResponsesByParticipantUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.benny.board_mate.room.dto.RoomResponse(" +
+           "r.id, h.nickname, g.title, g.bggId, r.region, r.cafeName, r.gameDate, " +
+           "r.maxParticipants, r.currentParticipants, r.roomStatus, r.description, r.createdAt) " +
+           "FROM Room r JOIN r.host h JOIN r.game g " +
+           "WHERE r.id = :id")
+    Optional<RoomResponse> findResponseById(@Param("id") Long id);
 
     // 비관적 락
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM Room r WHERE r.id = :id")
     Optional<Room> findByIdForUpdate(@Param("id") Long id);
 
+    // 좌석 원자적 확보: 정원 미만일 때만 1 증가, 정원에 도달하면 FULL (성공 시 1, 실패 시 0 반환)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE rooms SET " +
+                   "current_participants = current_participants + 1, " +
+                   "room_status = CASE WHEN current_participants + 1 >= max_participants " +
+                   "THEN 'FULL' ELSE room_status END, " +
+                   "version = COALESCE(version, 0) + 1, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :id AND current_participants < max_participants",
+           nativeQuery = true)
+    int claimSeat(@Param("id") Long id);
+
+    // Redis에서 이미 배정한 좌석을 한 번에 반영 (정원 검사는 Redis 배정 단계에서 끝남)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE rooms SET " +
+                   "current_participants = current_participants + :count, " +
+                   "room_status = CASE WHEN current_participants + :count >= max_participants " +
+                   "THEN 'FULL' ELSE room_status END, " +
+                   "version = COALESCE(version, 0) + 1, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int addSeats(@Param("id") Long id, @Param("count") int count);
+
     // 리마인더가 필요한 방 조회 (1시간 전 ~ 59분 전, 아직 리마인더 안 보낸 방)
     @Query("SELECT r FROM Room r WHERE r.roomStatus IN :statuses " +
            "AND r.reminderSent = false " +
@@ -1,23 +1,23 @@
 package com.benny.board_mate.room;
 
-import com.benny.board_mate.common.config.RedisConfig;
 import com.benny.board_mate.common.exception.BusinessException;
 import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.common.response.PageResponse;
 import com.benny.board_mate.game.BoardGame;
 import com.benny.board_mate.game.GameRepository;
 import com.benny.board_mate.participant.Participant;
 import com.benny.board_mate.participant.ParticipantRepository;
+import com.benny.board_mate.participant.SeatReservationService;
 import com.benny.board_mate.room.dto.RoomCreateRequest;
 import com.benny.board_mate.room.dto.RoomResponse;
 import com.benny.board_mate.room.dto.RoomSearchRequest;
 import com.benny.board_mate.user.User;
 import com.benny.board_mate.user.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,9 +32,10 @@ public class RoomService {
     private final GameRepository gameRepository;
     private final UserRepository userRepository;
     private final ParticipantRepository participantRepository;
+    private final WaitingRoomCache waitingRoomCache;
+    private final SeatReservationService seatReservationService;
 
     @Transactional
-    @CacheEvict(value = RedisConfig.CACHE_ROOMS, allEntries = true)
     public RoomResponse createRoom(Long userId, RoomCreateRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -60,19 +61,18 @@ public class RoomService {
                 .user(user)
                 .build());
 
-        return RoomResponse.from(room);
+        RoomResponse response = RoomResponse.from(room);
+        waitingRoomCache.put(response);
+        return response;
     }
 
     public List<RoomResponse> getWaitingRooms() {
-        return roomRepository.findByRoomStatusOrderByCreatedAtDesc(RoomStatus.WAITING)
-                .stream()
-                .map(RoomResponse::from)
-                .toList();
+        return roomRepository.findResponsesByRoomStatus(RoomStatus.WAITING);
     }
 
     public Page<RoomResponse> searchRooms(RoomSearchRequest request) {
         // 필터가 있으면 캐시 없이 DB 조회
-        if (request.getRegion() != null || request.getGameId() != null || request.getDate() != null) {
+        if (request.hasFilter()) {
             PageRequest pageable = PageRequest.of(
                     request.getPage(),
                     request.getSize(),
@@ -82,22 +82,40 @@ public class RoomService {
                     .map(RoomResponse::from);
         }
 
-        // 필터 없으면 캐시된 전체 목록에서 페이지네이션
-        List<RoomResponse> cachedRooms = getCachedWaitingRooms();
-        int start = request.getPage() * request.getSize();
-        int end = Math.min(start + request.getSize(), cachedRooms.size());
+        // 필터 없으면 방 목록 캐시 인덱스에서 한 페이지만 조회
+        return waitingRoomCache.getPage(request.getPage(), request.getSize(), this::loadWaitingRooms);
+    }
 
-        if (start >= cachedRooms.size()) {
-            return Page.empty();
+    /**
+     * 커서 기반 방 목록 조회 (무한 스크롤용)
+     * (createdAt, id) 기준으로 seek 하므로 깊은 페이지도 비용이 같고, COUNT 쿼리를 실행하지 않는다.
+     */
+    public PageResponse<RoomResponse> scrollRooms(RoomSearchRequest request) {
+        int size = Math.max(request.getSize(), 1);
+        Specification<Room> spec = RoomSpecification.searchRooms(request);
+        if (!request.getCursor().isBlank()) {
+            spec = spec.and(RoomSpecification.beforeCursor(RoomCursor.decode(request.getCursor())));
         }
 
-        List<RoomResponse> pageContent = cachedRooms.subList(start, end);
-        PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, cachedRooms.size());
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Room> rooms = roomRepository.findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .project("host", "game")
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rooms.size() > size;
+        List<Room> pageRooms = hasNext ? rooms.subList(0, size) : rooms;
+        String nextCursor = hasNext ? RoomCursor.of(pageRooms.get(size - 1)).encode() : null;
+
+        return PageResponse.ofCursor(
+                pageRooms.stream().map(RoomResponse::from).toList(),
+                size,
+                nextCursor
+        );
     }
 
-    @Cacheable(value = RedisConfig.CACHE_ROOMS, key = "'waiting'")
-    public List<RoomResponse> getCachedWaitingRooms() {
+    private List<RoomResponse> loadWaitingRooms() {
         return roomRepository.findAll(RoomSpecification.searchRooms(new RoomSearchRequest()),
                 Sort.by(Sort.Direction.DESC, "createdAt"))
                 .stream()
@@ -106,13 +124,11 @@ public class RoomService {
     }
 
     public RoomResponse getRoom(Long roomId) {
-        Room room = roomRepository.findById(roomId)
+        return roomRepository.findResponseById(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
-        return RoomResponse.from(room);
     }
 
     @Transactional
-    @CacheEvict(value = RedisConfig.CACHE_ROOMS, allEntries = true)
     public void deleteRoom(Long userId, Long roomId) {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ROOM_NOT_FOUND));
@@ -125,14 +141,11 @@ public class RoomService {
         }
 
         room.softDelete();
+        waitingRoomCache.evict(roomId);
+        seatReservationService.evictRoom(roomId);
     }
 
     public List<RoomResponse> getMyRooms(Long userId) {
-        return participantRepository.findByUserId(userId).stream()
-                .map(Participant::getRoom)
-                .filter(room -> room.getDeletedAt() == null)
-                .sorted((r1, r2) -> r2.getCreatedAt().compareTo(r1.getCreatedAt()))
-                .map(RoomResponse::from)
-                .toList();
+        return roomRepository.findResponsesByParticipantUserId(userId);
     }
 }
\ No newline at end of file
@@ -44,4 +44,18 @@ public class RoomSpecification {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * 커서 이후 행만 조회: (createdAt, id) < (cursor.createdAt, cursor.id)
+     * Criteria API에는 row value 비교가 없어 동등한 OR 조건으로 표현한다.
+     */
+    public static Specification<Room> beforeCursor(RoomCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())
+                )
+        );
+    }
 }
@@ -0,0 +1,339 @@
+package com.benny.board_mate.room;
+
+import com.benny.board_mate.room.dto.RoomResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 대기 중인 방 목록 캐시
+ *
+ * 구조:
+ * - rooms:waiting:index  → Sorted Set (member = roomId, score = createdAt epoch millis)
+ * - rooms:entry:{roomId} → 방 1개의 RoomResponse JSON
+ * - rooms:waiting:loaded → 인덱스가 DB 기준으로 채워졌는지 표시 (TTL 만료 시 재구축)
+ * - rooms:waiting:generation → put/evict마다 증가하는 카운터
+ * - rooms:waiting:rebuilding → 재구축 중인 호출자 표시 (SET NX, 한 번에 한 곳만 재구축)
+ *
+ * 방 하나가 바뀌면 그 방의 엔트리와 인덱스 멤버만 갱신하고,
+ * 목록 조회는 ZREVRANGE로 한 페이지만 읽는다.
+ * 재구축은 임시 키에 채운 뒤 RENAME으로 교체하고, DB를 읽는 동안 generation이 바뀌었으면
+ * (그 사이 커밋된 put/evict를 스냅샷이 덮어쓰지 않도록) 교체하지 않고 다시 읽는다.
+ * Redis 장애 시에는 예외를 삼키고 DB 조회로 대체한다.
+ */
+@Slf4j
+@Component
+public class WaitingRoomCache {
+
+    private static final String INDEX_KEY = "rooms:waiting:index";
+    private static final String LOADED_KEY = "rooms:waiting:loaded";
+    private static final String GENERATION_KEY = "rooms:waiting:generation";
+    private static final String REBUILD_LOCK_KEY = "rooms:waiting:rebuilding";
+    private static final String REBUILD_INDEX_KEY_PREFIX = "rooms:waiting:index:rebuild:";
+    private static final String ENTRY_KEY_PREFIX = "rooms:entry:";
+
+    // 놓친 갱신이 있어도 이 주기마다 DB 기준으로 다시 맞춰진다
+    private static final Duration REBUILD_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration ENTRY_TTL = REBUILD_INTERVAL.multipliedBy(2);
+    // 재구축 중인 호출자가 죽어도 이 시간이 지나면 다른 호출자가 재구축한다
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofSeconds(30);
+    // 스냅샷을 읽는 동안 갱신이 계속 들어오면 이 횟수까지만 다시 읽는다
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+    // 다른 호출자가 재구축 중이면 이 시간 동안 인덱스가 채워지기를 기다린 뒤 DB 조회로 대체
+    private static final int REBUILD_WAIT_POLLS = 20;
+    private static final long REBUILD_WAIT_POLL_MILLIS = 50;
+
+    // 스냅샷을 읽기 전 generation(ARGV[1])이 그대로일 때만 임시 인덱스(KEYS[1])로 교체
+    // KEYS: 임시 인덱스, 인덱스, loaded, generation / ARGV: 읽기 전 generation, loaded TTL millis
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[4]) or '0'
+            if generation ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            else
+                redis.call('DEL', KEYS[2])
+            end
+            redis.call('SET', KEYS[3], '1', 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public WaitingRoomCache(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * 방 목록 한 페이지 조회
+     * 인덱스가 비어 있으면 loader로 전체 목록을 읽어 재구축한다.
+     * 다른 호출자가 이미 재구축 중이면 잠시 기다렸다가 인덱스에서 읽는다.
+     */
+    public Page<RoomResponse> getPage(int page, int size, Supplier<List<RoomResponse>> loader) {
+        PageRequest pageable = PageRequest.of(page, size);
+
+        Page<RoomResponse> cached = readPage(pageable);
+        if (cached != null) {
+            return cached;
+        }
+
+        String token = tryLockRebuild();
+        if (token == null) {
+            Page<RoomResponse> rebuilt = awaitRebuild(pageable);
+            return rebuilt != null ? rebuilt : slice(loader.get(), pageable);
+        }
+        try {
+            return slice(rebuild(loader), pageable);
+        } finally {
+            unlockRebuild(token);
+        }
+    }
+
+    /**
+     * 방 하나의 상태 반영 (트랜잭션 커밋 후 실행)
+     * WAITING이 아니거나 삭제된 방이면 목록에서 제거한다.
+     */
+    public void put(RoomResponse room) {
+        if (room.getRoomStatus() != RoomStatus.WAITING) {
+            evict(room.getId());
+            return;
+        }
+        afterCommit(() -> {
+            String json = objectMapper.writeValueAsString(room);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    // 반영보다 먼저 증가시켜야 진행 중인 재구축이 이 갱신을 덮어쓰지 않는다
+                    ops.opsForValue().increment(GENERATION_KEY);
+                    ops.opsForValue().set(entryKey(room.getId()), json, ENTRY_TTL);
+                    ops.opsForZSet().add(INDEX_KEY, room.getId().toString(), score(room.getCreatedAt()));
+                    return null;
+                }
+            });
+        });
+    }
+
+    /**
+     * 방 하나를 목록에서 제거 (트랜잭션 커밋 후 실행)
+     */
+    public void evict(Long roomId) {
+        afterCommit(() -> {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            redisTemplate.opsForZSet().remove(INDEX_KEY, roomId.toString());
+            redisTemplate.delete(entryKey(roomId));
+        });
+    }
+
+    private Page<RoomResponse> readPage(PageRequest pageable) {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(LOADED_KEY))) {
+                return null;
+            }
+
+            long start = pageable.getOffset();
+            long end = start + pageable.getPageSize() - 1;
+            Set<String> ids = redisTemplate.opsForZSet().reverseRange(INDEX_KEY, start, end);
+            Long total = redisTemplate.opsForZSet().zCard(INDEX_KEY);
+
+            if (ids == null || ids.isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, total != null ? total : 0);
+            }
+
+            List<String> entries = redisTemplate.opsForValue()
+                    .multiGet(ids.stream().map(id -> ENTRY_KEY_PREFIX + id).toList());
+
+            List<RoomResponse> content = new ArrayList<>(ids.size());
+            for (String json : entries) {
+                if (json == null) {
+                    // 엔트리가 만료된 방이 있으면 다음 조회에서 재구축
+                    redisTemplate.delete(LOADED_KEY);
+                    return null;
+                }
+                content.add(objectMapper.readValue(json, RoomResponse.class));
+            }
+
+            return new PageImpl<>(content, pageable, total != null ? total : content.size());
+        } catch (Exception e) {
+            log.warn("Redis 방 목록 조회 실패 (DB 조회로 대체): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * DB 스냅샷으로 임시 인덱스를 채운 뒤 교체, 읽는 동안 갱신이 있었으면 다시 읽는다
+     *
+     * @return 마지막으로 읽은 스냅샷 (교체하지 못했어도 응답에는 그대로 쓴다)
+     */
+    private List<RoomResponse> rebuild(Supplier<List<RoomResponse>> loader) {
+        List<RoomResponse> rooms = null;
+        for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+            String generation;
+            try {
+                generation = Objects.requireNonNullElse(redisTemplate.opsForValue().get(GENERATION_KEY), "0");
+            } catch (Exception e) {
+                log.warn("Redis 방 목록 재구축 실패 (무시): {}", e.getMessage());
+                return rooms != null ? rooms : loader.get();
+            }
+            rooms = loader.get();
+            try {
+                if (swapIndex(rooms, generation)) {
+                    log.debug("대기 방 인덱스 재구축: {}개", rooms.size());
+                    return rooms;
+                }
+                log.debug("대기 방 인덱스 재구축 중 갱신 발생, 다시 읽음 ({}/{})", attempt, MAX_REBUILD_ATTEMPTS);
+            } catch (Exception e) {
+                log.warn("Redis 방 목록 재구축 실패 (무시): {}", e.getMessage());
+                return rooms;
+            }
+        }
+        return rooms;
+    }
+
+    private boolean swapIndex(List<RoomResponse> rooms, String generation) throws JsonProcessingException {
+        List<String> jsons = new ArrayList<>(rooms.size());
+        for (RoomResponse room : rooms) {
+            jsons.add(objectMapper.writeValueAsString(room));
+        }
+        String tempKey = REBUILD_INDEX_KEY_PREFIX + UUID.randomUUID();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int i = 0; i < rooms.size(); i++) {
+                    RoomResponse room = rooms.get(i);
+                    ops.opsForValue().set(entryKey(room.getId()), jsons.get(i), ENTRY_TTL);
+                    ops.opsForZSet().add(tempKey, room.getId().toString(), score(room.getCreatedAt()));
+                }
+                // 교체 전에 죽어도 임시 키가 남지 않도록
+                ops.expire(tempKey, REBUILD_LOCK_TTL);
+                return null;
+            }
+        });
+        Long swapped = redisTemplate.execute(SWAP_SCRIPT,
+                List.of(tempKey, INDEX_KEY, LOADED_KEY, GENERATION_KEY),
+                generation, String.valueOf(REBUILD_INTERVAL.toMillis()));
+        return Long.valueOf(1).equals(swapped);
+    }
+
+    private String tryLockRebuild() {
+        String token = UUID.randomUUID().toString();
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, REBUILD_LOCK_TTL))
+                    ? token : null;
+        } catch (Exception e) {
+            // Redis 장애면 기다려도 인덱스가 채워지지 않으므로 잠금 없이 진행 (재구축은 실패하고 DB 결과만 쓴다)
+            log.warn("Redis 방 목록 재구축 잠금 실패 (DB 조회로 대체): {}", e.getMessage());
+            return token;
+        }
+    }
+
+    private void unlockRebuild(String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+        } catch (Exception e) {
+            // REBUILD_LOCK_TTL이 지나면 풀린다
+            log.warn("Redis 방 목록 재구축 잠금 해제 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private Page<RoomResponse> awaitRebuild(PageRequest pageable) {
+        for (int i = 0; i < REBUILD_WAIT_POLLS; i++) {
+            try {
+                Thread.sleep(REBUILD_WAIT_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Page<RoomResponse> cached = readPage(pageable);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private Page<RoomResponse> slice(List<RoomResponse> rooms, PageRequest pageable) {
+        int start = (int) Math.min(pageable.getOffset(), rooms.size());
+        int end = Math.min(start + pageable.getPageSize(), rooms.size());
+        return new PageImpl<>(rooms.subList(start, end), pageable, rooms.size());
+    }
+
+    private void afterCommit(CacheAction action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    run(action);
+                }
+            });
+        } else {
+            run(action);
+        }
+    }
+
+    private void run(CacheAction action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Redis 방 캐시 갱신 실패 (무시): {}", e.getMessage());
+            // 갱신을 놓쳤으면 다음 조회 때 DB 기준으로 재구축
+            try {
+                redisTemplate.delete(LOADED_KEY);
+            } catch (Exception ignored) {
+                // LOADED_KEY TTL이 만료되면 재구축된다
+            }
+        }
+    }
+
+    private String entryKey(Long roomId) {
+        return ENTRY_KEY_PREFIX + roomId;
+    }
+
+    private double score(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return System.currentTimeMillis();
+        }
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @FunctionalInterface
+    private interface CacheAction {
+        void run() throws JsonProcessingException;
+    }
+}
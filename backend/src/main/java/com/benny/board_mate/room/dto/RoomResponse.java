@@ -2,13 +2,17 @@ package com.benny.board_mate.room.dto;
 
 import com.benny.board_mate.room.Room;
 import com.benny.board_mate.room.RoomStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class RoomResponse {
 
     private Long id;
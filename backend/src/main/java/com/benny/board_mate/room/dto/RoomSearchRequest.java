@@ -17,4 +17,15 @@ public class RoomSearchRequest {
 
     private int page = 0;
     private int size = 10;
+
+    // 커서 모드: 파라미터가 있으면(첫 페이지는 빈 값) page 대신 커서로 조회
+    private String cursor;
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    public boolean hasFilter() {
+        return region != null || gameId != null || date != null;
+    }
 }
@@ -5,7 +5,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "sommelier")
 public record SommelierProperties(
         Gemini gemini,
-        Conversation conversation
+        Conversation conversation,
+        ResponseCache responseCache,
+        Prompt prompt
 ) {
     public record Gemini(
             String apiKey,
@@ -19,4 +21,16 @@ public record SommelierProperties(
             int maxHistory,
             int ttlHours
     ) {}
+
+    public record ResponseCache(
+            boolean enabled,
+            double similarityThreshold,
+            int maxEntries,
+            int ttlMinutes
+    ) {}
+
+    public record Prompt(
+            int inputTokenBudget,
+            int summaryMaxTokens
+    ) {}
 }
@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Sommelier", description = "보드게임 소믈리에 - AI 기반 게임 추천 챗봇")
 @RestController
@@ -71,4 +72,22 @@ public class SommelierController {
         sommelierService.clearHistory(sessionId);
         return ResponseEntity.ok(ApiResponse.ok());
     }
+
+    @Operation(summary = "응답 캐시 통계", description = "첫 질문 시맨틱 응답 캐시의 적중률과 크기를 조회합니다")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getResponseCacheStats() {
+        return ResponseEntity.ok(ApiResponse.ok(sommelierService.getResponseCacheStats()));
+    }
+
+    @Operation(summary = "단계별 소요 시간", description = "히스토리 조회, 임베딩, 검색, 첫 토큰까지의 평균/최대 시간을 조회합니다")
+    @GetMapping("/timings")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStageTimings() {
+        return ResponseEntity.ok(ApiResponse.ok(sommelierService.getStageTimings()));
+    }
+
+    @Operation(summary = "프롬프트 크기 통계", description = "요청별 입력 토큰(근사치), 요약으로 접은 메시지 수, 중복 제거한 게임 수를 조회합니다")
+    @GetMapping("/prompt-stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPromptStats() {
+        return ResponseEntity.ok(ApiResponse.ok(sommelierService.getPromptStats()));
+    }
 }
@@ -1,46 +1,67 @@
 package com.benny.board_mate.sommelier.service;
 
+import com.benny.board_mate.sommelier.config.SommelierProperties;
 import com.benny.board_mate.sommelier.dto.ChatMessage;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
+/**
+ * 소믈리에 대화 히스토리 (Redis 리스트, 메시지 1개 = 원소 1개)
+ *
+ * 추가는 RPUSH + LTRIM + EXPIRE를 한 파이프라인으로 보내 왕복 1번에 끝난다.
+ * 기존 히스토리를 읽어 다시 쓰지 않으므로 대화가 길어져도 추가 비용이 일정하고,
+ * 같은 세션에 동시에 추가해도 덮어쓰기로 메시지가 사라지지 않는다.
+ * 한 턴(질문 + 답변)은 RPUSH 한 번에 넣어 다른 턴과 섞이지 않는다.
+ *
+ * 원소 인코딩: [버전 1B][역할 1B][시각 epoch millis(UTC) 8B][내용 UTF-8]
+ */
 @Service
 @Slf4j
 public class SommelierHistoryService {
 
+    // 이전 JSON 문자열 형식(sommelier:history:*)과 키 타입이 달라 새 접두사를 쓴다 (이전 키는 TTL로 정리됨)
+    private static final String KEY_PREFIX = "sommelier:conversation:";
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte ROLE_USER = 0;
+    private static final byte ROLE_ASSISTANT = 1;
+    private static final int HEADER_BYTES = 2 + Long.BYTES;
+
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final int maxHistory;
+    private final long ttlSeconds;
 
-    public SommelierHistoryService(RedisTemplate<String, String> redisTemplate) {
+    public SommelierHistoryService(RedisTemplate<String, String> redisTemplate, SommelierProperties properties) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.maxHistory = properties.conversation().maxHistory();
+        this.ttlSeconds = properties.conversation().ttlHours() * 3600L;
     }
 
-    private static final String KEY_PREFIX = "sommelier:history:";
-    private static final int MAX_HISTORY = 20;
-    private static final int TTL_HOURS = 24;
-
-    private String getKey(String sessionId) {
-        return KEY_PREFIX + sessionId;
+    private byte[] getKey(String sessionId) {
+        return (KEY_PREFIX + sessionId).getBytes(StandardCharsets.UTF_8);
     }
 
     public List<ChatMessage> getHistory(String sessionId) {
         try {
-            String key = getKey(sessionId);
-            String json = redisTemplate.opsForValue().get(key);
-            if (json == null) {
-                return new ArrayList<>();
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.listCommands().lRange(getKey(sessionId), 0, -1));
+            List<ChatMessage> history = new ArrayList<>();
+            if (values != null) {
+                for (byte[] value : values) {
+                    history.add(decode(value));
+                }
             }
-            return objectMapper.readValue(json, new TypeReference<List<ChatMessage>>() {});
+            return history;
         } catch (Exception e) {
             log.warn("Redis 히스토리 조회 실패 (무시): {}", e.getMessage());
             return new ArrayList<>();
@@ -48,35 +69,70 @@ public class SommelierHistoryService {
     }
 
     public void addMessage(String sessionId, ChatMessage message) {
-        try {
-            List<ChatMessage> history = getHistory(sessionId);
-            history.add(message);
-            if (history.size() > MAX_HISTORY) {
-                history = history.subList(history.size() - MAX_HISTORY, history.size());
-            }
-            saveHistory(sessionId, history);
-        } catch (Exception e) {
-            log.warn("Redis 메시지 추가 실패 (무시): {}", e.getMessage());
-        }
+        addMessages(sessionId, message);
     }
 
-    public void saveHistory(String sessionId, List<ChatMessage> history) {
+    /**
+     * 메시지들을 순서대로 추가하고 최근 max-history개만 남긴 뒤 TTL 갱신
+     */
+    public void addMessages(String sessionId, ChatMessage... messages) {
+        if (messages.length == 0) {
+            return;
+        }
         try {
-            String key = getKey(sessionId);
-            String json = objectMapper.writeValueAsString(history);
-            redisTemplate.opsForValue().set(key, json, TTL_HOURS, TimeUnit.HOURS);
+            byte[] key = getKey(sessionId);
+            byte[][] values = new byte[messages.length][];
+            for (int i = 0; i < messages.length; i++) {
+                values[i] = encode(messages[i]);
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.listCommands().rPush(key, values);
+                connection.listCommands().lTrim(key, -maxHistory, -1);
+                connection.keyCommands().expire(key, ttlSeconds);
+                return null;
+            });
         } catch (Exception e) {
-            log.warn("Redis 히스토리 저장 실패 (무시): {}", e.getMessage());
+            log.warn("Redis 메시지 추가 실패 (무시): {}", e.getMessage());
         }
     }
 
     public void clearHistory(String sessionId) {
         try {
-            String key = getKey(sessionId);
-            redisTemplate.delete(key);
+            redisTemplate.delete(KEY_PREFIX + sessionId);
             log.info("Cleared sommelier history: sessionId={}", sessionId);
         } catch (Exception e) {
             log.warn("Redis 히스토리 삭제 실패 (무시): {}", e.getMessage());
         }
     }
+
+    static byte[] encode(ChatMessage message) {
+        byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+        LocalDateTime timestamp = message.timestamp() != null ? message.timestamp() : LocalDateTime.now();
+        return ByteBuffer.allocate(HEADER_BYTES + content.length)
+                .put(FORMAT_VERSION)
+                .put(roleCode(message.role()))
+                .putLong(timestamp.toInstant(ZoneOffset.UTC).toEpochMilli())
+                .put(content)
+                .array();
+    }
+
+    static ChatMessage decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("알 수 없는 히스토리 형식: " + version);
+        }
+        String role = buffer.get() == ROLE_USER ? "user" : "assistant";
+        LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZoneOffset.UTC);
+        String content = new String(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES, StandardCharsets.UTF_8);
+        return new ChatMessage(role, content, timestamp);
+    }
+
+    private static byte roleCode(String role) {
+        return switch (role) {
+            case "user" -> ROLE_USER;
+            case "assistant" -> ROLE_ASSISTANT;
+            default -> throw new IllegalArgumentException("지원하지 않는 역할: " + role);
+        };
+    }
 }
@@ -0,0 +1,378 @@
+package com.benny.board_mate.sommelier.service;
+
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.sommelier.config.SommelierProperties;
+import com.benny.board_mate.sommelier.dto.ChatMessage;
+import com.benny.board_mate.sommelier.dto.ConversationMessage;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 입력 토큰 예산 안에서 Gemini 프롬프트(시스템 프롬프트 + 대화 히스토리) 구성
+ *
+ * - 토큰 수는 로컬 근사치로 센다 (한글/한자 1글자 ≈ 1토큰, 그 외 4글자 ≈ 1토큰)
+ * - 예산을 넘으면 오래된 턴(질문 + 답변)부터 요약으로 접는다. 요약은 세션별로 Redis에 두고
+ *   새로 접히는 턴만 덧붙이므로(rolling) 매 요청마다 다시 만들지 않는다
+ * - 예산을 넘을 때만, 함께 보내는 히스토리의 답변에 이미 나온 게임은 한 줄로 줄인다
+ *   (접혀서 빠진 턴에만 나온 게임은 다시 자세히 넣는다)
+ * - 히스토리를 다 접어도 넘으면 순위가 낮은 게임부터 뺀다 (최소 1개는 유지)
+ */
+@Slf4j
+@Component
+public class SommelierPromptBuilder {
+
+    static final String SYSTEM_PROMPT = """
+        당신은 '보드게임 소믈리에'입니다. 사용자의 취향과 상황에 맞는 보드게임을 추천해주는 전문가예요.
+
+        ## 응답 스타일
+        1. 한국어로 답변하세요
+        2. 친근하고 전문적인 소믈리에처럼 대화하세요
+        3. 게임 이름은 **굵게** 표시하세요
+        4. 추천할 때는 왜 그 게임을 추천하는지 이유를 설명하세요
+        5. 비교 요청 시 장단점을 명확히 비교하세요
+        6. 모르는 게임은 솔직히 "죄송합니다, 해당 게임 정보가 없습니다"라고 답변하세요
+
+        ## 참고할 게임 정보
+        %s
+
+        이 정보를 바탕으로 사용자의 질문에 답변해주세요.
+        """;
+
+    private static final String SUMMARY_SECTION = "\n## 이전 대화 요약\n%s\n";
+    private static final String STATE_KEY_PREFIX = "sommelier:prompt-state:";
+    private static final int SUMMARY_LINE_CHARS = 80;
+    private static final int DESCRIPTION_CHARS = 200;
+    private static final Pattern BOLD = Pattern.compile("\\*\\*(.+?)\\*\\*");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int inputTokenBudget;
+    private final int summaryMaxTokens;
+    private final int ttlHours;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder totalInputTokens = new LongAdder();
+    private final LongAccumulator maxInputTokens = new LongAccumulator(Math::max, 0);
+    private final LongAdder overBudget = new LongAdder();
+    private final LongAdder summarizedRequests = new LongAdder();
+    private final LongAdder foldedMessages = new LongAdder();
+    private final LongAdder dedupedGames = new LongAdder();
+    private final LongAdder droppedGames = new LongAdder();
+
+    public SommelierPromptBuilder(RedisTemplate<String, String> redisTemplate, SommelierProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.inputTokenBudget = properties.prompt().inputTokenBudget();
+        this.summaryMaxTokens = properties.prompt().summaryMaxTokens();
+        this.ttlHours = properties.conversation().ttlHours();
+    }
+
+    /**
+     * Gemini에 보낼 프롬프트. 응답이 끝나면 save()로 다음 턴에 쓸 요약을 저장한다
+     */
+    public record Prompt(
+            String systemPrompt,
+            List<ConversationMessage> history,
+            int inputTokens,
+            State nextState
+    ) {}
+
+    /**
+     * 세션별 프롬프트 상태: 접힌 턴의 요약 줄, 마지막으로 접힌 메시지 시각
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record State(
+            List<String> summaryLines,
+            LocalDateTime summarizedThrough
+    ) {
+        static State empty() {
+            return new State(List.of(), null);
+        }
+    }
+
+    /**
+     * games는 관련도 순, history는 현재 질문 저장 전 히스토리
+     */
+    public Prompt build(String sessionId, List<BoardGame> games, List<ChatMessage> history, String userMessage) {
+        State state = loadState(sessionId);
+
+        // 이전 요청에서 이미 접힌 메시지는 다시 넣지 않는다
+        LocalDateTime summarizedThrough = state.summarizedThrough();
+        List<ChatMessage> recent = new ArrayList<>(history.stream()
+                .filter(message -> summarizedThrough == null || message.timestamp().isAfter(summarizedThrough))
+                .toList());
+        List<String> summaryLines = new ArrayList<>(state.summaryLines());
+        List<BoardGame> contextGames = new ArrayList<>(games);
+
+        int userTokens = estimateTokens(userMessage);
+        int historyTokens = recent.stream().mapToInt(message -> estimateTokens(message.content())).sum();
+        Set<Long> compacted = Set.of();
+        String systemPrompt = systemPrompt(contextGames, compacted, summaryLines);
+        int total = estimateTokens(systemPrompt) + historyTokens + userTokens;
+        if (total > inputTokenBudget) {
+            overBudget.increment();
+
+            // 1. 보내는 히스토리에 이미 나온 게임은 한 줄로
+            compacted = mentionedIn(recent, contextGames);
+            systemPrompt = systemPrompt(contextGames, compacted, summaryLines);
+            total = estimateTokens(systemPrompt) + historyTokens + userTokens;
+        }
+
+        // 2. 오래된 턴부터 요약으로 접기 (user로 시작하도록 턴 단위)
+        int folded = 0;
+        while (total > inputTokenBudget && !recent.isEmpty()) {
+            List<ChatMessage> turn = new ArrayList<>();
+            turn.add(recent.removeFirst());
+            while (!recent.isEmpty() && !"user".equals(recent.getFirst().role())) {
+                turn.add(recent.removeFirst());
+            }
+            for (ChatMessage message : turn) {
+                historyTokens -= estimateTokens(message.content());
+            }
+            summaryLines.addAll(summarize(turn));
+            capSummary(summaryLines);
+            summarizedThrough = turn.getLast().timestamp();
+            folded += turn.size();
+
+            // 접힌 턴에만 나온 게임은 더 이상 히스토리에 없으므로 다시 자세히
+            compacted = mentionedIn(recent, contextGames);
+            systemPrompt = systemPrompt(contextGames, compacted, summaryLines);
+            total = estimateTokens(systemPrompt) + historyTokens + userTokens;
+        }
+
+        // 3. 그래도 넘으면 순위 낮은 게임부터 제외
+        int dropped = 0;
+        while (total > inputTokenBudget && contextGames.size() > 1) {
+            contextGames.removeLast();
+            dropped++;
+            systemPrompt = systemPrompt(contextGames, compacted, summaryLines);
+            total = estimateTokens(systemPrompt) + historyTokens + userTokens;
+        }
+
+        int deduped = 0;
+        for (BoardGame game : contextGames) {
+            if (compacted.contains(game.getBggId())) {
+                deduped++;
+            }
+        }
+        record(total, folded, deduped, dropped, !summaryLines.isEmpty());
+        if (folded > 0 || dropped > 0) {
+            log.debug("소믈리에 프롬프트 축소: sessionId={}, tokens={}, folded={}, droppedGames={}",
+                    sessionId, total, folded, dropped);
+        }
+
+        List<ConversationMessage> conversation = recent.stream()
+                .map(message -> new ConversationMessage(message.role(), message.content(), message.timestamp()))
+                .toList();
+        return new Prompt(systemPrompt, conversation, total,
+                new State(List.copyOf(summaryLines), summarizedThrough));
+    }
+
+    /**
+     * 히스토리의 답변에 제목(원제 또는 한글 제목)이 나온 게임
+     */
+    static Set<Long> mentionedIn(List<ChatMessage> history, List<BoardGame> games) {
+        Set<Long> mentioned = new HashSet<>();
+        for (ChatMessage message : history) {
+            if ("user".equals(message.role())) {
+                continue;
+            }
+            for (BoardGame game : games) {
+                if (message.content().contains(game.getTitle())
+                        || (game.getTitleKorean() != null && message.content().contains(game.getTitleKorean()))) {
+                    mentioned.add(game.getBggId());
+                }
+            }
+        }
+        return mentioned;
+    }
+
+    public void save(String sessionId, Prompt prompt) {
+        save(sessionId, prompt.nextState());
+    }
+
+    /**
+     * 프롬프트를 만들지 않은 턴(캐시된 답변 재생)에도 호출해 이전 세션의 요약이 남지 않게 한다
+     */
+    public void save(String sessionId, State state) {
+        try {
+            String json = objectMapper.writeValueAsString(state);
+            redisTemplate.opsForValue().set(STATE_KEY_PREFIX + sessionId, json, ttlHours, TimeUnit.HOURS);
+        } catch (Exception e) {
+            log.warn("Redis 프롬프트 상태 저장 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    public void clear(String sessionId) {
+        try {
+            redisTemplate.delete(STATE_KEY_PREFIX + sessionId);
+        } catch (Exception e) {
+            log.warn("Redis 프롬프트 상태 삭제 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private State loadState(String sessionId) {
+        try {
+            String json = redisTemplate.opsForValue().get(STATE_KEY_PREFIX + sessionId);
+            return json == null ? State.empty() : objectMapper.readValue(json, State.class);
+        } catch (Exception e) {
+            log.warn("Redis 프롬프트 상태 조회 실패 (무시): {}", e.getMessage());
+            return State.empty();
+        }
+    }
+
+    private String systemPrompt(List<BoardGame> games, Set<Long> compactedGameIds, List<String> summaryLines) {
+        String prompt = String.format(SYSTEM_PROMPT, buildGameContext(games, compactedGameIds));
+        if (summaryLines.isEmpty()) {
+            return prompt;
+        }
+        return prompt + String.format(SUMMARY_SECTION, String.join("\n", summaryLines));
+    }
+
+    private String buildGameContext(List<BoardGame> games, Set<Long> compactedGameIds) {
+        if (games.isEmpty()) {
+            return "관련 게임 정보가 없습니다.";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (BoardGame game : games) {
+            sb.append("- **").append(game.getTitle()).append("**");
+            if (game.getTitleKorean() != null) {
+                sb.append(" (").append(game.getTitleKorean()).append(")");
+            }
+            // 함께 보내는 히스토리에 이미 나온 게임은 한 줄로
+            if (compactedGameIds.contains(game.getBggId())) {
+                sb.append(" · ").append(game.getMinPlayers()).append("-").append(game.getMaxPlayers()).append("명");
+                if (game.getPlaytime() != null) {
+                    sb.append(" · ").append(game.getPlaytime()).append("분");
+                }
+                sb.append(" (앞에서 소개함)\n");
+                continue;
+            }
+            sb.append("\n");
+            sb.append("  - 플레이어: ").append(game.getMinPlayers()).append("-").append(game.getMaxPlayers()).append("명\n");
+            if (game.getPlaytime() != null) {
+                sb.append("  - 플레이 시간: ").append(game.getPlaytime()).append("분\n");
+            }
+            if (game.getDifficulty() != null) {
+                sb.append("  - 난이도: ").append(game.getDifficulty()).append("\n");
+            }
+            if (game.getMechanics() != null) {
+                sb.append("  - 메커니즘: ").append(game.getMechanics()).append("\n");
+            }
+            if (game.getDescription() != null) {
+                String desc = game.getDescription();
+                if (desc.length() > DESCRIPTION_CHARS) {
+                    desc = desc.substring(0, DESCRIPTION_CHARS) + "...";
+                }
+                sb.append("  - 설명: ").append(desc).append("\n");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 접힌 턴 요약: 질문은 앞부분만, 답변은 추천한 게임(굵은 글씨) 이름만 (없으면 앞부분)
+     */
+    static List<String> summarize(List<ChatMessage> turn) {
+        List<String> lines = new ArrayList<>();
+        for (ChatMessage message : turn) {
+            if ("user".equals(message.role())) {
+                lines.add("- 질문: " + truncate(message.content()));
+                continue;
+            }
+            Set<String> names = new LinkedHashSet<>();
+            Matcher matcher = BOLD.matcher(message.content());
+            while (matcher.find()) {
+                names.add(matcher.group(1).trim());
+            }
+            lines.add(names.isEmpty()
+                    ? "  → 답변: " + truncate(message.content())
+                    : "  → 추천: " + String.join(", ", names));
+        }
+        return lines;
+    }
+
+    // 요약이 summary-max-tokens를 넘으면 오래된 줄부터 버린다
+    private void capSummary(List<String> summaryLines) {
+        int tokens = summaryLines.stream().mapToInt(SommelierPromptBuilder::estimateTokens).sum();
+        while (tokens > summaryMaxTokens && summaryLines.size() > 1) {
+            tokens -= estimateTokens(summaryLines.removeFirst());
+        }
+    }
+
+    private static String truncate(String text) {
+        String line = text.replaceAll("\\s+", " ").trim();
+        return line.length() > SUMMARY_LINE_CHARS ? line.substring(0, SUMMARY_LINE_CHARS) + "..." : line;
+    }
+
+    /**
+     * 근사 토큰 수: 한글/한자/가나는 글자당 1, 나머지(영문, 숫자, 공백, 기호)는 4글자당 1
+     */
+    static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int wide = 0;
+        int narrow = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+            if (script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA) {
+                wide++;
+            } else {
+                narrow++;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return wide + (narrow + 3) / 4;
+    }
+
+    private void record(int inputTokens, int folded, int deduped, int dropped, boolean summarized) {
+        requests.increment();
+        totalInputTokens.add(inputTokens);
+        maxInputTokens.accumulate(inputTokens);
+        foldedMessages.add(folded);
+        dedupedGames.add(deduped);
+        droppedGames.add(dropped);
+        if (summarized) {
+            summarizedRequests.increment();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long n = requests.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inputTokenBudget", inputTokenBudget);
+        stats.put("requests", n);
+        stats.put("avgInputTokens", n == 0 ? 0 : totalInputTokens.sum() / n);
+        stats.put("maxInputTokens", maxInputTokens.get());
+        stats.put("overBudgetRequests", overBudget.sum());
+        stats.put("summarizedRequests", summarizedRequests.sum());
+        stats.put("foldedMessages", foldedMessages.sum());
+        stats.put("dedupedGames", dedupedGames.sum());
+        stats.put("droppedGames", droppedGames.sum());
+        return stats;
+    }
+}
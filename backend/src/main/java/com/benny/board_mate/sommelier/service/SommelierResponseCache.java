@@ -0,0 +1,218 @@
+package com.benny.board_mate.sommelier.service;
+
+import com.benny.board_mate.game.GameCatalogChangedEvent;
+import com.benny.board_mate.sommelier.config.SommelierProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 소믈리에 첫 질문 응답 캐시 (시맨틱 캐시, 인스턴스 메모리)
+ *
+ * - 대화 히스토리가 없는 첫 질문만 대상 (히스토리가 있으면 답이 문맥에 따라 달라짐)
+ * - 질의 임베딩과 저장된 질문 임베딩의 코사인 유사도가 similarity-threshold 이상이면 저장된 답변 청크를 반환
+ * - max-entries를 넘으면 가장 오래 쓰이지 않은 항목부터 제거 (LRU), ttl-minutes가 지나면 만료
+ * - 프롬프트 버전(시스템 프롬프트 + 모델 설정)이 다른 항목은 쓰지 않고,
+ *   카탈로그가 바뀌면(GameCatalogChangedEvent) 전부 비운다 - 추천 근거가 된 게임 정보가 달라지므로
+ *
+ * 카탈로그 변경은 다른 인스턴스에서도 일어나므로 Redis의 카탈로그 epoch(sommelier:response-cache:epoch)를 기준으로 삼는다.
+ * - 변경 시 epoch를 INCR하고, 각 항목은 저장 시점의 epoch를 들고 있다가 현재 epoch와 다르면 버려진다
+ * - 호출자는 질문 처리를 시작할 때 epoch()를 읽어 find/put에 넘긴다.
+ *   스트리밍 중에 카탈로그가 바뀌면 put 시점의 epoch와 달라 옛 카탈로그 기준 답변을 저장하지 않는다
+ * - Redis를 읽지 못하면 캐시를 쓰지 않는다 (epoch = -1)
+ *
+ * 항목 수가 수천 개 이하라 전수 비교로 충분하다 (1000 × 768 내적 ≈ 1ms 미만).
+ */
+@Slf4j
+@Component
+public class SommelierResponseCache {
+
+    private static final String EPOCH_KEY = "sommelier:response-cache:epoch";
+    private static final long UNKNOWN_EPOCH = -1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    private long nextId;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SommelierResponseCache(SommelierProperties properties, RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        SommelierProperties.ResponseCache config = properties.responseCache();
+        this.enabled = config != null && config.enabled();
+        this.similarityThreshold = config != null ? config.similarityThreshold() : 1.0;
+        this.maxEntries = config != null ? config.maxEntries() : 0;
+        this.ttlMillis = config != null ? config.ttlMinutes() * 60_000L : 0;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > SommelierResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 카탈로그 epoch (Redis 장애 시 -1 → find/put 모두 건너뜀)
+     */
+    public long epoch() {
+        if (!enabled) {
+            return UNKNOWN_EPOCH;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(EPOCH_KEY);
+            return value != null ? Long.parseLong(value) : 0;
+        } catch (Exception e) {
+            log.warn("소믈리에 응답 캐시 epoch 조회 실패 (캐시 미사용): {}", e.getMessage());
+            return UNKNOWN_EPOCH;
+        }
+    }
+
+    /**
+     * 가장 유사한 저장 질문의 답변 청크 (임계값 미만이면 empty)
+     */
+    public Optional<List<String>> find(float[] queryEmbedding, String promptVersion, long epoch) {
+        if (!enabled || queryEmbedding == null || epoch == UNKNOWN_EPOCH) {
+            return Optional.empty();
+        }
+        float[] query = normalize(queryEmbedding);
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            Long bestId = null;
+            double bestSimilarity = similarityThreshold;
+            Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Entry> candidate = iterator.next();
+                Entry entry = candidate.getValue();
+                if (entry.expiresAt() <= now || entry.epoch() != epoch
+                        || !entry.promptVersion().equals(promptVersion)) {
+                    iterator.remove();
+                    continue;
+                }
+                double similarity = dot(query, entry.embedding());
+                if (similarity >= bestSimilarity) {
+                    bestSimilarity = similarity;
+                    bestId = candidate.getKey();
+                }
+            }
+
+            if (bestId == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            log.debug("소믈리에 응답 캐시 적중: similarity={}", bestSimilarity);
+            return Optional.of(entries.get(bestId).chunks());
+        }
+    }
+
+    /**
+     * 완료된 첫 질문 응답 저장 (이미 임계값 이상으로 비슷한 질문이 있으면 건너뜀)
+     *
+     * @param epoch 질문 처리를 시작할 때 읽은 epoch - 그 사이 카탈로그가 바뀌었으면 저장하지 않는다
+     */
+    public void put(float[] queryEmbedding, String promptVersion, List<String> chunks, long epoch) {
+        if (!enabled || queryEmbedding == null || chunks.isEmpty() || epoch == UNKNOWN_EPOCH) {
+            return;
+        }
+        if (epoch() != epoch) {
+            log.debug("응답 생성 중 카탈로그가 바뀌어 캐시에 저장하지 않음: epoch={}", epoch);
+            return;
+        }
+        float[] embedding = normalize(queryEmbedding);
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+
+        synchronized (this) {
+            for (Entry entry : entries.values()) {
+                if (entry.epoch() == epoch && entry.promptVersion().equals(promptVersion)
+                        && dot(embedding, entry.embedding()) >= similarityThreshold) {
+                    return;
+                }
+            }
+            entries.put(nextId++, new Entry(embedding, promptVersion, epoch, List.copyOf(chunks), expiresAt));
+        }
+    }
+
+    /**
+     * 카탈로그 epoch를 올려 모든 인스턴스의 기존 항목을 무효화하고, 이 인스턴스의 항목은 바로 비운다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(GameCatalogChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().increment(EPOCH_KEY);
+        } catch (Exception e) {
+            log.warn("소믈리에 응답 캐시 epoch 증가 실패 (다른 인스턴스는 TTL까지 유지): {}", e.getMessage());
+        }
+        int cleared = clear();
+        if (cleared > 0) {
+            log.info("게임 카탈로그 변경({})으로 소믈리에 응답 캐시 {}건 삭제", event.reason(), cleared);
+        }
+    }
+
+    public synchronized int clear() {
+        int size = entries.size();
+        entries.clear();
+        return size;
+    }
+
+    public Map<String, Object> stats() {
+        long hit = hits.sum();
+        long miss = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("hits", hit);
+        stats.put("misses", miss);
+        stats.put("hitRate", hit + miss == 0 ? 0.0 : (double) hit / (hit + miss));
+        synchronized (this) {
+            stats.put("size", entries.size());
+        }
+        return stats;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        float scale = norm == 0 ? 0 : (float) (1 / Math.sqrt(norm));
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            return -1;
+        }
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private record Entry(float[] embedding, String promptVersion, long epoch, List<String> chunks, long expiresAt) {
+    }
+}
@@ -3,6 +3,7 @@ package com.benny.board_mate.sommelier.service;
 import com.benny.board_mate.game.BoardGame;
 import com.benny.board_mate.game.GameRepository;
 import com.benny.board_mate.game.service.EmbeddingService;
+import com.benny.board_mate.game.service.HybridGameRetriever;
 import com.benny.board_mate.sommelier.config.SommelierProperties;
 import com.benny.board_mate.sommelier.dto.ChatMessage;
 import com.benny.board_mate.sommelier.dto.ConversationMessage;
@@ -16,6 +17,8 @@ import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 import java.time.Duration;
 
@@ -23,6 +26,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,39 +36,36 @@ import java.util.stream.Collectors;
 public class SommelierService {
 
     private final EmbeddingService embeddingService;
+    private final HybridGameRetriever gameRetriever;
     private final GameRepository gameRepository;
     private final SommelierHistoryService historyService;
+    private final SommelierPromptBuilder promptBuilder;
+    private final SommelierResponseCache responseCache;
+    private final SommelierStageTimings timings;
     private final SommelierProperties properties;
     private final ObjectMapper objectMapper;
     private final WebClient webClient;
-
-    private static final String SYSTEM_PROMPT = """
-        당신은 '보드게임 소믈리에'입니다. 사용자의 취향과 상황에 맞는 보드게임을 추천해주는 전문가예요.
-
-        ## 응답 스타일
-        1. 한국어로 답변하세요
-        2. 친근하고 전문적인 소믈리에처럼 대화하세요
-        3. 게임 이름은 **굵게** 표시하세요
-        4. 추천할 때는 왜 그 게임을 추천하는지 이유를 설명하세요
-        5. 비교 요청 시 장단점을 명확히 비교하세요
-        6. 모르는 게임은 솔직히 "죄송합니다, 해당 게임 정보가 없습니다"라고 답변하세요
-
-        ## 참고할 게임 정보
-        %s
-
-        이 정보를 바탕으로 사용자의 질문에 답변해주세요.
-        """;
+    // 응답 캐시 항목이 만들어진 프롬프트/모델 설정 - 바뀌면 이전 답변은 재사용하지 않는다
+    private final String promptVersion;
 
     public SommelierService(
             EmbeddingService embeddingService,
+            HybridGameRetriever gameRetriever,
             GameRepository gameRepository,
             SommelierHistoryService historyService,
+            SommelierPromptBuilder promptBuilder,
+            SommelierResponseCache responseCache,
+            SommelierStageTimings timings,
             SommelierProperties properties,
             ObjectMapper objectMapper
     ) {
         this.embeddingService = embeddingService;
+        this.gameRetriever = gameRetriever;
         this.gameRepository = gameRepository;
         this.historyService = historyService;
+        this.promptBuilder = promptBuilder;
+        this.responseCache = responseCache;
+        this.timings = timings;
         this.properties = properties;
         this.objectMapper = objectMapper;
         HttpClient httpClient = HttpClient.create()
@@ -71,39 +74,22 @@ public class SommelierService {
                 .baseUrl("https://generativelanguage.googleapis.com/v1beta")
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
+        this.promptVersion = Integer.toHexString(Objects.hash(SommelierPromptBuilder.SYSTEM_PROMPT,
+                properties.gemini().model(), properties.gemini().temperature(), properties.gemini().maxTokens()));
     }
 
     public Flux<SommelierResponse> chat(String sessionId, String userMessage) {
         log.info("소믈리에 채팅 요청: sessionId={}, message={}", sessionId, userMessage);
+        long startNanos = System.nanoTime();
 
-        // 1. 대화 히스토리 먼저 가져오기 (현재 메시지 저장 전)
-        List<ChatMessage> history = historyService.getHistory(sessionId);
-        List<ConversationMessage> conversationHistory = history.stream()
-                .map(msg -> new ConversationMessage(msg.role(), msg.content(), msg.timestamp()))
-                .collect(Collectors.toList());
-
-        // 2. RAG: 관련 게임 검색
-        List<Long> similarGameIds = embeddingService.findSimilarGames(userMessage, 5);
-        List<BoardGame> relevantGames = gameRepository.findAllById(similarGameIds);
-        String gameContext = buildGameContext(relevantGames);
+        // 1. 대화 히스토리 조회(현재 메시지 저장 전)와 질의 임베딩을 동시에 실행
+        Mono<List<ChatMessage>> history = blocking(SommelierStageTimings.HISTORY,
+                () -> historyService.getHistory(sessionId));
+        Mono<Optional<float[]>> queryEmbedding = blocking(SommelierStageTimings.EMBEDDING,
+                () -> Optional.ofNullable(embeddingService.embedQuery(userMessage)));
 
-        // 3. 시스템 프롬프트 구성
-        String systemPrompt = String.format(SYSTEM_PROMPT, gameContext);
-
-        // 4. Gemini 스트리밍 호출
-        StringBuilder fullResponse = new StringBuilder();
-
-        return streamGemini(systemPrompt, conversationHistory, userMessage)
-                .map(text -> {
-                    fullResponse.append(text);
-                    return SommelierResponse.text(text);
-                })
-                .doOnComplete(() -> {
-                    // 응답 완료 시 사용자 메시지와 응답 모두 저장
-                    historyService.addMessage(sessionId, ChatMessage.user(userMessage));
-                    historyService.addMessage(sessionId, ChatMessage.assistant(fullResponse.toString()));
-                })
-                .concatWith(Flux.just(SommelierResponse.done()))
+        return Mono.zip(history, queryEmbedding)
+                .flatMapMany(loaded -> respond(sessionId, userMessage, loaded.getT1(), loaded.getT2().orElse(null), startNanos))
                 .doOnError(error -> log.error("스트림 오류 발생: {}", error.getMessage(), error))
                 .onErrorResume(error -> {
                     log.error("소믈리에 채팅 오류: {}", error.getClass().getSimpleName(), error);
@@ -112,38 +98,104 @@ public class SommelierService {
                 });
     }
 
-    private String buildGameContext(List<BoardGame> games) {
-        if (games.isEmpty()) {
-            return "관련 게임 정보가 없습니다.";
+    private Flux<SommelierResponse> respond(String sessionId, String userMessage, List<ChatMessage> history,
+                                            float[] queryEmbedding, long startNanos) {
+        // 첫 질문이면 비슷한 질문에 대한 이전 답변을 재생
+        boolean firstTurn = history.isEmpty() && responseCache.isEnabled();
+        long cacheEpoch = firstTurn ? responseCache.epoch() : -1;
+        if (firstTurn) {
+            Optional<List<String>> cached = responseCache.find(queryEmbedding, promptVersion, cacheEpoch);
+            if (cached.isPresent()) {
+                return replay(sessionId, userMessage, cached.get(), startNanos);
+            }
         }
 
-        StringBuilder sb = new StringBuilder();
-        for (BoardGame game : games) {
-            sb.append("- **").append(game.getTitle()).append("**");
-            if (game.getTitleKorean() != null) {
-                sb.append(" (").append(game.getTitleKorean()).append(")");
-            }
-            sb.append("\n");
-            sb.append("  - 플레이어: ").append(game.getMinPlayers()).append("-").append(game.getMaxPlayers()).append("명\n");
-            if (game.getPlaytime() != null) {
-                sb.append("  - 플레이 시간: ").append(game.getPlaytime()).append("분\n");
-            }
-            if (game.getDifficulty() != null) {
-                sb.append("  - 난이도: ").append(game.getDifficulty()).append("\n");
-            }
-            if (game.getMechanics() != null) {
-                sb.append("  - 메커니즘: ").append(game.getMechanics()).append("\n");
-            }
-            if (game.getDescription() != null) {
-                String desc = game.getDescription();
-                if (desc.length() > 200) {
-                    desc = desc.substring(0, 200) + "...";
-                }
-                sb.append("  - 설명: ").append(desc).append("\n");
-            }
-            sb.append("\n");
+        // 2. RAG: 관련 게임 검색 (제목 검색 + 벡터 검색 + 게임 조회 모두 JDBC)
+        return blocking(SommelierStageTimings.RETRIEVAL, () -> retrieveGames(userMessage, queryEmbedding))
+                // 3. 토큰 예산 안에서 시스템 프롬프트 + 히스토리 구성 (세션 요약 상태는 Redis)
+                .flatMap(games -> offload(() -> promptBuilder.build(sessionId, games, history, userMessage)))
+                .flatMapMany(prompt -> {
+                    timings.record(SommelierStageTimings.PREPARE, elapsedMillis(startNanos));
+
+                    // 4. Gemini 스트리밍 호출
+                    StringBuilder fullResponse = new StringBuilder();
+                    List<String> chunks = new ArrayList<>();
+
+                    return streamGemini(prompt.systemPrompt(), prompt.history(), userMessage)
+                            .map(text -> {
+                                if (chunks.isEmpty()) {
+                                    timings.record(SommelierStageTimings.FIRST_TOKEN, elapsedMillis(startNanos));
+                                }
+                                fullResponse.append(text);
+                                chunks.add(text);
+                                return SommelierResponse.text(text);
+                            })
+                            .concatWith(offload(() -> {
+                                // 응답 완료 시 사용자 메시지와 응답 모두 저장
+                                historyService.addMessages(sessionId,
+                                        ChatMessage.user(userMessage), ChatMessage.assistant(fullResponse.toString()));
+                                promptBuilder.save(sessionId, prompt);
+                                if (firstTurn) {
+                                    responseCache.put(queryEmbedding, promptVersion, chunks, cacheEpoch);
+                                }
+                                timings.record(SommelierStageTimings.TOTAL, elapsedMillis(startNanos));
+                                return SommelierResponse.done();
+                            }));
+                });
+    }
+
+    /**
+     * 캐시된 답변을 Gemini 스트림과 같은 형태(text 청크들 + done)로 재생
+     */
+    private Flux<SommelierResponse> replay(String sessionId, String userMessage, List<String> chunks, long startNanos) {
+        log.info("소믈리에 응답 캐시 사용: sessionId={}", sessionId);
+        timings.record(SommelierStageTimings.FIRST_TOKEN, elapsedMillis(startNanos));
+        return Flux.fromIterable(chunks)
+                .map(SommelierResponse::text)
+                .concatWith(offload(() -> {
+                    historyService.addMessages(sessionId,
+                            ChatMessage.user(userMessage), ChatMessage.assistant(String.join("", chunks)));
+                    promptBuilder.save(sessionId, SommelierPromptBuilder.State.empty());
+                    timings.record(SommelierStageTimings.TOTAL, elapsedMillis(startNanos));
+                    return SommelierResponse.done();
+                }));
+    }
+
+    // 하이브리드 검색 순위대로 게임 조회 (bggId 기준)
+    private List<BoardGame> retrieveGames(String userMessage, float[] queryEmbedding) {
+        List<Long> bggIds = gameRetriever.retrieve(userMessage, queryEmbedding);
+        if (bggIds.isEmpty()) {
+            return List.of();
         }
-        return sb.toString();
+        Map<Long, BoardGame> games = gameRepository.findByBggIdIn(bggIds).stream()
+                .collect(Collectors.toMap(BoardGame::getBggId, game -> game));
+        return bggIds.stream()
+                .map(games::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 블로킹 호출(Redis, JDBC, 임베딩 HTTP)은 호출 스레드(Netty 이벤트 루프일 수 있음)가 아닌 boundedElastic에서 실행
+     */
+    private <T> Mono<T> offload(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // offload + 작업 소요 시간 기록
+    private <T> Mono<T> blocking(String stage, Callable<T> task) {
+        return offload(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                timings.record(stage, elapsedMillis(start));
+            }
+        });
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
 
     private Flux<String> streamGemini(String systemPrompt, List<ConversationMessage> history, String userMessage) {
@@ -235,11 +287,24 @@ public class SommelierService {
         }
     }
 
+    public Map<String, Object> getResponseCacheStats() {
+        return responseCache.stats();
+    }
+
+    public Map<String, Object> getStageTimings() {
+        return timings.stats();
+    }
+
+    public Map<String, Object> getPromptStats() {
+        return promptBuilder.stats();
+    }
+
     public List<ChatMessage> getHistory(String sessionId) {
         return historyService.getHistory(sessionId);
     }
 
     public void clearHistory(String sessionId) {
         historyService.clearHistory(sessionId);
+        promptBuilder.clear(sessionId);
     }
 }
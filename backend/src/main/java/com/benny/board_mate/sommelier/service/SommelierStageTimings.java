@@ -0,0 +1,65 @@
+package com.benny.board_mate.sommelier.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 소믈리에 채팅 단계별 소요 시간 집계 (첫 토큰까지 어디서 시간이 드는지 확인용)
+ *
+ * 단계: history(히스토리 조회), embedding(질의 임베딩), retrieval(벡터 검색 + 게임 조회),
+ *      prepare(요청 시작 ~ Gemini 호출 직전), first-token(요청 시작 ~ 첫 청크), total(요청 시작 ~ 완료)
+ */
+@Component
+public class SommelierStageTimings {
+
+    public static final String HISTORY = "history";
+    public static final String EMBEDDING = "embedding";
+    public static final String RETRIEVAL = "retrieval";
+    public static final String PREPARE = "prepare";
+    public static final String FIRST_TOKEN = "first-token";
+    public static final String TOTAL = "total";
+
+    private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+
+    public void record(String stage, long millis) {
+        stages.computeIfAbsent(stage, name -> new Stage()).record(millis);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String name : new String[]{HISTORY, EMBEDDING, RETRIEVAL, PREPARE, FIRST_TOKEN, TOTAL}) {
+            Stage stage = stages.get(name);
+            if (stage != null) {
+                stats.put(name, stage.snapshot());
+            }
+        }
+        return stats;
+    }
+
+    private static final class Stage {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+        void record(long millis) {
+            count.increment();
+            totalMillis.add(millis);
+            maxMillis.accumulate(millis);
+        }
+
+        Map<String, Object> snapshot() {
+            long n = count.sum();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("count", n);
+            snapshot.put("avgMs", n == 0 ? 0 : totalMillis.sum() / n);
+            snapshot.put("maxMs", maxMillis.get());
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- Admin background jobs (AdminJobService)
+-- 모든 문장은 재실행해도 안전해야 한다 (spring.sql.init.mode=always)
+
+-- 종류별로 대기/진행 중인 작업은 하나만: 동시에 등록해도 하나만 저장된다 (AdminJobService.submit)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_admin_jobs_active_type
+    ON admin_jobs (type) WHERE status IN ('QUEUED', 'RUNNING');
+
+-- Hibernate가 테이블 생성 시 enum 값으로 만든 CHECK 제약은 ddl-auto=update로 갱신되지 않아
+-- AdminJobType에 새 종류를 추가하면 등록이 실패한다. 값 검증은 애플리케이션(enum)에 맡긴다
+ALTER TABLE admin_jobs DROP CONSTRAINT IF EXISTS admin_jobs_type_check;
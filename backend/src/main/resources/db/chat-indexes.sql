@@ -0,0 +1,6 @@
+-- Chat history indexes (ChatService.getChatHistory)
+-- 모든 문장은 재실행해도 안전해야 한다 (spring.sql.init.mode=always)
+
+-- 내역 페이징: room_id = ? AND id < ? ORDER BY id DESC LIMIT ?
+CREATE INDEX IF NOT EXISTS idx_chat_messages_room_id_id
+    ON chat_messages (room_id, id DESC);
@@ -0,0 +1,46 @@
+-- Game title search indexes (GameTitleSearch / GameTitleTypeahead)
+-- 모든 문장은 재실행해도 안전해야 한다 (spring.sql.init.mode=always)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 제목 부분 일치: lower(title) LIKE '%x%' 와 trigram 단어 유사도 lower(title) %> 'x'
+CREATE INDEX IF NOT EXISTS idx_board_games_title_trgm
+    ON board_games USING gin (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_board_games_title_korean_trgm
+    ON board_games USING gin (lower(title_korean) gin_trgm_ops);
+
+-- 한글 자동완성 (GameTitleTypeahead)
+-- 함수 본문에 세미콜론을 쓰지 않는다 (sql.init이 세미콜론으로 문장을 나눔)
+-- 매핑을 바꾸면 아래 생성 컬럼을 DROP한 뒤 다시 만들어야 저장된 값이 갱신된다
+
+-- 초성만: '카탄' → 'ㅋㅌ' (소문자, 공백 제거, 한글 음절이 아닌 글자는 그대로)
+CREATE OR REPLACE FUNCTION hangul_choseong(input TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+'SELECT string_agg(CASE WHEN ascii(c) BETWEEN 44032 AND 55203
+                        THEN substr(''ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ'', (ascii(c) - 44032) / 588 + 1, 1)
+                        ELSE c END, '''' ORDER BY i)
+ FROM unnest(string_to_array(replace(lower(input), '' '', ''''), NULL)) WITH ORDINALITY AS t(c, i)';
+
+-- 자모 분해: '캍' → 'ㅋㅏㅌ', '과' → 'ㄱㅗㅏ' (겹모음/겹받침도 낱자로, 입력 중인 음절이 완성된 제목의 앞부분과 맞도록)
+CREATE OR REPLACE FUNCTION hangul_jamo(input TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+'SELECT string_agg(CASE WHEN ascii(c) BETWEEN 44032 AND 55203
+                        THEN substr(''ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ'', (ascii(c) - 44032) / 588 + 1, 1)
+                             || (ARRAY[''ㅏ'', ''ㅐ'', ''ㅑ'', ''ㅒ'', ''ㅓ'', ''ㅔ'', ''ㅕ'', ''ㅖ'', ''ㅗ'', ''ㅗㅏ'', ''ㅗㅐ'', ''ㅗㅣ'', ''ㅛ'', ''ㅜ'', ''ㅜㅓ'', ''ㅜㅔ'', ''ㅜㅣ'', ''ㅠ'', ''ㅡ'', ''ㅡㅣ'', ''ㅣ''])[(ascii(c) - 44032) % 588 / 28 + 1]
+                             || (ARRAY['''', ''ㄱ'', ''ㄲ'', ''ㄱㅅ'', ''ㄴ'', ''ㄴㅈ'', ''ㄴㅎ'', ''ㄷ'', ''ㄹ'', ''ㄹㄱ'', ''ㄹㅁ'', ''ㄹㅂ'', ''ㄹㅅ'', ''ㄹㅌ'', ''ㄹㅍ'', ''ㄹㅎ'', ''ㅁ'', ''ㅂ'', ''ㅂㅅ'', ''ㅅ'', ''ㅆ'', ''ㅇ'', ''ㅈ'', ''ㅊ'', ''ㅋ'', ''ㅌ'', ''ㅍ'', ''ㅎ''])[(ascii(c) - 44032) % 28 + 1]
+                        ELSE coalesce((ARRAY[''ㄱㅅ'', ''ㄴㅈ'', ''ㄴㅎ'', ''ㄹㄱ'', ''ㄹㅁ'', ''ㄹㅂ'', ''ㄹㅅ'', ''ㄹㅌ'', ''ㄹㅍ'', ''ㄹㅎ'', ''ㅂㅅ'', ''ㅗㅏ'', ''ㅗㅐ'', ''ㅗㅣ'', ''ㅜㅓ'', ''ㅜㅔ'', ''ㅜㅣ'', ''ㅡㅣ''])[array_position(ARRAY[''ㄳ'', ''ㄵ'', ''ㄶ'', ''ㄺ'', ''ㄻ'', ''ㄼ'', ''ㄽ'', ''ㄾ'', ''ㄿ'', ''ㅀ'', ''ㅄ'', ''ㅘ'', ''ㅙ'', ''ㅚ'', ''ㅝ'', ''ㅞ'', ''ㅟ'', ''ㅢ''], c)], c) END, '''' ORDER BY i)
+ FROM unnest(string_to_array(replace(lower(input), '' '', ''''), NULL)) WITH ORDINALITY AS t(c, i)';
+
+-- 한글 제목|원제 검색 키 (INSERT/UPDATE 경로와 무관하게 DB가 채운다)
+ALTER TABLE board_games ADD COLUMN IF NOT EXISTS title_jamo TEXT
+    GENERATED ALWAYS AS (hangul_jamo(coalesce(title_korean, '') || '|' || title)) STORED;
+
+ALTER TABLE board_games ADD COLUMN IF NOT EXISTS title_choseong TEXT
+    GENERATED ALWAYS AS (hangul_choseong(coalesce(title_korean, '') || '|' || title)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_board_games_title_jamo_trgm
+    ON board_games USING gin (title_jamo gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_board_games_title_choseong_trgm
+    ON board_games USING gin (title_choseong gin_trgm_ops);
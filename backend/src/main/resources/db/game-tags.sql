@@ -0,0 +1,18 @@
+-- Game mechanic/category dictionary + join table (GameTagStore / GameFacetIndex)
+-- 모든 문장은 재실행해도 안전해야 한다 (spring.sql.init.mode=always)
+-- board_games.mechanics / categories TEXT 컬럼은 화면/임베딩용 사본이고, 필터는 이 테이블을 기준으로 한다
+
+CREATE TABLE IF NOT EXISTS game_tags (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(20) NOT NULL,
+    name VARCHAR(200) NOT NULL,
+    UNIQUE (type, name)
+);
+
+CREATE TABLE IF NOT EXISTS board_game_tags (
+    game_id BIGINT NOT NULL REFERENCES board_games (id) ON DELETE CASCADE,
+    tag_id BIGINT NOT NULL REFERENCES game_tags (id) ON DELETE CASCADE,
+    PRIMARY KEY (game_id, tag_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_game_tags_tag ON board_game_tags (tag_id);
@@ -0,0 +1,27 @@
+-- Room search indexes (RoomSpecification.searchRooms / RoomService.scrollRooms)
+-- 모든 문장은 재실행해도 안전해야 한다 (spring.sql.init.mode=always)
+--
+-- room_status는 바인딩 파라미터로 전달되므로 partial index 조건에 넣지 않고 선행 컬럼으로 둔다.
+-- (partial 조건에 파라미터 값이 들어가면 generic plan에서 인덱스를 쓰지 못함)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 기본 목록: room_status = ? AND deleted_at IS NULL ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_rooms_status_created_at
+    ON rooms (room_status, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 지역 검색: lower(region) LIKE '%x%'
+CREATE INDEX IF NOT EXISTS idx_rooms_region_trgm
+    ON rooms USING gin (lower(region) gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+-- 게임 + 날짜 검색: game_id = ? AND game_date >= ? AND game_date < ?
+CREATE INDEX IF NOT EXISTS idx_rooms_game_id_game_date
+    ON rooms (game_id, game_date)
+    WHERE deleted_at IS NULL;
+
+-- 날짜만 지정한 검색: game_date >= ? AND game_date < ?
+CREATE INDEX IF NOT EXISTS idx_rooms_game_date
+    ON rooms (game_date)
+    WHERE deleted_at IS NULL;
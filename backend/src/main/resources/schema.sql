@@ -5,9 +5,6 @@ UPDATE rooms SET reminder_sent = false WHERE reminder_sent IS NULL;
 -- Enable pgvector extension for RAG embeddings
 CREATE EXTENSION IF NOT EXISTS vector;
 
--- Drop old table if dimension changed (Gemini uses 768, OpenAI used 1536)
-DROP TABLE IF EXISTS game_embeddings;
-
 -- Create game_embeddings table with Gemini dimension (768)
 CREATE TABLE IF NOT EXISTS game_embeddings (
     bgg_id BIGINT PRIMARY KEY,
@@ -15,5 +12,13 @@ CREATE TABLE IF NOT EXISTS game_embeddings (
     embedding vector(768)
 );
 
--- Create index for similarity search (need enough rows first, so skip if empty)
--- CREATE INDEX IF NOT EXISTS idx_game_embeddings_vector ON game_embeddings USING ivfflat (embedding vector_cosine_ops) WITH (lists = 100);
+-- 임베딩 일괄 생성 체크포인트 (EmbeddingPipeline): 중단되면 last_bgg_id 다음부터 재개
+CREATE TABLE IF NOT EXISTS embedding_checkpoints (
+    job_name VARCHAR(50) PRIMARY KEY,
+    last_bgg_id BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT false,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- 기동할 때마다 실행되므로 테이블을 지우지 않는다.
+-- 차원 변경 처리와 벡터 인덱스(HNSW/ivfflat) 생성은 GameEmbeddingIndexManager가 행 수를 보고 결정한다.
@@ -0,0 +1,32 @@
+package com.benny.board_mate;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Postgres(pgvector) 통합 테스트 공통 부모
+ *
+ * 컨테이너는 JVM에 하나만 띄워 모든 테스트 클래스가 같이 쓴다 (JVM 종료 시 Testcontainers가 정리).
+ * datasource 설정이 같으므로 @SpringBootTest 설정이 같은 클래스끼리는 Spring 컨텍스트도 재사용된다.
+ * DB도 공유되므로 테이블 전체를 보는 테스트는 @BeforeEach에서 직접 비우고, 나머지는 자기 bggId 범위만 쓴다.
+ * 캐시된 컨텍스트마다 커넥션 풀이 남아 있으므로 max_connections를 넉넉히 둔다.
+ */
+public abstract class PostgresIntegrationTest {
+
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("pgvector/pgvector:pg16").asCompatibleSubstituteFor("postgres"))
+            .withCommand("postgres", "-c", "max_connections=300");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+}
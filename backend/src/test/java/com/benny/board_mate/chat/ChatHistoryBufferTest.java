@@ -0,0 +1,155 @@
+package com.benny.board_mate.chat;
+
+import com.benny.board_mate.chat.dto.ChatMessageResponse;
+import com.benny.board_mate.common.websocket.FanoutMessageReceivedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatHistoryBuffer 테스트")
+class ChatHistoryBufferTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Test
+    @DisplayName("적재 전에는 버퍼로 응답하지 않는다")
+    void find_NotSeeded() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 100, 0);
+        buffer.prepare(ROOM_ID);
+        buffer.append(message(1));
+
+        assertThat(buffer.find(ROOM_ID, null, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최신 메시지와 before 이전 메시지를 시간순으로 반환")
+    void find_LatestAndBefore() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 100, 0);
+        seed(buffer, ROOM_ID, messages(1, 5));
+        buffer.append(message(6));
+
+        assertThat(ids(buffer.find(ROOM_ID, null, 3).orElseThrow())).containsExactly(4L, 5L, 6L);
+        assertThat(ids(buffer.find(ROOM_ID, 4L, 2).orElseThrow())).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("방 전체 내역이 버퍼에 있으면 limit보다 적어도 버퍼로 응답")
+    void find_ReachesStart() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 100, 0);
+        seed(buffer, ROOM_ID, messages(1, 3));
+
+        assertThat(ids(buffer.find(ROOM_ID, null, 5).orElseThrow())).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("오래된 메시지가 밀려난 뒤 부족한 페이지는 DB로 넘긴다")
+    void find_EvictedOlderMessages() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(3, 100, 0);
+        seed(buffer, ROOM_ID, messages(1, 3));
+        buffer.append(message(4));
+
+        assertThat(ids(buffer.find(ROOM_ID, null, 3).orElseThrow())).containsExactly(2L, 3L, 4L);
+        assertThat(buffer.find(ROOM_ID, 2L, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 중 전송된 메시지는 DB 결과와 합쳐진다")
+    void seed_MergesMessagesSentDuringLoad() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 100, 0);
+        long generation = buffer.prepare(ROOM_ID);
+        buffer.append(message(4));
+
+        buffer.seed(ROOM_ID, generation, messages(1, 4));
+        buffer.append(message(3));   // 적재 결과에 이미 있던 메시지의 늦은 커밋 후 추가
+
+        assertThat(ids(buffer.find(ROOM_ID, null, 10).orElseThrow())).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("id 순서와 다르게 도착한 메시지는 제자리에 끼워 넣는다")
+    void append_KeepsIdOrder() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 100, 0);
+        seed(buffer, ROOM_ID, messages(1, 3));
+        buffer.append(message(5));
+        buffer.append(message(4));
+
+        assertThat(ids(buffer.find(ROOM_ID, null, 10).orElseThrow())).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("적재 중 버퍼가 밀려났다 다시 생기면 그 적재는 반영하지 않는다")
+    void seed_SkipsWhenBufferReplacedDuringLoad() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 1, 0);
+        long generation = buffer.prepare(ROOM_ID);
+        buffer.prepare(2L);          // max-rooms=1 → ROOM_ID 버퍼 제거
+        buffer.append(message(4));   // 버퍼가 없어 유실
+        buffer.prepare(ROOM_ID);     // 다른 요청이 새로 준비
+
+        buffer.seed(ROOM_ID, generation, messages(1, 3));
+
+        assertThat(buffer.find(ROOM_ID, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방 수가 max-rooms를 넘으면 가장 오래 사용하지 않은 방부터 제거")
+    void lruEviction() {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 2, 0);
+        seed(buffer, 1L, List.of());
+        seed(buffer, 2L, List.of());
+        buffer.find(1L, null, 1);   // 1번 방 최근 사용
+
+        seed(buffer, 3L, List.of());
+
+        assertThat(buffer.find(1L, null, 1)).isPresent();
+        assertThat(buffer.find(2L, null, 1)).isEmpty();
+        assertThat(buffer.find(3L, null, 1)).isPresent();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 팬아웃된 채팅 메시지도 버퍼에 추가한다")
+    void onRemoteMessage_AppendsFannedOutChat() throws Exception {
+        ChatHistoryBuffer buffer = new ChatHistoryBuffer(10, 100, 0);
+        seed(buffer, ROOM_ID, messages(1, 2));
+        // RedisMessageFanout과 같은 설정으로 직렬화한 payload
+        ObjectMapper fanoutMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        buffer.onRemoteMessage(new FanoutMessageReceivedEvent("/topic/chat/" + ROOM_ID,
+                fanoutMapper.writeValueAsString(message(3))));
+        buffer.onRemoteMessage(new FanoutMessageReceivedEvent("/topic/rooms/" + ROOM_ID, "{\"roomId\":1}"));
+
+        assertThat(buffer.find(ROOM_ID, null, 10)).hasValueSatisfying(result ->
+                assertThat(ids(result)).containsExactly(1L, 2L, 3L));
+    }
+
+    private static void seed(ChatHistoryBuffer buffer, Long roomId, List<ChatMessageResponse> latest) {
+        buffer.seed(roomId, buffer.prepare(roomId), latest);
+    }
+
+    private List<ChatMessageResponse> messages(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(this::message).toList();
+    }
+
+    private ChatMessageResponse message(long id) {
+        return ChatMessageResponse.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .senderId(1L)
+                .senderNickname("테스터")
+                .content("메시지 " + id)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private List<Long> ids(List<ChatMessageResponse> messages) {
+        return messages.stream().map(ChatMessageResponse::getId).toList();
+    }
+}
@@ -0,0 +1,179 @@
+package com.benny.board_mate.chat;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.chat.dto.ChatMessageRequest;
+import com.benny.board_mate.chat.dto.ChatMessageResponse;
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.participant.Participant;
+import com.benny.board_mate.participant.ParticipantRepository;
+import com.benny.board_mate.room.Room;
+import com.benny.board_mate.room.RoomRepository;
+import com.benny.board_mate.user.User;
+import com.benny.board_mate.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "chat.write-mode=write-behind",
+        "chat.write-behind.queue-capacity=50000"
+})
+@DisplayName("채팅 배치 저장 테스트")
+class ChatWriteBehindTest extends PostgresIntegrationTest {
+
+    private static final int MESSAGE_COUNT = 20_000;
+
+    @Autowired
+    private ChatWriteBehindService chatWriteBehindService;
+
+    @Autowired
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    private Room room;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        String uniqueId = String.valueOf(System.nanoTime());
+        member = userRepository.save(User.builder()
+                .email("chat_" + uniqueId + "@test.com")
+                .password("password")
+                .nickname("채팅_" + uniqueId)
+                .role("USER")
+                .build());
+
+        BoardGame game = gameRepository.save(BoardGame.builder()
+                .title("테스트게임_" + uniqueId)
+                .minPlayers(2)
+                .maxPlayers(4)
+                .build());
+
+        room = roomRepository.save(Room.builder()
+                .host(member)
+                .game(game)
+                .region("서울")
+                .gameDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(4)
+                .build());
+
+        participantRepository.save(Participant.builder()
+                .room(room)
+                .user(member)
+                .build());
+    }
+
+    @Test
+    @DisplayName("전송 즉시 받은 id 그대로 DB에 저장된다")
+    void sendMessage_PersistedWithSameId() throws InterruptedException {
+        long persistedBefore = persistedCount();
+        ChatMessageResponse response = chatWriteBehindService.sendMessage(room.getId(), member.getId(), request("안녕하세요"));
+
+        awaitPersisted(persistedBefore + 1);
+
+        ChatMessage saved = chatMessageRepository.findById(response.getId()).orElseThrow();
+        assertThat(saved.getContent()).isEqualTo("안녕하세요");
+        assertThat(saved.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("참가자가 아니면 전송 거부")
+    void sendMessage_NotParticipant() {
+        User outsider = userRepository.save(User.builder()
+                .email("outsider_" + System.nanoTime() + "@test.com")
+                .password("password")
+                .nickname("외부인_" + System.nanoTime())
+                .role("USER")
+                .build());
+
+        assertThatThrownBy(() -> chatWriteBehindService.sendMessage(room.getId(), outsider.getId(), request("hi")))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("대량 전송 처리량 측정: 모든 메시지가 유실 없이 저장")
+    void sendMessage_Throughput() throws InterruptedException {
+        long persistedBefore = persistedCount();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(MESSAGE_COUNT);
+        AtomicInteger rejected = new AtomicInteger();
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            String content = "메시지 " + i;
+            executor.submit(() -> {
+                try {
+                    chatWriteBehindService.sendMessage(room.getId(), member.getId(), request(content));
+                } catch (BusinessException e) {
+                    rejected.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long sendNanos = System.nanoTime() - startTime;
+
+        awaitPersisted(persistedBefore + MESSAGE_COUNT - rejected.get());
+        long totalNanos = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        System.out.println("=== 채팅 배치 저장 결과 ===");
+        System.out.printf("전송 처리량: %.0f msg/s, 저장 완료까지: %.0f msg/s%n",
+                MESSAGE_COUNT / (sendNanos / 1_000_000_000.0),
+                MESSAGE_COUNT / (totalNanos / 1_000_000_000.0));
+        System.out.println("큐 상태: " + chatMessageWriteBehind.stats());
+
+        assertThat(rejected.get()).isZero();
+        assertThat(chatMessageRepository.findByRoomIdOrderByCreatedAtAsc(room.getId()))
+                .hasSize(MESSAGE_COUNT);
+    }
+
+    private ChatMessageRequest request(String content) {
+        ChatMessageRequest request = new ChatMessageRequest();
+        request.setContent(content);
+        return request;
+    }
+
+    private long persistedCount() {
+        return (long) chatMessageWriteBehind.stats().get("persisted");
+    }
+
+    private void awaitPersisted(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (persistedCount() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("저장 대기 시간 초과: " + chatMessageWriteBehind.stats());
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.benny.board_mate.common.websocket;
+
+import com.benny.board_mate.BoardMateApplication;
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.notification.NotificationService;
+import com.benny.board_mate.notification.dto.RoomNotification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis pub/sub 팬아웃 다중 인스턴스 테스트
+ *
+ * 한 JVM 안에 Spring 컨텍스트 두 개(nodeA, nodeB)를 띄우고,
+ * nodeB에 STOMP로 구독한 뒤 nodeA에서 보낸 방 알림이 도착하는지 확인한다.
+ */
+@Testcontainers
+@DisplayName("STOMP 팬아웃 다중 인스턴스 테스트")
+class RedisMessageFanoutMultiNodeTest extends PostgresIntegrationTest {
+
+    private static final int LATENCY_SAMPLES = 200;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(BoardMateApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "websocket.fanout=redis"
+                )
+                .run();
+    }
+
+    @Test
+    @DisplayName("nodeA에서 보낸 방 알림을 nodeB 구독자가 받는다")
+    void notifyRoom_DeliveredAcrossNodes() throws Exception {
+        Long roomId = System.nanoTime();
+        String destination = "/topic/rooms/" + roomId;
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        StompSession session = subscribe(nodeB, destination, received);
+        try {
+            nodeA.getBean(NotificationService.class)
+                    .notifyRoom(roomId, RoomNotification.roomFull(roomId, 4));
+
+            String payload = received.poll(5, TimeUnit.SECONDS);
+            assertThat(payload).isNotNull();
+            assertThat(payload).contains("\"roomId\":" + roomId);
+        } finally {
+            session.disconnect();
+        }
+    }
+
+    @Test
+    @DisplayName("로컬 구독자가 있는 노드만 해당 방 채널을 구독한다")
+    void onlyNodesWithSubscribersListen() throws Exception {
+        Long roomId = System.nanoTime();
+        String destination = "/topic/chat/" + roomId;
+
+        StompSession session = subscribe(nodeB, destination, new LinkedBlockingQueue<>());
+        try {
+            assertThat(nodeA.getBean(RedisMessageFanout.class).localSubscriberCount(destination)).isZero();
+            assertThat(nodeB.getBean(RedisMessageFanout.class).localSubscriberCount(destination)).isEqualTo(1);
+            assertThat(redisSubscriberCount("ws:" + destination)).isEqualTo(1);
+        } finally {
+            session.disconnect();
+        }
+
+        awaitSubscriberCount(nodeB, destination, 0);
+        assertThat(redisSubscriberCount("ws:" + destination)).isZero();
+    }
+
+    @Test
+    @DisplayName("노드 간 팬아웃 지연시간 측정")
+    void measureFanoutLatency() throws Exception {
+        Long roomId = System.nanoTime();
+        String destination = "/topic/rooms/" + roomId;
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        NotificationService publisher = nodeA.getBean(NotificationService.class);
+        long[] latencies = new long[LATENCY_SAMPLES];
+
+        StompSession session = subscribe(nodeB, destination, received);
+        try {
+            for (int i = 0; i < LATENCY_SAMPLES; i++) {
+                long begin = System.nanoTime();
+                publisher.notifyRoom(roomId, RoomNotification.roomFull(roomId, 4));
+                assertThat(received.poll(5, TimeUnit.SECONDS)).isNotNull();
+                latencies[i] = System.nanoTime() - begin;
+            }
+        } finally {
+            session.disconnect();
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("=== 팬아웃 지연시간 (%d회) ===%n", LATENCY_SAMPLES);
+        System.out.printf("p50: %.2fms, p99: %.2fms, max: %.2fms%n",
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0);
+    }
+
+    private StompSession subscribe(ConfigurableApplicationContext node, String destination,
+                                   BlockingQueue<String> received) throws Exception {
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new JsonStringMessageConverter());
+
+        // SockJS 엔드포인트의 raw WebSocket 경로
+        String url = "ws://localhost:" + node.getEnvironment().getProperty("local.server.port") + "/ws/websocket";
+        StompSession session = client.connectAsync(url, new StompSessionHandlerAdapter() {
+        }).get(5, TimeUnit.SECONDS);
+
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((String) payload);
+            }
+        });
+
+        // SUBSCRIBE 프레임이 처리되어 Redis 채널 구독까지 끝날 때까지 대기
+        awaitSubscriberCount(node, destination, 1);
+        return session;
+    }
+
+    private void awaitSubscriberCount(ConfigurableApplicationContext node, String destination, int expected)
+            throws InterruptedException {
+        RedisMessageFanout fanout = node.getBean(RedisMessageFanout.class);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (fanout.localSubscriberCount(destination) == expected
+                    && redisSubscriberCount("ws:" + destination) == expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("구독 상태가 반영되지 않았습니다: " + destination);
+    }
+
+    private long redisSubscriberCount(String channel) {
+        RedisConnectionFactory connectionFactory = nodeA.getBean(RedisConnectionFactory.class);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            // PUBSUB NUMSUB channel → [channel, count]
+            Object reply = connection.execute("PUBSUB",
+                    "NUMSUB".getBytes(StandardCharsets.UTF_8), channel.getBytes(StandardCharsets.UTF_8));
+            List<?> values = reply instanceof List<?> list ? list : Arrays.asList((Object[]) reply);
+            return ((Number) values.get(1)).longValue();
+        }
+    }
+
+    private double percentileMillis(long[] sorted, double percentile) {
+        int index = Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+
+    // 서버가 application/json으로 보낸 본문을 문자열 그대로 받는다
+    private static class JsonStringMessageConverter extends StringMessageConverter {
+
+        JsonStringMessageConverter() {
+            addSupportedMimeTypes(MimeTypeUtils.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.game.GameRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntBiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 임베딩 일괄 생성 파이프라인 테스트
+ *
+ * Gemini batchEmbedContents 대신 로컬 스텁 서버를 띄운다.
+ * 스텁은 텍스트 해시로 결정적인 768차원 벡터를 돌려주고, 요청 번호별로 실패 상태 코드를 주입할 수 있다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "sommelier.gemini.api-key=test-key",
+        "game.embedding.pipeline.batch-size=10",
+        "game.embedding.pipeline.concurrency=2",
+        "game.embedding.pipeline.requests-per-second=1000",
+        "game.embedding.pipeline.max-attempts=3",
+        "game.embedding.pipeline.retry-backoff-ms=10"
+})
+@DisplayName("임베딩 파이프라인 테스트")
+class EmbeddingPipelineTest extends PostgresIntegrationTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final StubEmbeddingServer stub = StubEmbeddingServer.start();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("game.embedding.api.base-url", stub::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.server.stop(0);
+    }
+
+    @Autowired
+    private EmbeddingPipeline pipeline;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE game_embeddings, embedding_checkpoints");
+        jdbcTemplate.execute("TRUNCATE board_games CASCADE");
+        stub.reset();
+    }
+
+    @Test
+    @DisplayName("임베딩이 없는 게임을 배치로 모두 생성하고 체크포인트를 완료 처리한다")
+    void run_createsAllEmbeddings() {
+        saveGames(95);
+
+        Map<String, Object> result = pipeline.run();
+
+        assertThat(result).containsEntry("created", 95).containsEntry("failed", 0);
+        assertThat(embeddingCount()).isEqualTo(95);
+        // 10개씩 배치 → 10번 호출
+        assertThat(stub.requests.get()).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT completed FROM embedding_checkpoints WHERE job_name = ?", Boolean.class, EmbeddingPipeline.JOB_NAME))
+                .isTrue();
+
+        // 이미 임베딩이 있는 게임은 다시 호출하지 않는다
+        assertThat(pipeline.run()).containsEntry("created", 0);
+        assertThat(stub.requests.get()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("429/503 응답은 재시도해서 성공시킨다")
+    void run_retriesRateLimitAndServerErrors() {
+        saveGames(40);
+        stub.failure = (request, firstText) -> switch (request) {
+            case 1 -> 429;
+            case 2 -> 503;
+            default -> 0;
+        };
+
+        Map<String, Object> result = pipeline.run();
+
+        assertThat(result).containsEntry("created", 40).containsEntry("failed", 0);
+        assertThat(stub.requests.get()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 배치는 건너뛰고, 다음 실행에서 다시 시도한다")
+    void run_skipsBatchAfterMaxAttempts() {
+        saveGames(20);
+        // bggId 1~10 배치는 항상 500
+        stub.failure = (request, firstText) -> firstText.startsWith("게임명: Game 1\n") ? 500 : 0;
+
+        Map<String, Object> first = pipeline.run();
+
+        assertThat(first.get("created")).isEqualTo(10);
+        assertThat(first.get("failed")).isEqualTo(10);
+
+        stub.reset();
+        Map<String, Object> second = pipeline.run();
+
+        assertThat(second).containsEntry("created", 10).containsEntry("resumedAfterBggId", 0L);
+        assertThat(embeddingCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 오류로 중단되면 커밋된 페이지 다음부터 이어서 진행한다")
+    void run_resumesFromCheckpointAfterAbort() {
+        saveGames(60);
+        // 페이지 = 10 × 2 = 20개. 1~2페이지(요청 1~4)는 커밋되고 3페이지에서 400으로 중단
+        stub.failure = (request, firstText) -> request == 5 ? 400 : 0;
+
+        assertThatThrownBy(() -> pipeline.run())
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EMBEDDING_API_ERROR);
+        assertThat(embeddingCount()).isEqualTo(40);
+        Long checkpoint = jdbcTemplate.queryForObject(
+                "SELECT last_bgg_id FROM embedding_checkpoints WHERE job_name = ?", Long.class, EmbeddingPipeline.JOB_NAME);
+        assertThat(checkpoint).isEqualTo(40L);
+
+        Map<String, Object> resumed = pipeline.run();
+
+        assertThat(resumed).containsEntry("created", 20).containsEntry("resumedAfterBggId", 40L);
+        assertThat(embeddingCount()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("requests-per-second가 0 이하면 생성 시점에 거절한다 (대기 시간이 무한대가 되어 작업이 멈춤)")
+    void constructor_RejectsNonPositiveRate() {
+        for (double rate : new double[]{0, -1}) {
+            assertThatThrownBy(() -> new EmbeddingPipeline(null, null, null, null, null, null, null, 10, 2, rate, 3, 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("requests-per-second");
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("2만 개 카탈로그 임베딩 생성 시간 (스텁 지연 100ms, 배치 100 × 동시 4)")
+    void benchmark_fullCatalog(@Autowired EmbeddingService embeddingService,
+                               @Autowired GameEmbeddingWriter embeddingWriter,
+                               @Autowired EmbeddingCheckpointStore checkpointStore,
+                               @Autowired VectorIndex vectorIndex,
+                               @Autowired PlatformTransactionManager transactionManager,
+                               @Autowired ApplicationEventPublisher eventPublisher) {
+        saveGames(20_000);
+        stub.latencyMs = 100;
+        EmbeddingPipeline production = new EmbeddingPipeline(gameRepository, embeddingService, embeddingWriter,
+                checkpointStore, vectorIndex, transactionManager, eventPublisher, 100, 4, 20, 5, 1000);
+
+        Map<String, Object> result = production.run();
+
+        System.out.printf("임베딩 20,000개: %dms, 요청 %d회%n", (Long) result.get("elapsedMs"), stub.requests.get());
+        assertThat(result).containsEntry("created", 20_000);
+    }
+
+    private void saveGames(int count) {
+        List<BoardGame> games = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            games.add(BoardGame.builder()
+                    .bggId((long) i)
+                    .title("Game " + i)
+                    .minPlayers(2)
+                    .maxPlayers(4)
+                    .playtime(60)
+                    .description("Synthetic board game " + i)
+                    .build());
+        }
+        gameRepository.saveAll(games);
+    }
+
+    private int embeddingCount() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM game_embeddings", Integer.class);
+    }
+
+    /**
+     * batchEmbedContents 스텁 - 텍스트 해시를 시드로 한 768차원 벡터
+     */
+    static class StubEmbeddingServer {
+
+        final HttpServer server;
+        final AtomicInteger requests = new AtomicInteger();
+        // (요청 번호, 배치 첫 텍스트) → 실패 상태 코드 (0이면 정상 응답)
+        volatile ToIntBiFunction<Integer, String> failure = (request, firstText) -> 0;
+        volatile long latencyMs;
+
+        private StubEmbeddingServer(HttpServer server) {
+            this.server = server;
+        }
+
+        static StubEmbeddingServer start() {
+            try {
+                HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+                StubEmbeddingServer stub = new StubEmbeddingServer(server);
+                server.createContext("/", stub::handle);
+                server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+                server.start();
+                return stub;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        String baseUrl() {
+            return "http://localhost:" + server.getAddress().getPort();
+        }
+
+        void reset() {
+            requests.set(0);
+            failure = (request, firstText) -> 0;
+            latencyMs = 0;
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            int request = requests.incrementAndGet();
+            JsonNode body = MAPPER.readTree(exchange.getRequestBody());
+            if (latencyMs > 0) {
+                try {
+                    Thread.sleep(latencyMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            JsonNode items = body.path("requests");
+            int status = failure.applyAsInt(request, text(items.get(0)));
+            if (status != 0) {
+                respond(exchange, status, "{\"error\":{\"code\":" + status + "}}");
+                return;
+            }
+
+            StringBuilder response = new StringBuilder("{\"embeddings\":[");
+            for (int i = 0; i < items.size(); i++) {
+                Random random = new Random(text(items.get(i)).hashCode());
+                response.append(i == 0 ? "" : ",").append("{\"values\":[");
+                for (int d = 0; d < EmbeddingService.EMBEDDING_DIMENSION; d++) {
+                    response.append(d == 0 ? "" : ",").append(random.nextFloat() * 2 - 1);
+                }
+                response.append("]}");
+            }
+            respond(exchange, 200, response.append("]}").toString());
+        }
+
+        private String text(JsonNode request) {
+            return request.path("content").path("parts").get(0).path("text").asText();
+        }
+
+        private void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.job.JobProgress;
+import com.opencsv.CSVReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("CSV 게임 임포트 테스트")
+class GameDataImportServiceTest extends PostgresIntegrationTest {
+
+    private static final String HEADER = "BGGId,Name,Description,YearPublished,GameWeight,AvgRating,NumUserRatings,"
+            + "MinPlayers,MaxPlayers,ComMinPlaytime,ComMaxPlaytime,MfgPlaytime";
+
+    @Autowired
+    private GameDataImportService importService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("평가 수 상위 limit개를 많은 순으로 고르고, 동점이면 앞쪽 행을 고른다")
+    void selectTop_keepsMostRatedRows() throws Exception {
+        String csv = HEADER + "\n"
+                + row(1, "Low", 10) + "\n"
+                + row(2, "Tie First", 500) + "\n"
+                + row(3, "Top", 900) + "\n"
+                + ",No Id,,,,,,,,,,\n"
+                + row(4, "Tie Second", 500) + "\n"
+                + row(5, "No Ratings", -1) + "\n";
+
+        List<GameDataImportService.Row> top = GameDataImportService.selectTop(
+                new CSVReader(new StringReader(csv)), 3);
+
+        assertThat(top).extracting(GameDataImportService.Row::title)
+                .containsExactly("Top", "Tie First", "Tie Second");
+    }
+
+    @Test
+    @DisplayName("20,000행 CSV에서 상위 limit개만 저장하고 이미 있는 게임은 건너뛴다")
+    void importFromCsv_streamsAndSkipsExisting(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("games.csv");
+        int rows = 20_000;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                // 평가 수가 행 순서와 무관하게 섞이도록
+                writer.write(row(1_000_000 + i, "Game \"" + i + "\"", (i * 7919) % rows));
+                writer.newLine();
+            }
+        }
+        // 가장 많이 평가된 게임 하나는 미리 저장돼 있다
+        long mostRated = 1_000_000 + findRowWithRatings(rows - 1, rows);
+        jdbcTemplate.update("""
+                INSERT INTO board_games (bgg_id, title, min_players, max_players, created_at, updated_at)
+                VALUES (?, 'existing', 2, 4, now(), now())
+                """, mostRated);
+
+        int imported = importService.importFromCsv(file.toString(), 1000).imported();
+
+        assertThat(imported).isEqualTo(999);
+        Integer minImported = jdbcTemplate.queryForObject(
+                "SELECT min(num_ratings) FROM board_games WHERE bgg_id BETWEEN 1000000 AND 1999999 AND title <> 'existing'",
+                Integer.class);
+        assertThat(minImported).isEqualTo(rows - 1000);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title FROM board_games WHERE bgg_id = ?", String.class, mostRated)).isEqualTo("existing");
+        long secondMostRated = 1_000_000 + findRowWithRatings(rows - 2, rows);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT difficulty FROM board_games WHERE bgg_id = ?", String.class, secondMostRated)).isEqualTo("중급");
+
+        // 다시 임포트하면 모두 이미 있고 채울 값도 없으므로 0개
+        assertThat(importService.importFromCsv(file.toString(), 1000))
+                .isEqualTo(new GameDataImportService.ImportResult(0, 0));
+    }
+
+    @Test
+    @DisplayName("취소 요청이 오면 이미 커밋한 배치까지만 저장하고 멈춘다")
+    void importFromCsv_stopsAtBatchBoundaryWhenCancelled(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("cancel.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < 2500; i++) {
+                writer.write(row(5_000_000 + i, "Cancel " + i, i));
+                writer.newLine();
+            }
+        }
+        AtomicLong processed = new AtomicLong();
+        JobProgress cancelAfterFirstBatch = new JobProgress() {
+            @Override
+            public void start(long totalRows) {
+            }
+
+            @Override
+            public void advance(long processedRows, long failedRows) {
+                processed.addAndGet(processedRows);
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return processed.get() > 0;
+            }
+        };
+
+        int imported = importService.importFromCsv(file.toString(), 2500, cancelAfterFirstBatch).imported();
+
+        assertThat(imported).isEqualTo(1000);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM board_games WHERE bgg_id BETWEEN 5000000 AND 5099999", Long.class))
+                .isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("같은 디렉터리의 보조 파일을 조인해 메커니즘/카테고리/한글 제목을 채우고, 임베딩 내용이 보강된 기존 게임만 임베딩을 지운다")
+    void importFromCsv_joinsCompanionFiles(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("games.csv"), """
+                BGGId,Name,NumUserRatings,MinPlayers,MaxPlayers,GameWeight,ImagePath,Cat:Strategy,Cat:Family
+                6000001,Alpha,300,2,4,2.5,https://img/alpha.jpg,1,0
+                6000002,Beta,200,2,4,2.5,,0,1
+                6000003,Gamma,100,2,4,2.5,,0,0
+                6000005,Delta,150,2,4,2.5,https://img/delta.jpg,0,0
+                6000004,Not Selected,1,2,4,2.5,,1,1
+                """, StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("mechanics.csv"), """
+                BGGId,Dice Rolling,Hand Management,Worker Placement
+                6000001,1,1,0
+                6000002,0,0,1
+                6000004,1,1,1
+                """, StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("themes.csv"), """
+                BGGId,Theme_Fantasy,Theme_Space Exploration
+                6000002,0,1
+                """, StandardCharsets.UTF_8);
+        // 항목이 하나뿐인 wide 파일도 0/1 플래그로 읽는다
+        Files.writeString(dir.resolve("subcategories.csv"), """
+                BGGId,Cat:Thematic
+                6000002,1
+                6000003,0
+                """, StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("korean_titles.csv"), """
+                BGGId,TitleKorean
+                6000001,알파
+                6000003,감마
+                """, StandardCharsets.UTF_8);
+        // Gamma(한글 제목 없음)와 Delta(이미지 없음)는 이미 있고 임베딩도 만들어져 있다
+        jdbcTemplate.update("""
+                INSERT INTO board_games (bgg_id, title, min_players, max_players, created_at, updated_at)
+                VALUES (6000003, 'Gamma', 2, 4, now(), now()), (6000005, 'Delta', 2, 4, now(), now())
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO game_embeddings (bgg_id, content) VALUES (6000003, 'old content'), (6000005, 'old content')
+                """);
+
+        GameDataImportService.ImportResult result = importService.importFromCsv(dir.resolve("games.csv").toString(), 4);
+
+        assertThat(result).isEqualTo(new GameDataImportService.ImportResult(2, 2));
+        Map<String, Object> alpha = jdbcTemplate.queryForMap(
+                "SELECT title_korean, image_url, mechanics, categories FROM board_games WHERE bgg_id = 6000001");
+        assertThat(alpha).containsEntry("title_korean", "알파")
+                .containsEntry("image_url", "https://img/alpha.jpg")
+                .containsEntry("mechanics", "Dice Rolling, Hand Management")
+                .containsEntry("categories", "Strategy");
+        Map<String, Object> beta = jdbcTemplate.queryForMap(
+                "SELECT title_korean, mechanics, categories FROM board_games WHERE bgg_id = 6000002");
+        assertThat(beta).containsEntry("title_korean", null)
+                .containsEntry("mechanics", "Worker Placement")
+                .containsEntry("categories", "Family, Space Exploration, Thematic");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title_korean FROM board_games WHERE bgg_id = 6000003", String.class)).isEqualTo("감마");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM game_embeddings WHERE bgg_id = 6000003", Long.class)).isZero();
+        // 이미지만 채워진 게임은 임베딩 내용이 그대로라 다시 만들지 않는다
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT image_url FROM board_games WHERE bgg_id = 6000005", String.class)).isEqualTo("https://img/delta.jpg");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM game_embeddings WHERE bgg_id = 6000005", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM board_games WHERE bgg_id = 6000004", Long.class)).isZero();
+
+        // 값이 이미 채워져 있으면 다시 임포트해도 바뀌는 게임이 없다
+        assertThat(importService.importFromCsv(dir.resolve("games.csv").toString(), 4))
+                .isEqualTo(new GameDataImportService.ImportResult(0, 0));
+    }
+
+    private static String row(long bggId, String name, int numRatings) {
+        String ratings = numRatings < 0 ? "" : String.valueOf(numRatings);
+        return bggId + ",\"" + name.replace("\"", "\"\"") + "\",\"Long description, with commas\",2020,2.5,7.1,"
+                + ratings + ",2,4,30,60,45";
+    }
+
+    private static int findRowWithRatings(int ratings, int rows) {
+        for (int i = 0; i < rows; i++) {
+            if ((i * 7919) % rows == ratings) {
+                return i;
+            }
+        }
+        throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,274 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.game.GameEmbedding;
+import com.benny.board_mate.game.dto.SimilarGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 벡터 인덱스 생성/검색 테스트
+ *
+ * 실제 임베딩은 Gemini API 키가 있어야 만들 수 있으므로, 클러스터 구조를 가진 768차원 합성 벡터를 사용한다.
+ * (게임 임베딩도 장르/메커니즘별로 뭉쳐 있어 균일 난수보다 이쪽이 실제 분포에 가깝다)
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "game.embedding.index.type=hnsw",
+        "game.embedding.index.min-rows=1000"
+})
+@DisplayName("게임 임베딩 벡터 검색 테스트")
+class GameEmbeddingSearchTest extends PostgresIntegrationTest {
+
+    private static final int DIMENSION = EmbeddingService.EMBEDDING_DIMENSION;
+    private static final int K = 10;
+
+    @Autowired
+    private GameEmbeddingSearch gameEmbeddingSearch;
+
+    @Autowired
+    private GameEmbeddingIndexManager indexManager;
+
+    @Autowired
+    private GameEmbeddingWriter embeddingWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP INDEX IF EXISTS " + GameEmbeddingIndexManager.INDEX_NAME);
+        jdbcTemplate.execute("TRUNCATE game_embeddings");
+    }
+
+    @Test
+    @DisplayName("임베딩이 min-rows 미만이면 인덱스를 만들지 않는다")
+    void ensureIndex_BelowThreshold() {
+        insertEmbeddings(new SyntheticEmbeddings(1L, 500, 20));
+
+        Map<String, Object> status = indexManager.ensureIndex();
+
+        assertThat(status.get("indexed")).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("min-rows 이상이면 HNSW 인덱스를 만들고 검색이 인덱스를 사용한다")
+    void ensureIndex_CreatesHnsw() {
+        SyntheticEmbeddings data = new SyntheticEmbeddings(2L, 2_000, 50);
+        insertEmbeddings(data);
+
+        Map<String, Object> status = indexManager.ensureIndex();
+        jdbcTemplate.execute("ANALYZE game_embeddings");
+
+        assertThat(status.get("indexed")).isEqualTo(true);
+        assertThat(status.get("index")).asString().contains("type=hnsw");
+        assertThat(explainSearch(data.vectors[0])).contains(GameEmbeddingIndexManager.INDEX_NAME);
+        // 인스턴스 간 빌드 락은 끝나면 풀려 있어야 한다
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_locks WHERE locktype = 'advisory'", Long.class)).isZero();
+
+        // 저장된 벡터로 검색하면 자기 자신이 1위
+        List<SimilarGame> result = gameEmbeddingSearch.search(data.vectors[42], K);
+        assertThat(result).hasSize(K);
+        assertThat(result.get(0).bggId()).isEqualTo(42L);
+        assertThat(result.get(0).similarity()).isGreaterThan(0.999);
+    }
+
+    @Test
+    @DisplayName("임베딩이 없는 행은 limit이 행 수보다 커도 검색 결과에 나오지 않는다")
+    void search_SkipsRowsWithoutEmbedding() {
+        SyntheticEmbeddings data = new SyntheticEmbeddings(5L, 5, 2);
+        insertEmbeddings(data);
+        jdbcTemplate.update("INSERT INTO game_embeddings (bgg_id, content) VALUES (?, ?)", 99L, "임베딩 대기");
+
+        List<SimilarGame> result = gameEmbeddingSearch.search(data.vectors[0], K);
+
+        assertThat(result).hasSize(5);
+        assertThat(result).extracting(SimilarGame::bggId).doesNotContain(99L);
+    }
+
+    @Test
+    @DisplayName("ivfflat lists는 생성 시점 행 수로 정해진다")
+    void ivfflat_ListsByRowCount() {
+        insertEmbeddings(new SyntheticEmbeddings(3L, 2_000, 50));
+        indexManager.build(VectorIndexType.IVFFLAT, 2_000);
+        assertThat(indexManager.status().get("index")).asString().contains("lists=10");
+
+        assertThat(GameEmbeddingIndexManager.ivfflatLists(20_000)).isEqualTo(20);
+        assertThat(GameEmbeddingIndexManager.ivfflatLists(4_000_000)).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("기동 스크립트를 다시 실행해도 임베딩이 유지된다")
+    void schemaScript_KeepsEmbeddings() {
+        insertEmbeddings(new SyntheticEmbeddings(4L, 100, 5));
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+            return null;
+        });
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM game_embeddings", Long.class)).isEqualTo(100L);
+    }
+
+    /**
+     * 정확 검색 대비 ANN recall@10 / 지연시간 비교
+     * BGG 랭크 게임 수(약 2만 개) 규모의 합성 데이터 사용
+     * ./gradlew benchmark 로 실행
+     */
+    @Tag("benchmark")
+    @Test
+    @DisplayName("정확 검색 vs HNSW/ivfflat recall-지연시간 비교")
+    void benchmark_RecallVsLatency() {
+        SyntheticEmbeddings data = new SyntheticEmbeddings(7L, 20_000, 300);
+        insertEmbeddings(data);
+        jdbcTemplate.execute("ANALYZE game_embeddings");
+
+        float[][] queries = data.queries(200);
+        List<Set<Long>> truth = new ArrayList<>(queries.length);
+        Measurement exact = measure(queries, query -> gameEmbeddingSearch.search(query, K, VectorSearchOptions.exactScan()), null, truth);
+
+        System.out.println("=== 벡터 검색 recall@10 / 지연시간 (20,000 x 768) ===");
+        System.out.printf("%-22s recall=%.3f p50=%.2fms p99=%.2fms%n", "exact", 1.0, exact.p50(), exact.p99());
+
+        long buildStart = System.currentTimeMillis();
+        indexManager.build(VectorIndexType.HNSW, data.vectors.length);
+        System.out.printf("HNSW 빌드: %dms, %s%n", System.currentTimeMillis() - buildStart, indexManager.status().get("indexSize"));
+        for (int efSearch : new int[]{10, 20, 40, 80, 160}) {
+            Measurement m = measure(queries, query -> gameEmbeddingSearch.search(query, K, VectorSearchOptions.hnsw(efSearch)), truth, null);
+            System.out.printf("%-22s recall=%.3f p50=%.2fms p99=%.2fms%n", "hnsw ef_search=" + efSearch, m.recall(), m.p50(), m.p99());
+        }
+
+        buildStart = System.currentTimeMillis();
+        indexManager.build(VectorIndexType.IVFFLAT, data.vectors.length);
+        System.out.printf("ivfflat 빌드: %dms, %s%n", System.currentTimeMillis() - buildStart, indexManager.status().get("indexSize"));
+        for (int probes : new int[]{1, 2, 5, 10, 20}) {
+            Measurement m = measure(queries, query -> gameEmbeddingSearch.search(query, K, VectorSearchOptions.ivfflat(probes)), truth, null);
+            System.out.printf("%-22s recall=%.3f p50=%.2fms p99=%.2fms%n", "ivfflat probes=" + probes, m.recall(), m.p50(), m.p99());
+        }
+    }
+
+    private Measurement measure(float[][] queries, Function<float[], List<SimilarGame>> search,
+                                List<Set<Long>> truth, List<Set<Long>> collectTruth) {
+        long[] latencies = new long[queries.length];
+        double recallSum = 0;
+        for (int i = 0; i < queries.length; i++) {
+            long begin = System.nanoTime();
+            List<SimilarGame> result = search.apply(queries[i]);
+            latencies[i] = System.nanoTime() - begin;
+
+            Set<Long> ids = new HashSet<>(result.stream().map(SimilarGame::bggId).toList());
+            if (collectTruth != null) {
+                collectTruth.add(ids);
+            }
+            if (truth != null) {
+                Set<Long> hit = new HashSet<>(truth.get(i));
+                hit.retainAll(ids);
+                recallSum += (double) hit.size() / K;
+            }
+        }
+        Arrays.sort(latencies);
+        return new Measurement(recallSum / queries.length, latencies);
+    }
+
+    private void insertEmbeddings(SyntheticEmbeddings data) {
+        List<GameEmbedding> rows = new ArrayList<>(data.vectors.length);
+        for (int i = 0; i < data.vectors.length; i++) {
+            rows.add(GameEmbedding.builder()
+                    .bggId((long) i)
+                    .content("게임 " + i)
+                    .embedding(data.vectors[i])
+                    .build());
+        }
+        embeddingWriter.upsertAll(rows);
+    }
+
+    // GameEmbeddingSearch와 같은 형태 (ORDER BY 별칭)
+    private String explainSearch(float[] query) {
+        String vector = GameEmbeddingSearch.toVectorLiteral(query);
+        return String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT bgg_id, embedding <=> CAST(? AS vector) AS distance FROM game_embeddings"
+                        + " WHERE embedding IS NOT NULL ORDER BY distance LIMIT 10",
+                String.class, vector));
+    }
+
+    private record Measurement(double recall, long[] sortedLatencies) {
+
+        double p50() {
+            return percentileMillis(0.50);
+        }
+
+        double p99() {
+            return percentileMillis(0.99);
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = Math.max(0, (int) Math.ceil(percentile * sortedLatencies.length) - 1);
+            return sortedLatencies[index] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * 클러스터 중심 주변에 가우시안 노이즈를 더한 정규화 벡터
+     */
+    private static class SyntheticEmbeddings {
+
+        private final Random random;
+        private final float[][] centers;
+        private final float[][] vectors;
+
+        SyntheticEmbeddings(long seed, int count, int clusters) {
+            this.random = new Random(seed);
+            this.centers = new float[clusters][];
+            for (int c = 0; c < clusters; c++) {
+                centers[c] = noisy(new float[DIMENSION], 1.0f);
+            }
+            this.vectors = new float[count][];
+            for (int i = 0; i < count; i++) {
+                vectors[i] = noisy(centers[random.nextInt(clusters)], 0.35f);
+            }
+        }
+
+        // 저장된 벡터에 작은 노이즈를 준 질의 (사용자 질문이 특정 게임 설명과 비슷한 상황)
+        float[][] queries(int count) {
+            float[][] queries = new float[count][];
+            for (int i = 0; i < count; i++) {
+                queries[i] = noisy(vectors[random.nextInt(vectors.length)], 0.2f);
+            }
+            return queries;
+        }
+
+        private float[] noisy(float[] base, float scale) {
+            float[] vector = new float[DIMENSION];
+            double norm = 0;
+            for (int d = 0; d < DIMENSION; d++) {
+                vector[d] = base[d] + (float) random.nextGaussian() * scale / (float) Math.sqrt(DIMENSION);
+                norm += vector[d] * vector[d];
+            }
+            float inv = (float) (1 / Math.sqrt(norm));
+            for (int d = 0; d < DIMENSION; d++) {
+                vector[d] *= inv;
+            }
+            return vector;
+        }
+    }
+}
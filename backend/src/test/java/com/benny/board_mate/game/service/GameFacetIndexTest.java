@@ -0,0 +1,167 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.game.GameService;
+import com.benny.board_mate.game.dto.GameSearchRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("게임 필터 인덱스 테스트")
+class GameFacetIndexTest extends PostgresIntegrationTest {
+
+    private static final String WORKER_PLACEMENT = "Worker Placement";
+    private static final String HAND_MANAGEMENT = "Hand Management";
+    private static final String DECK_BUILDING = "Deck, Bag, and Pool Building";
+
+    @Autowired
+    private GameFacetIndex facetIndex;
+
+    @Autowired
+    private GameTagStore tagStore;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long alpha;
+    private long beta;
+    private long gamma;
+
+    @BeforeEach
+    void setUp() {
+        // 인덱스는 테이블 전체를 읽으므로 다른 테스트가 남긴 게임/태그를 지운다
+        jdbcTemplate.execute("TRUNCATE board_games, game_tags CASCADE");
+        alpha = insertGame(7_000_001, "Alpha", 2, 4, 45, "중급", 900);
+        beta = insertGame(7_000_002, "Beta", 1, 2, 20, "초급", 800);
+        gamma = insertGame(7_000_003, "Gamma", 3, 5, 150, "고급", 700);
+        tagStore.link(List.of(
+                new GameTagStore.Tag(7_000_001, GameTagType.MECHANIC, WORKER_PLACEMENT),
+                new GameTagStore.Tag(7_000_001, GameTagType.MECHANIC, HAND_MANAGEMENT),
+                new GameTagStore.Tag(7_000_001, GameTagType.CATEGORY, "Strategy"),
+                new GameTagStore.Tag(7_000_002, GameTagType.MECHANIC, WORKER_PLACEMENT),
+                new GameTagStore.Tag(7_000_002, GameTagType.CATEGORY, "Family"),
+                new GameTagStore.Tag(7_000_003, GameTagType.MECHANIC, HAND_MANAGEMENT),
+                new GameTagStore.Tag(7_000_003, GameTagType.MECHANIC, DECK_BUILDING),
+                new GameTagStore.Tag(7_000_003, GameTagType.CATEGORY, "Strategy")
+        ));
+        facetIndex.reload();
+    }
+
+    @Test
+    @DisplayName("메커니즘과 인원 조건을 모두 만족하는 게임을 인기순으로, 필터별 개수와 함께 돌려준다")
+    void search_intersectsFiltersInPopularityOrder() {
+        GameFacetIndex.Result result = facetIndex.search(
+                criteria(List.of(WORKER_PLACEMENT), null, 2, null), 0, 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.gameIds()).containsExactly(alpha, beta);
+        assertThat(result.facets().get("mechanics")).containsExactly(
+                new GameFacetIndex.FacetCount(WORKER_PLACEMENT, 2),
+                new GameFacetIndex.FacetCount(HAND_MANAGEMENT, 1));
+        // 인원 개수는 인원 조건을 뺀 결과(Alpha 2~4명, Beta 1~2명) 기준
+        assertThat(result.facets().get("players")).startsWith(
+                new GameFacetIndex.FacetCount("1", 1),
+                new GameFacetIndex.FacetCount("2", 2),
+                new GameFacetIndex.FacetCount("3", 1),
+                new GameFacetIndex.FacetCount("4", 1),
+                new GameFacetIndex.FacetCount("5", 0));
+
+        assertThat(facetIndex.search(criteria(List.of(WORKER_PLACEMENT), null, 2, null), 1, 1).gameIds())
+                .containsExactly(beta);
+    }
+
+    @Test
+    @DisplayName("이름에 쉼표가 있는 메커니즘도 대소문자 구분 없이 찾고, 모르는 값이면 빈 결과")
+    void search_matchesTagNamesExactlyIgnoringCase() {
+        assertThat(facetIndex.search(criteria(List.of("deck, bag, and pool building"), null, null, null), 0, 10)
+                .gameIds()).containsExactly(gamma);
+        assertThat(facetIndex.search(criteria(List.of(WORKER_PLACEMENT, "Unknown"), null, null, null), 0, 10)
+                .total()).isZero();
+    }
+
+    @Test
+    @DisplayName("플레이 시간은 고른 구간 중 하나라도 맞으면 포함하고, 구간별 개수는 시간 조건을 뺀 결과 기준")
+    void search_unionsPlaytimeBuckets() {
+        GameFacetIndex.Result result = facetIndex.search(criteria(null, List.of("Strategy"), null,
+                List.of(GameFacetIndex.Playtime.QUICK, GameFacetIndex.Playtime.LONG)), 0, 10);
+
+        assertThat(result.gameIds()).containsExactly(gamma);
+        assertThat(result.facets().get("playtime")).containsExactly(
+                new GameFacetIndex.FacetCount("QUICK", 0),
+                new GameFacetIndex.FacetCount("SHORT", 1),
+                new GameFacetIndex.FacetCount("MEDIUM", 0),
+                new GameFacetIndex.FacetCount("LONG", 1));
+    }
+
+    @Test
+    @DisplayName("검색 API는 현재 페이지 게임만 조회하고, 잘못된 구간 값이나 최대 인원을 넘는 인원은 INVALID_INPUT")
+    void gameService_search() {
+        GameSearchRequest request = new GameSearchRequest();
+        request.setMechanics(List.of(HAND_MANAGEMENT));
+        request.setDifficulty(List.of("고급"));
+
+        assertThat(gameService.search(request).getContent())
+                .extracting("title").containsExactly("Gamma");
+
+        request.setPlaytime(List.of("FOREVER"));
+        assertThatThrownBy(() -> gameService.search(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT);
+
+        // 10명 칸은 정확히 10명 - 12명을 10명으로 바꿔 찾으면 12명이 못 하는 게임이 나온다
+        request.setPlaytime(null);
+        request.setPlayers(GameFacetIndex.MAX_PLAYERS + 2);
+        assertThatThrownBy(() -> gameService.search(request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("개수가 그대로여도 게임 수정이나 태그 교체가 있으면 주기 갱신에서 다시 적재한다")
+    void refresh_reloadsWhenGamesOrTagsChangeWithoutCountChange() {
+        jdbcTemplate.update("UPDATE board_games SET max_players = 6, updated_at = now() + interval '1 minute' WHERE id = ?",
+                beta);
+        facetIndex.refresh();
+
+        assertThat(facetIndex.search(criteria(null, null, 6, null), 0, 10).gameIds()).containsExactly(beta);
+
+        jdbcTemplate.update("""
+                UPDATE board_game_tags SET tag_id = (SELECT id FROM game_tags WHERE type = 'MECHANIC' AND name = ?)
+                WHERE game_id = ? AND tag_id = (SELECT id FROM game_tags WHERE type = 'MECHANIC' AND name = ?)
+                """, HAND_MANAGEMENT, beta, WORKER_PLACEMENT);
+        facetIndex.refresh();
+
+        assertThat(facetIndex.search(criteria(List.of(WORKER_PLACEMENT), null, null, null), 0, 10).gameIds())
+                .containsExactly(alpha);
+    }
+
+    private static GameFacetIndex.Criteria criteria(List<String> mechanics, List<String> categories, Integer players,
+                                                    List<GameFacetIndex.Playtime> playtimes) {
+        return new GameFacetIndex.Criteria(mechanics, categories, players, playtimes, null);
+    }
+
+    private long insertGame(long bggId, String title, int minPlayers, int maxPlayers, int playtime,
+                            String difficulty, int numRatings) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO board_games (bgg_id, title, min_players, max_players, playtime, difficulty, num_ratings,
+                                         created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, now(), now())
+                ON CONFLICT (bgg_id) DO UPDATE SET title = EXCLUDED.title
+                RETURNING id
+                """, Long.class, bggId, title, minPlayers, maxPlayers, playtime, difficulty, numRatings);
+    }
+}
@@ -0,0 +1,280 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.game.GameEmbedding;
+import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.game.dto.SimilarGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목 검색 / 하이브리드 검색 테스트
+ *
+ * 관련도 벤치마크는 실제 임베딩 대신 카테고리 중심 + 잡음으로 만든 768차원 합성 벡터를 쓴다.
+ * 게임 이름을 언급한 질문의 임베딩은 "그 카테고리의 게임"에 가깝지 그 게임 자체에 가깝지 않다는 점을 흉내 낸 것이다.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("게임 제목/하이브리드 검색 테스트")
+class GameTitleSearchTest extends PostgresIntegrationTest {
+
+    private static final int DIMENSION = EmbeddingService.EMBEDDING_DIMENSION;
+    private static final int CATEGORIES = 6;
+    private static final int FILLERS = 300;
+    private static final int CONTEXT_SIZE = 4;
+
+    // bggId, 제목, 한글 제목, 카테고리
+    private static final Object[][] NAMED_GAMES = {
+            {13L, "Catan", "카탄", 0},
+            {9209L, "Ticket to Ride", "티켓 투 라이드", 1},
+            {148228L, "Splendor", "스플렌더", 2},
+            {266192L, "Wingspan", "윙스팬", 2},
+            {230802L, "Azul", "아줄", 3},
+            {30549L, "Pandemic", "팬데믹", 4},
+            {822L, "Carcassonne", "카르카손", 3},
+            {36218L, "Dominion", "도미니언", 2},
+            {68448L, "7 Wonders", "세븐 원더스", 5},
+            {178900L, "Codenames", "코드네임", 5},
+    };
+
+    private static final String[][] NAMED_QUERIES = {
+            {"13", "카탄이랑 비슷한 게임 추천해줘"},
+            {"9209", "티켓 투 라이드 같은 가족 게임 있어?"},
+            {"148228", "스플렌더처럼 엔진 빌딩하는 거"},
+            {"266192", "윙스팬 좋아하는데 다음에 뭐 할까"},
+            {"230802", "아줄과 비슷한 추상 전략"},
+            {"30549", "팬데믹 말고 다른 협력 게임"},
+            {"822", "Something like Carcassonne?"},
+            {"36218", "도미니언 같은 덱빌딩 추천"},
+            {"68448", "7 Wonders 같은 드래프트 게임"},
+            {"178900", "코드네임이랑 비슷한 파티 게임"},
+    };
+
+    @Autowired
+    private GameTitleSearch titleSearch;
+
+    @Autowired
+    private HybridGameRetriever retriever;
+
+    @Autowired
+    private VectorIndex vectorIndex;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameEmbeddingWriter embeddingWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE game_embeddings");
+        jdbcTemplate.execute("TRUNCATE board_games CASCADE");
+        catalog = new Catalog(new Random(11));
+        gameRepository.saveAll(catalog.games);
+        transactionTemplate.executeWithoutResult(status -> embeddingWriter.upsertAll(catalog.embeddings));
+        jdbcTemplate.execute("ANALYZE board_games");
+    }
+
+    @Test
+    @DisplayName("질문에 들어 있는 한글/영문 게임 이름으로 게임을 찾는다")
+    void search_findsNamedGame() {
+        assertThat(titleSearch.search("카탄이랑 비슷한 게임 추천해줘", 5)).first().isEqualTo(13L);
+        assertThat(titleSearch.search("Something like Ticket to Ride?", 5)).first().isEqualTo(9209L);
+        assertThat(titleSearch.search("2인용으로 가볍게 할 만한 거", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 검색과 제목 LIKE 검색이 trigram 인덱스를 사용한다")
+    void search_usesTrigramIndexes() {
+        List<String> plans = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            plans.addAll(jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT bgg_id FROM board_games WHERE lower(title) %> 'catan' OR lower(title_korean) %> 'catan'",
+                    String.class));
+            plans.addAll(jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT id FROM board_games WHERE lower(title) LIKE lower('%' || 'cata' || '%')",
+                    String.class));
+        });
+
+        assertThat(String.join("\n", plans))
+                .contains("idx_board_games_title_trgm")
+                .contains("idx_board_games_title_korean_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("게임 이름을 언급한 질문은 하이브리드 검색 상위 컨텍스트에 그 게임이 들어간다")
+    void retrieve_includesNamedGame() {
+        for (String[] query : NAMED_QUERIES) {
+            float[] embedding = catalog.namedQueryEmbedding(Long.parseLong(query[0]));
+
+            assertThat(retriever.retrieve(query[1], embedding, CONTEXT_SIZE))
+                    .as(query[1])
+                    .contains(Long.parseLong(query[0]));
+        }
+    }
+
+    /**
+     * 오프라인 관련도 비교 (hit@4, MRR@4)
+     * - 이름 질문: 게임 이름을 언급 (정답 = 그 게임)
+     * - 설명 질문: 이름 없이 취향만 설명 (정답 = 임베딩이 가장 가까운 게임)
+     * ./gradlew benchmark 로 실행
+     */
+    @Tag("benchmark")
+    @Test
+    @DisplayName("벡터 단독 vs 제목 단독 vs 하이브리드 관련도 비교")
+    void benchmark_Relevance() {
+        List<LabeledQuery> named = new ArrayList<>();
+        for (String[] query : NAMED_QUERIES) {
+            long expected = Long.parseLong(query[0]);
+            named.add(new LabeledQuery(query[1], catalog.namedQueryEmbedding(expected), expected));
+        }
+        List<LabeledQuery> descriptive = new ArrayList<>();
+        String[] descriptions = {"가볍게 할 만한 전략 게임", "머리 많이 쓰는 거", "여럿이 웃으면서 하는 거", "둘이서 조용히 하는 거"};
+        for (int i = 0; i < 40; i++) {
+            long expected = 1_000_000L + i * 7;
+            descriptive.add(new LabeledQuery(descriptions[i % descriptions.length],
+                    catalog.nearEmbedding(expected), expected));
+        }
+
+        Map<String, Function<LabeledQuery, List<Long>>> searches = new LinkedHashMap<>();
+        searches.put("vector", q -> vectorIndex.search(q.embedding(), CONTEXT_SIZE).stream()
+                .map(SimilarGame::bggId).toList());
+        searches.put("title", q -> titleSearch.search(q.message(), CONTEXT_SIZE));
+        searches.put("hybrid", q -> retriever.retrieve(q.message(), q.embedding(), CONTEXT_SIZE));
+
+        System.out.println("=== 컨텍스트 검색 관련도 (hit@4 / MRR@4) ===");
+        System.out.printf("%-8s %-24s %-24s%n", "", "이름 질문 (" + named.size() + ")", "설명 질문 (" + descriptive.size() + ")");
+        Map<String, Score[]> scores = new LinkedHashMap<>();
+        searches.forEach((name, search) -> {
+            Score n = score(named, search);
+            Score d = score(descriptive, search);
+            scores.put(name, new Score[]{n, d});
+            System.out.printf("%-8s hit=%.2f mrr=%.2f        hit=%.2f mrr=%.2f%n", name, n.hit(), n.mrr(), d.hit(), d.mrr());
+        });
+
+        assertThat(scores.get("hybrid")[0].hit()).isGreaterThan(scores.get("vector")[0].hit());
+        assertThat(scores.get("hybrid")[1].hit()).isGreaterThanOrEqualTo(scores.get("vector")[1].hit());
+    }
+
+    private Score score(List<LabeledQuery> queries, Function<LabeledQuery, List<Long>> search) {
+        double hits = 0;
+        double reciprocalRanks = 0;
+        for (LabeledQuery query : queries) {
+            int rank = search.apply(query).indexOf(query.expected());
+            if (rank >= 0) {
+                hits++;
+                reciprocalRanks += 1.0 / (rank + 1);
+            }
+        }
+        return new Score(hits / queries.size(), reciprocalRanks / queries.size());
+    }
+
+    private record LabeledQuery(String message, float[] embedding, long expected) {
+    }
+
+    private record Score(double hit, double mrr) {
+    }
+
+    /**
+     * 이름 있는 게임 10개 + 카테고리별 이름 없는 게임 300개, 카테고리 중심 주변에 흩어진 임베딩
+     */
+    private static class Catalog {
+
+        final Random random;
+        final float[][] centroids = new float[CATEGORIES][];
+        final List<BoardGame> games = new ArrayList<>();
+        final List<GameEmbedding> embeddings = new ArrayList<>();
+        final Map<Long, Integer> categories = new HashMap<>();
+        final Map<Long, float[]> vectors = new HashMap<>();
+
+        Catalog(Random random) {
+            this.random = random;
+            for (int c = 0; c < CATEGORIES; c++) {
+                centroids[c] = normalize(gaussian(1.0f));
+            }
+            for (Object[] named : NAMED_GAMES) {
+                add((Long) named[0], (String) named[1], (String) named[2], (Integer) named[3]);
+            }
+            for (int i = 0; i < FILLERS; i++) {
+                add(1_000_000L + i, "Filler Game " + i, null, i % CATEGORIES);
+            }
+        }
+
+        float[] namedQueryEmbedding(long bggId) {
+            return around(centroids[categories.get(bggId)], 0.05f);
+        }
+
+        float[] nearEmbedding(long bggId) {
+            return around(vectors.get(bggId), 0.02f);
+        }
+
+        private void add(long bggId, String title, String titleKorean, int category) {
+            float[] vector = around(centroids[category], 0.06f);
+            categories.put(bggId, category);
+            vectors.put(bggId, vector);
+            games.add(BoardGame.builder()
+                    .bggId(bggId)
+                    .title(title)
+                    .titleKorean(titleKorean)
+                    .minPlayers(2)
+                    .maxPlayers(4)
+                    .numRatings(1000)
+                    .build());
+            embeddings.add(GameEmbedding.builder().bggId(bggId).content(title).embedding(vector).build());
+        }
+
+        private float[] around(float[] center, float noise) {
+            float[] offset = gaussian(noise);
+            for (int i = 0; i < DIMENSION; i++) {
+                offset[i] += center[i];
+            }
+            return normalize(offset);
+        }
+
+        private float[] gaussian(float scale) {
+            float[] vector = new float[DIMENSION];
+            for (int i = 0; i < DIMENSION; i++) {
+                vector[i] = (float) random.nextGaussian() * scale;
+            }
+            return vector;
+        }
+
+        private static float[] normalize(float[] vector) {
+            double norm = 0;
+            for (float v : vector) {
+                norm += v * v;
+            }
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] *= scale;
+            }
+            return vector;
+        }
+    }
+}
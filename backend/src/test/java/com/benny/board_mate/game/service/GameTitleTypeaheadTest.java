@@ -0,0 +1,123 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.game.dto.GameSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("게임 제목 자동완성 테스트")
+class GameTitleTypeaheadTest extends PostgresIntegrationTest {
+
+    // bggId, 제목, 한글 제목, 평가 수
+    private static final Object[][] GAMES = {
+            {8_000_001L, "Wingspan", "윙스팬", 8000},
+            {8_000_002L, "Gloomhaven", "글룸헤이븐", 7000},
+            {8_000_003L, "Terraforming Mars", "테라포밍 마스", 6000},
+            {8_000_004L, "Azul", "아줄", 500},
+            {8_000_005L, "Stained Glass of Azul", null, 9000},
+            {8_000_006L, "Brass: Birmingham", "브라스: 버밍엄", 4000},
+    };
+
+    @Autowired
+    private GameTitleTypeahead typeahead;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 순위는 테이블 전체 기준이므로 다른 테스트가 남긴 게임을 지운다
+        jdbcTemplate.execute("TRUNCATE board_games CASCADE");
+        for (Object[] game : GAMES) {
+            insertGame((Long) game[0], (String) game[1], (String) game[2], (Integer) game[3]);
+        }
+    }
+
+    @Test
+    @DisplayName("한글 제목은 부분 일치, 입력 중인 음절(윙슾), 띄어쓰기 무시로 찾는다")
+    void suggest_matchesKoreanWhileTyping() {
+        assertThat(titles("윙스")).first().isEqualTo("Wingspan");
+        assertThat(titles("윙슾")).first().isEqualTo("Wingspan");
+        assertThat(titles("테라포밍마")).first().isEqualTo("Terraforming Mars");
+        assertThat(titles("버밍")).first().isEqualTo("Brass: Birmingham");
+    }
+
+    @Test
+    @DisplayName("자음만 입력하면 초성으로 찾는다")
+    void suggest_matchesChoseong() {
+        assertThat(titles("ㄱㄹㅎㅇㅂ")).first().isEqualTo("Gloomhaven");
+        assertThat(titles("ㅌㄹㅍ")).first().isEqualTo("Terraforming Mars");
+    }
+
+    @Test
+    @DisplayName("원제는 대소문자 무시 부분 일치와 오타를 찾고, 앞부분 일치가 평가 수보다 먼저다")
+    void suggest_ranksPrefixBeforePopularity() {
+        assertThat(titles("GLOOMHAVN")).first().isEqualTo("Gloomhaven");
+        assertThat(titles("azul")).startsWith("Azul", "Stained Glass of Azul");
+        assertThat(titles("100%_")).isEmpty();
+        assertThat(titles("   ")).isEmpty();
+    }
+
+    @Tag("benchmark")
+    @Test
+    @DisplayName("게임 2만 개에서 자동완성 p99")
+    void benchmark_Latency() {
+        String[] syllables = "가나다라마바사아자차카타파하고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후".split("");
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder korean = new StringBuilder();
+            for (int s = 0; s < 2 + random.nextInt(4); s++) {
+                korean.append(syllables[random.nextInt(syllables.length)]);
+            }
+            rows.add(new Object[]{9_000_000L + i, "Synthetic Game " + i, korean.toString(), random.nextInt(10_000)});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO board_games (bgg_id, title, title_korean, num_ratings, min_players, max_players, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 2, 4, now(), now())
+                ON CONFLICT (bgg_id) DO NOTHING
+                """, rows);
+        jdbcTemplate.execute("ANALYZE board_games");
+
+        String[] queries = {"가", "카타", "ㄱㄴ", "ㅋㅌㅍ", "윙스", "synthetic game 12", "gloomhavn", "호루", "도모보"};
+        for (int i = 0; i < 200; i++) {
+            typeahead.suggest(queries[i % queries.length], 10);
+        }
+        long[] nanos = new long[2000];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            typeahead.suggest(queries[i % queries.length], 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double p50 = nanos[nanos.length / 2] / 1_000_000.0;
+        double p99 = nanos[nanos.length * 99 / 100] / 1_000_000.0;
+        System.out.printf("자동완성 (캐시 미사용, 20,000개): p50=%.2fms, p99=%.2fms%n", p50, p99);
+        assertThat(p99).isLessThan(10.0);
+    }
+
+    private List<String> titles(String query) {
+        return typeahead.suggest(query, 10).stream().map(GameSuggestion::getTitle).toList();
+    }
+
+    private void insertGame(long bggId, String title, String titleKorean, int numRatings) {
+        jdbcTemplate.update("""
+                INSERT INTO board_games (bgg_id, title, title_korean, num_ratings, min_players, max_players, created_at, updated_at)
+                VALUES (?, ?, ?, ?, 2, 4, now(), now())
+                ON CONFLICT (bgg_id) DO NOTHING
+                """, bggId, title, titleKorean, numRatings);
+    }
+}
@@ -0,0 +1,43 @@
+package com.benny.board_mate.game.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("하이브리드 검색 결합/검색어 추출 테스트")
+class HybridGameRetrieverTest {
+
+    @Test
+    @DisplayName("두 목록에 모두 나온 게임이 한쪽에서만 1위인 게임보다 앞선다")
+    void fuse_prefersAgreement() {
+        List<Long> byTitle = List.of(1L, 2L, 3L);
+        List<Long> byVector = List.of(9L, 3L, 8L);
+
+        List<Long> fused = HybridGameRetriever.fuse(List.of(byTitle, byVector), 60, 4);
+
+        // 3: 1/63 + 1/62, 1: 1/61, 9: 1/61 (동점은 앞 목록 우선)
+        assertThat(fused).containsExactly(3L, 1L, 9L, 2L);
+    }
+
+    @Test
+    @DisplayName("한쪽 목록이 비어 있으면 나머지 순위를 그대로 쓴다")
+    void fuse_singleRanking() {
+        assertThat(HybridGameRetriever.fuse(List.of(List.of(), List.of(5L, 6L, 7L)), 60, 2))
+                .containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("조사와 불용어를 떼고 게임 이름 후보만 남긴다")
+    void extractTerms_stripsParticlesAndStopwords() {
+        assertThat(GameTitleSearch.extractTerms("카탄이랑 비슷한 게임 추천해줘")).containsExactly("카탄");
+        assertThat(GameTitleSearch.extractTerms("2인용으로 스플렌더와 윙스팬 중에 뭐가 나아?"))
+                .contains("스플렌더", "윙스팬")
+                .doesNotContain("2인용", "2인용으로");
+        assertThat(GameTitleSearch.extractTerms("Something like Ticket to Ride?"))
+                .contains("something", "ticket", "ride");
+        assertThat(GameTitleSearch.extractTerms("Power Grid 같은 게임")).contains("power grid");
+    }
+}
@@ -0,0 +1,116 @@
+package com.benny.board_mate.game.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("질의 임베딩 캐시 테스트")
+class QueryEmbeddingCacheTest {
+
+    private final Map<String, byte[]> redis = new HashMap<>();
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    private final Function<String, float[]> loader = query -> {
+        apiCalls.incrementAndGet();
+        return new float[]{query.length(), 0.5f, -1.25f};
+    };
+
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisStringCommands commands = mock(RedisStringCommands.class);
+        when(commands.get(any())).thenAnswer(invocation ->
+                redis.get(new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8)));
+        when(commands.set(any(), any(), any(), any())).thenAnswer(invocation -> {
+            redis.put(new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8), invocation.getArgument(1));
+            return true;
+        });
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.stringCommands()).thenReturn(commands);
+
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+                invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    }
+
+    @Test
+    @DisplayName("공백/대소문자만 다른 질의는 같은 키로 L1에서 반환된다")
+    void get_normalizedQueryHitsLocal() {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(redisTemplate, "text-embedding-004", 100, 1);
+
+        float[] first = cache.get("2인용 게임 추천해줘", loader);
+        float[] second = cache.get("  2인용   게임 추천해줘 ", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(apiCalls).hasValue(1);
+        assertThat(cache.stats())
+                .containsEntry("localHits", 1L)
+                .containsEntry("misses", 1L)
+                .containsEntry("hitRate", 0.5);
+    }
+
+    @Test
+    @DisplayName("L1에서 밀려난 질의는 Redis에서 복원한다")
+    void get_fallsBackToRedisAfterLocalEviction() {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(redisTemplate, "text-embedding-004", 1, 1);
+
+        float[] original = cache.get("Catan", loader);
+        cache.get("Wingspan", loader);
+        float[] restored = cache.get("Catan", loader);
+
+        assertThat(restored).containsExactly(original);
+        assertThat(apiCalls).hasValue(2);
+        assertThat(cache.stats()).containsEntry("redisHits", 1L).containsEntry("localSize", 1);
+        // 차원당 float32 4바이트 그대로 저장
+        assertThat(redis.values()).allMatch(bytes -> bytes.length == 3 * Float.BYTES);
+    }
+
+    @Test
+    @DisplayName("임베딩 API 실패(null)는 캐시하지 않는다")
+    void get_doesNotCacheFailures() {
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(redisTemplate, "text-embedding-004", 100, 1);
+
+        assertThat(cache.get("Catan", query -> null)).isNull();
+        assertThat(cache.get("Catan", loader)).isNotNull();
+        assertThat(redis).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 L1과 API 호출로 동작한다")
+    @SuppressWarnings("unchecked")
+    void get_worksWithoutRedis() {
+        RedisTemplate<String, String> broken = mock(RedisTemplate.class);
+        when(broken.execute(any(RedisCallback.class))).thenThrow(new RedisConnectionFailureException("down"));
+        QueryEmbeddingCache cache = new QueryEmbeddingCache(broken, "text-embedding-004", 100, 1);
+
+        cache.get("Catan", loader);
+        cache.get("catan", loader);
+
+        assertThat(apiCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("float 배열 바이너리 인코딩 왕복")
+    void encodeDecode_roundTrip() {
+        float[] embedding = {0f, -0f, 1.5f, Float.MIN_VALUE, Float.MAX_VALUE, -3.25e-7f};
+
+        assertThat(QueryEmbeddingCache.decode(QueryEmbeddingCache.encode(embedding))).containsExactly(embedding);
+    }
+}
@@ -0,0 +1,93 @@
+package com.benny.board_mate.game.service;
+
+import com.benny.board_mate.game.dto.SimilarGame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("VectorSlab 테스트")
+class VectorSlabTest {
+
+    private static final int DIMENSION = 77;  // SIMD 레인 수로 나누어떨어지지 않는 차원
+
+    @Test
+    @DisplayName("SIMD top-k 결과가 스칼라 전체 정렬과 같다")
+    void search_MatchesScalarBruteForce() {
+        Random random = new Random(1);
+        float[][] vectors = new float[500][];
+        VectorSlab slab = new VectorSlab(DIMENSION, 16);   // 추가 중 용량 증가까지 확인
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(random);
+            slab.add(i, vectors[i]);
+        }
+        float[] query = randomVector(random);
+
+        List<SimilarGame> result = slab.search(query, 10);
+
+        List<Long> expected = IntStream.range(0, vectors.length).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> -cosine(query, vectors[i])))
+                .limit(10)
+                .map(Integer::longValue)
+                .toList();
+        assertThat(result).extracting(SimilarGame::bggId).containsExactlyElementsOf(expected);
+        assertThat(result.get(0).similarity()).isCloseTo(cosine(query, vectors[expected.get(0).intValue()]), within(1e-4));
+    }
+
+    @Test
+    @DisplayName("같은 id를 다시 넣으면 새 벡터로 교체된다")
+    void add_ReplacesExistingId() {
+        VectorSlab slab = new VectorSlab(DIMENSION);
+        float[] first = unit(0);
+        float[] second = unit(1);
+        slab.add(7L, first);
+        slab.add(8L, unit(2));
+
+        slab.add(7L, second);
+
+        assertThat(slab.size()).isEqualTo(2);
+        List<SimilarGame> result = slab.search(second, 5);
+        assertThat(result).extracting(SimilarGame::bggId).containsExactly(7L, 8L);
+        assertThat(slab.search(first, 5).get(0).similarity()).isCloseTo(0.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("저장된 수보다 limit이 크면 저장된 만큼만 반환")
+    void search_LimitLargerThanSize() {
+        VectorSlab slab = new VectorSlab(DIMENSION);
+        slab.add(1L, unit(0));
+        slab.add(2L, unit(1));
+
+        assertThat(slab.search(unit(0), 10)).extracting(SimilarGame::bggId).containsExactly(1L, 2L);
+    }
+
+    private float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private float[] unit(int axis) {
+        float[] vector = new float[DIMENSION];
+        vector[axis] = 3f;  // 정규화되는지 함께 확인
+        return vector;
+    }
+
+    private double cosine(float[] a, float[] b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+}
@@ -0,0 +1,206 @@
+package com.benny.board_mate.job;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.game.service.GameDataImportService;
+import com.benny.board_mate.job.dto.AdminJobResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "admin.jobs.stale-after-seconds=60"
+})
+@DisplayName("관리자 작업 엔진 테스트")
+class AdminJobServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AdminJobService jobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private GameDataImportService importService;
+
+    @Test
+    @DisplayName("임포트 작업은 등록 즉시 id를 돌려주고 백그라운드에서 끝까지 실행된다")
+    void submit_runsImportInBackground(@TempDir Path dir) throws Exception {
+        Path csv = writeCsv(dir, 2_000_000, 3000);
+
+        AdminJobResponse submitted = jobService.submit(AdminJobType.GAME_IMPORT, csv.toString(), 2500);
+        assertThat(submitted.getId()).isNotNull();
+        assertThat(submitted.getStatus()).isEqualTo(AdminJobStatus.QUEUED);
+
+        AdminJobResponse finished = awaitFinished(submitted.getId());
+        assertThat(finished.getStatus()).isEqualTo(AdminJobStatus.SUCCEEDED);
+        assertThat(finished.getTotalRows()).isEqualTo(2500);
+        assertThat(finished.getProcessedRows()).isEqualTo(2500);
+        assertThat(finished.getResult()).containsEntry("imported", 2500);
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("heartbeat가 끊긴 RUNNING 작업은 재시작 점검 때 다시 실행되고, 이미 저장된 행은 건너뛴다")
+    void recover_resumesStaleJob(@TempDir Path dir) throws Exception {
+        Path csv = writeCsv(dir, 3_000_000, 1500);
+        // 이전 인스턴스가 일부(bggId 3000000)를 저장한 뒤 죽은 상황
+        jdbcTemplate.update("""
+                INSERT INTO board_games (bgg_id, title, min_players, max_players, created_at, updated_at)
+                VALUES (3000000, 'already imported', 2, 4, now(), now())
+                """);
+        Long jobId = jdbcTemplate.queryForObject("""
+                INSERT INTO admin_jobs (type, status, source, row_limit, total_rows, processed_rows, failed_rows,
+                                        cancel_requested, started_at, heartbeat_at, created_at, updated_at)
+                VALUES ('GAME_IMPORT', 'RUNNING', ?, 1500, 1500, 1, 0, false,
+                        now() - interval '10 minutes', now() - interval '10 minutes', now(), now())
+                RETURNING id
+                """, Long.class, csv.toString());
+
+        jobService.recover();
+
+        AdminJobResponse finished = awaitFinished(jobId);
+        assertThat(finished.getStatus()).isEqualTo(AdminJobStatus.SUCCEEDED);
+        assertThat(finished.getResult()).containsEntry("imported", 1499);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM board_games WHERE bgg_id >= 3000000 AND bgg_id < 4000000", Long.class))
+                .isEqualTo(1500L);
+    }
+
+    @Test
+    @DisplayName("끝난 작업은 취소할 수 없고, 없는 작업은 404")
+    void cancel_rejectsFinishedOrMissingJob(@TempDir Path dir) throws Exception {
+        Path csv = writeCsv(dir, 5_400_000, 10);
+        Long jobId = jobService.submit(AdminJobType.GAME_IMPORT, csv.toString(), 10).getId();
+        awaitFinished(jobId);
+
+        assertThatThrownBy(() -> jobService.cancel(jobId))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_ALREADY_FINISHED);
+        assertThatThrownBy(() -> jobService.getJob(-1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업을 취소하면 다음 청크 경계에서 멈추고, 그동안 같은 종류의 작업은 등록할 수 없다")
+    void cancel_stopsRunningJobAtNextChunk(@TempDir Path dir) throws Exception {
+        Path csv = writeCsv(dir, 5_500_000, 3000);
+        CountDownLatch release = blockImport();
+
+        Long jobId = jobService.submit(AdminJobType.GAME_IMPORT, csv.toString(), 3000).getId();
+        awaitStatus(jobId, AdminJobStatus.RUNNING);
+
+        assertThatThrownBy(() -> jobService.submit(AdminJobType.GAME_IMPORT, csv.toString(), 3000))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_ALREADY_ACTIVE);
+
+        AdminJobResponse cancelling = jobService.cancel(jobId);
+        assertThat(cancelling.getStatus()).isEqualTo(AdminJobStatus.RUNNING);
+        release.countDown();
+
+        AdminJobResponse finished = awaitFinished(jobId);
+        assertThat(finished.getStatus()).isEqualTo(AdminJobStatus.CANCELLED);
+        assertThat(finished.getProcessedRows()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM board_games WHERE bgg_id >= 5500000 AND bgg_id < 5600000", Long.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("heartbeat는 이 인스턴스가 실행 중인 작업만 갱신한다")
+    void heartbeat_refreshesOnlyOwnRunningJob(@TempDir Path dir) throws Exception {
+        Path csv = writeCsv(dir, 5_600_000, 10);
+        CountDownLatch release = blockImport();
+
+        Long jobId = jobService.submit(AdminJobType.GAME_IMPORT, csv.toString(), 10).getId();
+        awaitStatus(jobId, AdminJobStatus.RUNNING);
+        jdbcTemplate.update("UPDATE admin_jobs SET heartbeat_at = now() - interval '10 minutes' WHERE id = ?", jobId);
+
+        jobService.heartbeat();
+        assertThat(heartbeatAgeSeconds(jobId)).isLessThan(60);
+
+        // 다른 인스턴스가 이어받은 작업이면 건드리지 않는다
+        jdbcTemplate.update("""
+                UPDATE admin_jobs SET owner = 'other-instance', heartbeat_at = now() - interval '10 minutes'
+                WHERE id = ?
+                """, jobId);
+        jobService.heartbeat();
+        assertThat(heartbeatAgeSeconds(jobId)).isGreaterThanOrEqualTo(600);
+
+        // 남은 실행은 owner가 달라 결과를 기록하지 못하므로 직접 정리
+        jdbcTemplate.update("UPDATE admin_jobs SET status = 'CANCELLED', finished_at = now() WHERE id = ?", jobId);
+        release.countDown();
+    }
+
+    // 임포트가 시작되면 release될 때까지 멈춰 있게 (RUNNING 상태를 확실히 잡기 위해)
+    private CountDownLatch blockImport() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(30, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(importService).importFromCsv(anyString(), anyInt(), any(JobProgress.class));
+        return release;
+    }
+
+    private long heartbeatAgeSeconds(Long jobId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT extract(epoch FROM now() - heartbeat_at)::bigint FROM admin_jobs WHERE id = ?",
+                Long.class, jobId);
+    }
+
+    private void awaitStatus(Long jobId, AdminJobStatus status) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            if (jobService.getJob(jobId).getStatus() == status) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("작업 상태가 바뀌지 않음: id=" + jobId + ", expected=" + status);
+    }
+
+    private AdminJobResponse awaitFinished(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            AdminJobResponse job = jobService.getJob(jobId);
+            if (!AdminJobStatus.ACTIVE.contains(job.getStatus())) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("작업이 끝나지 않음: id=" + jobId);
+    }
+
+    private static Path writeCsv(Path dir, long firstBggId, int rows) throws IOException {
+        Path file = dir.resolve("games-" + firstBggId + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("BGGId,Name,NumUserRatings,MinPlayers,MaxPlayers,GameWeight");
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write((firstBggId + i) + ",Game " + i + "," + (rows - i) + ",2,4,2.5");
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+}
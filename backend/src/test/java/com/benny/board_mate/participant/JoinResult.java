@@ -0,0 +1,26 @@
+package com.benny.board_mate.participant;
+
+import java.util.Arrays;
+
+/**
+ * 동시 참가 테스트 결과 (ParticipantConcurrencyTest, RoomLockMultiNodeTest 공용)
+ *
+ * @param latencies 요청별 소요 시간 (나노초)
+ */
+record JoinResult(int successCount, int failCount, long elapsedNanos, long[] latencies) {
+
+    long elapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    double throughput() {
+        return latencies.length / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    double percentileMillis(double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+}
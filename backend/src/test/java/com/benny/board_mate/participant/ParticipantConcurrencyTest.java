@@ -10,22 +10,33 @@ import com.benny.board_mate.trust.TrustScore;
 import com.benny.board_mate.trust.TrustScoreRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "participant.join-strategy=reservation",
+        // 배치 반영은 테스트에서 직접 호출 (스케줄러와 경합하지 않도록)
+        "participant.reservation.flush-interval-ms=3600000",
+        "participant.reservation.reconcile-interval-ms=3600000"
+})
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
 class ParticipantConcurrencyTest {
 
@@ -35,6 +46,15 @@ class ParticipantConcurrencyTest {
     @Autowired
     private ParticipantServiceOptimistic participantServiceOptimistic;
 
+    @Autowired
+    private ParticipantServiceAtomic participantServiceAtomic;
+
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private SeatWriteBehindFlusher seatWriteBehindFlusher;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -65,6 +85,10 @@ class ParticipantConcurrencyTest {
     }
 
     private Room createTestRoom(String uniqueId) {
+        return createTestRoom(uniqueId, MAX_PARTICIPANTS);
+    }
+
+    private Room createTestRoom(String uniqueId, int maxParticipants) {
         User host = createUserWithTrustScore("host_" + uniqueId + "@test.com", "방장_" + uniqueId);
 
         Room room = roomRepository.save(Room.builder()
@@ -72,7 +96,7 @@ class ParticipantConcurrencyTest {
                 .game(testGame)
                 .region("서울")
                 .gameDate(LocalDateTime.now().plusDays(1))
-                .maxParticipants(MAX_PARTICIPANTS)
+                .maxParticipants(maxParticipants)
                 .build());
 
         participantRepository.save(Participant.builder()
@@ -201,4 +225,154 @@ class ParticipantConcurrencyTest {
         // 재시도 로직이 있어도 race condition 완벽 방지 어려움
         System.out.println("정원 초과 여부: " + (participantCount > MAX_PARTICIPANTS));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조건부 UPDATE: 100명 동시 참가 시 정원(4명) 초과 방지")
+    void atomicUpdate_preventOverbooking() throws InterruptedException {
+        String uniqueId = "atomic_" + System.currentTimeMillis();
+        Room testRoom = createTestRoom(uniqueId);
+        List<User> users = createUsers(uniqueId, CONCURRENT_USERS);
+
+        JoinResult result = joinConcurrently(JoinStrategy.ATOMIC, testRoom, users);
+
+        Room updatedRoom = roomRepository.findById(testRoom.getId()).orElseThrow();
+        int participantCount = participantRepository.findByRoom(updatedRoom).size();
+
+        System.out.println("=== 조건부 UPDATE 테스트 결과 ===");
+        System.out.println("소요 시간: " + result.elapsedMillis() + "ms");
+        System.out.println("참가 성공: " + result.successCount());
+        System.out.println("참가 실패: " + result.failCount());
+        System.out.println("실제 참가자 수: " + participantCount);
+
+        assertThat(participantCount).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(updatedRoom.getCurrentParticipants()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(result.successCount()).isEqualTo(MAX_PARTICIPANTS - 1);
+    }
+
+    @Test
+    @DisplayName("Redis 좌석 배정: 100명 동시 참가 시 정원(4명) 초과 방지, DB에는 배치로 반영")
+    void reservation_preventOverbooking() throws InterruptedException {
+        String uniqueId = "reservation_" + System.currentTimeMillis();
+        Room testRoom = createTestRoom(uniqueId);
+        List<User> users = createUsers(uniqueId, CONCURRENT_USERS);
+
+        JoinResult result = joinConcurrently(JoinStrategy.RESERVATION, testRoom, users);
+
+        Room updatedRoom = roomRepository.findById(testRoom.getId()).orElseThrow();
+        int participantCount = participantRepository.findByRoom(updatedRoom).size();
+
+        System.out.println("=== Redis 좌석 배정 테스트 결과 ===");
+        System.out.println("소요 시간: " + result.elapsedMillis() + "ms");
+        System.out.println("참가 성공: " + result.successCount());
+        System.out.println("참가 실패: " + result.failCount());
+        System.out.println("실제 참가자 수: " + participantCount);
+
+        assertThat(participantCount).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(updatedRoom.getCurrentParticipants()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(result.successCount()).isEqualTo(MAX_PARTICIPANTS - 1);
+    }
+
+    static Stream<Arguments> benchmarkCases() {
+        return Stream.of(100, 1_000, 10_000)
+                .flatMap(joiners -> Arrays.stream(JoinStrategy.values())
+                        .map(strategy -> Arguments.of(strategy, joiners)));
+    }
+
+    /**
+     * 전략별 처리량/지연시간 비교 (정원 = 참가자 수의 절반, 성공/실패 경로 모두 포함)
+     * ./gradlew benchmark 로 실행
+     */
+    @Tag("benchmark")
+    @ParameterizedTest(name = "{0} - {1}명 동시 참가")
+    @MethodSource("benchmarkCases")
+    void benchmark_joinStrategies(JoinStrategy strategy, int joiners) throws InterruptedException {
+        String uniqueId = strategy.name().toLowerCase() + "_" + joiners + "_" + System.currentTimeMillis();
+        int capacity = joiners / 2;
+        Room testRoom = createTestRoom(uniqueId, capacity);
+        List<User> users = createUsers(uniqueId, joiners);
+
+        JoinResult result = joinConcurrently(strategy, testRoom, users);
+
+        Room updatedRoom = roomRepository.findById(testRoom.getId()).orElseThrow();
+        int participantCount = participantRepository.findByRoom(updatedRoom).size();
+
+        System.out.printf("=== %s / %d명 ===%n", strategy, joiners);
+        System.out.printf("처리량: %.1f req/s, p50: %.2fms, p99: %.2fms%n",
+                result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99));
+        System.out.printf("참가 성공: %d, 실패: %d, 실제 참가자 수: %d (정원 %d)%n",
+                result.successCount(), result.failCount(), participantCount, capacity);
+
+        if (strategy != JoinStrategy.OPTIMISTIC) {
+            assertThat(participantCount).isEqualTo(capacity);
+        }
+    }
+
+    private List<User> createUsers(String uniqueId, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .email("user" + i + "_" + uniqueId + "@test.com")
+                    .password("password")
+                    .nickname("유저" + i + "_" + uniqueId)
+                    .role("USER")
+                    .build());
+        }
+        List<User> saved = userRepository.saveAll(users);
+
+        trustScoreRepository.saveAll(saved.stream()
+                .map(user -> TrustScore.builder()
+                        .user(user)
+                        .score(100)
+                        .build())
+                .toList());
+
+        return saved;
+    }
+
+    private JoinResult joinConcurrently(JoinStrategy strategy, Room room, List<User> users)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(users.size());
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        long[] latencies = new long[users.size()];
+
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < users.size(); i++) {
+            int index = i;
+            Long userId = users.get(i).getId();
+            executor.submit(() -> {
+                long begin = System.nanoTime();
+                try {
+                    switch (strategy) {
+                        case PESSIMISTIC -> participantService.joinRoom(userId, room.getId());
+                        case OPTIMISTIC -> participantServiceOptimistic.joinRoomWithRetry(userId, room.getId());
+                        case ATOMIC -> participantServiceAtomic.joinRoom(userId, room.getId());
+                        case RESERVATION -> seatReservationService.joinRoom(userId, room.getId());
+                    }
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - begin;
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        // 응답 이후 비동기로 반영되는 좌석을 DB에 모두 내려쓴 뒤 검증
+        if (strategy == JoinStrategy.RESERVATION) {
+            while (!seatReservationService.peekPending().isEmpty()) {
+                seatWriteBehindFlusher.flush();
+            }
+        }
+
+        return new JoinResult(successCount.get(), failCount.get(), elapsedNanos, latencies);
+    }
+}
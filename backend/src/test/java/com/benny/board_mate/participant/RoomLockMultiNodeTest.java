@@ -0,0 +1,257 @@
+package com.benny.board_mate.participant;
+
+import com.benny.board_mate.BoardMateApplication;
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.common.exception.BusinessException;
+import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.common.lock.RoomLock;
+import com.benny.board_mate.common.lock.RoomLockProvider;
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.room.Room;
+import com.benny.board_mate.room.RoomRepository;
+import com.benny.board_mate.user.User;
+import com.benny.board_mate.user.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 다중 인스턴스 방 참가 테스트
+ *
+ * 한 JVM 안에 Spring 컨텍스트 두 개(nodeA, nodeB)를 띄우고 같은 Postgres/Redis 컨테이너를 공유한다.
+ * 참가 요청을 두 노드에 번갈아 보내 인스턴스 간 락이 실제로 동작하는지 확인한다.
+ */
+@Testcontainers
+@DisplayName("방 락 다중 인스턴스 테스트")
+class RoomLockMultiNodeTest extends PostgresIntegrationTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    enum Mode {
+        REDIS_LOCK,   // ParticipantLockFacade + RedisRoomLockProvider
+        PESSIMISTIC,  // SELECT ... FOR UPDATE
+        OPTIMISTIC    // @Version + 재시도
+    }
+
+    @BeforeAll
+    static void startNodes() {
+        // 스키마 초기화가 겹치지 않도록 순서대로 기동
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(BoardMateApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "room.lock.provider=redis"
+                )
+                .run();
+    }
+
+    @Test
+    @DisplayName("두 노드에서 동시 참가해도 정원 초과 없음 (Redis 락)")
+    void redisLock_preventOverbookingAcrossNodes() throws InterruptedException {
+        Room room = createRoom("redis_" + System.nanoTime(), 4);
+        List<User> users = createUsers("redis_" + System.nanoTime(), 100);
+
+        JoinResult result = joinAcrossNodes(Mode.REDIS_LOCK, room, users);
+
+        assertThat(participantCount(room)).isEqualTo(4);
+        assertThat(result.successCount()).isEqualTo(3);
+        assertThat(nodeA.getBean(RoomRepository.class).findById(room.getId()).orElseThrow()
+                .getCurrentParticipants()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("임대 시간이 지난 이전 락 소유자의 쓰기는 fencing token으로 거부")
+    void staleFencingToken_Rejected() {
+        Room room = createRoom("fence_" + System.nanoTime(), 4);
+        List<User> users = createUsers("fence_" + System.nanoTime(), 2);
+
+        RoomLock staleLock = nodeA.getBean(RoomLockProvider.class).acquire(room.getId());
+        staleLock.close();  // 임대 만료를 흉내: 토큰은 들고 있지만 락은 이미 없음
+
+        try (RoomLock currentLock = nodeB.getBean(RoomLockProvider.class).acquire(room.getId())) {
+            assertThat(currentLock.fencingToken()).isGreaterThan(staleLock.fencingToken());
+            nodeB.getBean(ParticipantService.class)
+                    .joinRoom(users.get(0).getId(), room.getId(), currentLock.fencingToken());
+        }
+
+        assertThatThrownBy(() -> nodeA.getBean(ParticipantService.class)
+                .joinRoom(users.get(1).getId(), room.getId(), staleLock.fencingToken()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ROOM_LOCK_EXPIRED);
+    }
+
+    static Stream<Arguments> benchmarkCases() {
+        return Stream.of(100, 1_000)
+                .flatMap(joiners -> Arrays.stream(Mode.values())
+                        .map(mode -> Arguments.of(mode, joiners)));
+    }
+
+    /**
+     * 다중 인스턴스 환경에서 락 방식별 처리량/지연시간 비교
+     * ./gradlew benchmark 로 실행
+     */
+    @Tag("benchmark")
+    @ParameterizedTest(name = "{0} - {1}명 동시 참가 (2 노드)")
+    @MethodSource("benchmarkCases")
+    void benchmark_lockModes(Mode mode, int joiners) throws InterruptedException {
+        String uniqueId = mode.name().toLowerCase() + "_" + joiners + "_" + System.nanoTime();
+        int capacity = joiners / 2;
+        Room room = createRoom(uniqueId, capacity);
+        List<User> users = createUsers(uniqueId, joiners);
+
+        JoinResult result = joinAcrossNodes(mode, room, users);
+        int participantCount = participantCount(room);
+
+        System.out.printf("=== %s / %d명 / 2 노드 ===%n", mode, joiners);
+        System.out.printf("처리량: %.1f req/s, p50: %.2fms, p99: %.2fms%n",
+                result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99));
+        System.out.printf("참가 성공: %d, 실패: %d, 실제 참가자 수: %d (정원 %d)%n",
+                result.successCount(), result.failCount(), participantCount, capacity);
+
+        if (mode != Mode.OPTIMISTIC) {
+            assertThat(participantCount).isEqualTo(capacity);
+        }
+    }
+
+    private Room createRoom(String uniqueId, int capacity) {
+        UserRepository userRepository = nodeA.getBean(UserRepository.class);
+        GameRepository gameRepository = nodeA.getBean(GameRepository.class);
+        RoomRepository roomRepository = nodeA.getBean(RoomRepository.class);
+        ParticipantRepository participantRepository = nodeA.getBean(ParticipantRepository.class);
+
+        User host = userRepository.save(User.builder()
+                .email("host_" + uniqueId + "@test.com")
+                .password("password")
+                .nickname("방장_" + uniqueId)
+                .role("USER")
+                .build());
+
+        BoardGame game = gameRepository.save(BoardGame.builder()
+                .title("테스트게임_" + uniqueId)
+                .minPlayers(2)
+                .maxPlayers(4)
+                .build());
+
+        Room room = roomRepository.save(Room.builder()
+                .host(host)
+                .game(game)
+                .region("서울")
+                .gameDate(LocalDateTime.now().plusDays(1))
+                .maxParticipants(capacity)
+                .build());
+
+        participantRepository.save(Participant.builder()
+                .room(room)
+                .user(host)
+                .build());
+
+        return room;
+    }
+
+    private List<User> createUsers(String uniqueId, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .email("user" + i + "_" + uniqueId + "@test.com")
+                    .password("password")
+                    .nickname("유저" + i + "_" + uniqueId)
+                    .role("USER")
+                    .build());
+        }
+        return nodeA.getBean(UserRepository.class).saveAll(users);
+    }
+
+    private int participantCount(Room room) {
+        return nodeA.getBean(ParticipantRepository.class).findByRoomId(room.getId()).size();
+    }
+
+    // 짝수 번째 요청은 nodeA, 홀수 번째 요청은 nodeB로 보낸다
+    private JoinResult joinAcrossNodes(Mode mode, Room room, List<User> users) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(users.size());
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        long[] latencies = new long[users.size()];
+
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < users.size(); i++) {
+            int index = i;
+            Long userId = users.get(i).getId();
+            ConfigurableApplicationContext node = (i % 2 == 0) ? nodeA : nodeB;
+            executor.submit(() -> {
+                long begin = System.nanoTime();
+                try {
+                    switch (mode) {
+                        case REDIS_LOCK -> node.getBean(ParticipantLockFacade.class).joinRoom(userId, room.getId());
+                        case PESSIMISTIC -> node.getBean(ParticipantService.class).joinRoom(userId, room.getId());
+                        case OPTIMISTIC -> node.getBean(ParticipantServiceOptimistic.class)
+                                .joinRoomWithRetry(userId, room.getId());
+                    }
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - begin;
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        return new JoinResult(successCount.get(), failCount.get(), System.nanoTime() - startTime, latencies);
+    }
+}
@@ -0,0 +1,171 @@
+package com.benny.board_mate.room;
+
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.participant.Participant;
+import com.benny.board_mate.participant.ParticipantRepository;
+import com.benny.board_mate.room.dto.RoomResponse;
+import com.benny.board_mate.room.dto.RoomSearchRequest;
+import com.benny.board_mate.user.User;
+import com.benny.board_mate.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 방 목록 조회 시 host/game LAZY 연관관계로 인한 N+1 쿼리가 없는지 검증
+ * 각 목록 조회는 SQL 한 번으로 끝나야 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("방 목록 조회 쿼리 수 테스트")
+class RoomQueryCountTest {
+
+    private static final int ROOM_COUNT = 5;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private WaitingRoomCache waitingRoomCache;
+
+    private Statistics statistics;
+    private User member;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 캐시 미스 상황: loader로 DB 전체 목록을 읽는다
+        given(waitingRoomCache.getPage(anyInt(), anyInt(), any(Supplier.class)))
+                .willAnswer(invocation -> {
+                    Supplier<List<RoomResponse>> loader = invocation.getArgument(2);
+                    return new PageImpl<>(loader.get());
+                });
+
+        member = userRepository.save(User.builder()
+                .email("member@example.com")
+                .password("password123")
+                .nickname("참가자")
+                .role("USER")
+                .build());
+
+        // 방마다 다른 방장/게임을 만들어 연관 엔티티가 각각 로딩되도록 한다
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            User host = userRepository.save(User.builder()
+                    .email("host" + i + "@example.com")
+                    .password("password123")
+                    .nickname("방장" + i)
+                    .role("USER")
+                    .build());
+
+            BoardGame game = gameRepository.save(BoardGame.builder()
+                    .title("테스트 게임" + i)
+                    .minPlayers(2)
+                    .maxPlayers(4)
+                    .build());
+
+            Room room = roomRepository.save(Room.builder()
+                    .host(host)
+                    .game(game)
+                    .region("서울 강남")
+                    .gameDate(LocalDateTime.now().plusDays(1))
+                    .maxParticipants(4)
+                    .build());
+
+            participantRepository.save(Participant.builder()
+                    .room(room)
+                    .user(member)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAll();
+        roomRepository.deleteAll();
+        gameRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대기 방 전체 목록 조회는 쿼리 1번")
+    void getWaitingRooms_SingleStatement() {
+        assertSingleStatement(() -> roomService.getWaitingRooms());
+    }
+
+    @Test
+    @DisplayName("필터 검색은 쿼리 1번 (첫 페이지가 size보다 작으면 COUNT 생략)")
+    void searchRooms_WithFilter_SingleStatement() {
+        RoomSearchRequest request = new RoomSearchRequest();
+        request.setRegion("강남");
+
+        assertSingleStatement(() -> roomService.searchRooms(request).getContent());
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 전체 대기 방 목록 적재는 쿼리 1번")
+    void searchRooms_CacheLoad_SingleStatement() {
+        assertSingleStatement(() -> roomService.searchRooms(new RoomSearchRequest()).getContent());
+    }
+
+    @Test
+    @DisplayName("커서 기반 목록 조회는 쿼리 1번")
+    void scrollRooms_SingleStatement() {
+        RoomSearchRequest request = new RoomSearchRequest();
+        request.setCursor("");
+
+        assertSingleStatement(() -> roomService.scrollRooms(request).getContent());
+    }
+
+    @Test
+    @DisplayName("내가 참가한 방 목록 조회는 쿼리 1번")
+    void getMyRooms_SingleStatement() {
+        assertSingleStatement(() -> roomService.getMyRooms(member.getId()));
+    }
+
+    private void assertSingleStatement(Supplier<List<RoomResponse>> call) {
+        statistics.clear();
+
+        List<RoomResponse> result = call.get();
+
+        assertThat(result).hasSize(ROOM_COUNT);
+        assertThat(result).extracting(RoomResponse::getHostNickname).doesNotContainNull();
+        assertThat(result).extracting(RoomResponse::getGameTitle).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
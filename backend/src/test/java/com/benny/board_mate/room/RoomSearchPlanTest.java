@@ -0,0 +1,228 @@
+package com.benny.board_mate.room;
+
+import com.benny.board_mate.PostgresIntegrationTest;
+import com.benny.board_mate.room.dto.RoomSearchRequest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 검색 쿼리 플랜 회귀 테스트
+ *
+ * 운영과 비슷한 분포로 방 5만 개를 넣고 ANALYZE한 뒤, RoomSpecification의 모든 필터 조합에 대해
+ * Hibernate가 실제로 만든 SQL의 EXPLAIN (GENERIC_PLAN)이 room-search-indexes.sql의 어느 인덱스를 쓰는지 확인한다.
+ * 플래너 설정은 건드리지 않으므로, 통계상 인덱스가 이득이 아니면 테스트가 실패한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.benny.board_mate.room.RoomSearchPlanTest$SqlCapture"
+})
+@DisplayName("방 검색 쿼리 플랜 테스트")
+class RoomSearchPlanTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final int GAMES = 200;
+    private static final int ROOMS = 50_000;
+    private static final String[] REGIONS = {
+            "강남", "홍대", "신촌", "건대", "잠실", "성수", "종로", "합정", "사당", "노원",
+            "수원", "분당", "일산", "인천", "부천", "대전", "대구", "부산", "광주", "울산"
+    };
+
+    // 공유 DB의 다른 테스트가 rooms를 비우지 않으므로 클래스당 한 번만 넣는다
+    private static boolean seeded;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.STATEMENTS.clear();
+        if (!seeded) {
+            seedRooms();
+            seeded = true;
+        }
+    }
+
+    /**
+     * 필터 조합별로 기대하는 인덱스 (generic plan에서 파라미터 선택도는 기본값으로 추정된다)
+     * - 필터 없음: 상태 + 생성일 순서 그대로 LIMIT
+     * - 게임 지정: 게임 + 날짜 복합 인덱스 (지역/날짜는 같은 인덱스 또는 필터로 처리)
+     * - 날짜만: 날짜 인덱스
+     * - 지역만: trigram GIN 인덱스
+     */
+    static Stream<Arguments> filterCombinations() {
+        List<Arguments> combinations = new ArrayList<>();
+        for (String region : new String[]{null, "강남"}) {
+            for (Long gameId : new Long[]{null, 1L}) {
+                for (LocalDate date : new LocalDate[]{null, LocalDate.now().plusDays(1)}) {
+                    combinations.add(Arguments.of(region, gameId, date, expectedIndex(region, gameId, date)));
+                }
+            }
+        }
+        return combinations.stream();
+    }
+
+    private static String expectedIndex(String region, Long gameId, LocalDate date) {
+        if (gameId != null) {
+            return "idx_rooms_game_id_game_date";
+        }
+        if (date != null) {
+            return "idx_rooms_game_date";
+        }
+        if (region != null) {
+            return "idx_rooms_region_trgm";
+        }
+        return "idx_rooms_status_created_at";
+    }
+
+    @ParameterizedTest(name = "페이지 조회 region={0}, gameId={1}, date={2} → {3}")
+    @MethodSource("filterCombinations")
+    void searchRooms_UsesIndex(String region, Long gameId, LocalDate date, String expectedIndex) {
+        RoomSearchRequest request = request(region, gameId, date);
+
+        roomRepository.findAll(RoomSpecification.searchRooms(request),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertUsesIndex(capturedRoomSelect(), expectedIndex);
+    }
+
+    @ParameterizedTest(name = "커서 조회 region={0}, gameId={1}, date={2} → {3}")
+    @MethodSource("filterCombinations")
+    void scrollRooms_UsesIndex(String region, Long gameId, LocalDate date, String expectedIndex) {
+        RoomSearchRequest request = request(region, gameId, date);
+        Specification<Room> spec = RoomSpecification.searchRooms(request)
+                .and(RoomSpecification.beforeCursor(new RoomCursor(LocalDateTime.now(), Long.MAX_VALUE)));
+
+        roomRepository.findBy(spec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(11)
+                .all());
+
+        assertUsesIndex(capturedRoomSelect(), expectedIndex);
+    }
+
+    private RoomSearchRequest request(String region, Long gameId, LocalDate date) {
+        RoomSearchRequest request = new RoomSearchRequest();
+        request.setRegion(region);
+        request.setGameId(gameId);
+        request.setDate(date);
+        return request;
+    }
+
+    private String capturedRoomSelect() {
+        return SqlCapture.STATEMENTS.stream()
+                .filter(sql -> sql.strip().toLowerCase().startsWith("select"))
+                .filter(sql -> sql.toLowerCase().contains("from rooms"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("rooms 조회 SQL이 캡처되지 않았습니다"));
+    }
+
+    private void assertUsesIndex(String sql, String expectedIndex) {
+        String plan = explainGenericPlan(sql);
+        assertThat(plan)
+                .as("%s 인덱스를 타지 않는 쿼리:%n%s%n%n플랜:%n%s", expectedIndex, sql, plan)
+                .contains(expectedIndex)
+                .doesNotContain("Seq Scan on rooms");
+    }
+
+    /**
+     * 게임 200개, 방 5만 개 (대부분 지난 방, 모집 중은 약 10%), 지역 20곳, 날짜는 최근 1년 + 앞으로 한 달
+     */
+    private void seedRooms() {
+        Long hostId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, nickname, role, created_at, updated_at)
+                VALUES ('plan-host@test.com', 'password', 'plan-host', 'USER', now(), now())
+                ON CONFLICT (email) DO UPDATE SET nickname = EXCLUDED.nickname
+                RETURNING id
+                """, Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO board_games (bgg_id, title, min_players, max_players, created_at, updated_at)
+                SELECT 4000000 + g, 'Plan Game ' || g, 2, 4, now(), now()
+                FROM generate_series(1, ?) AS g
+                ON CONFLICT (bgg_id) DO NOTHING
+                """, GAMES);
+        jdbcTemplate.update("""
+                INSERT INTO rooms (host_id, game_id, region, game_date, max_participants, current_participants,
+                                   room_status, reminder_sent, created_at, updated_at, deleted_at)
+                SELECT ?,
+                       games.ids[1 + (r * 7919) % array_length(games.ids, 1)],
+                       (string_to_array(?, ','))[1 + (r * 31) % ?] || ' ' || (r % 50) || '번지',
+                       now() - interval '365 days' + (r % 395) * interval '1 day' + (r % 24) * interval '1 hour',
+                       4,
+                       1,
+                       CASE WHEN r % 10 = 0 THEN 'WAITING' WHEN r % 10 < 3 THEN 'FULL'
+                            WHEN r % 10 < 5 THEN 'PLAYING' ELSE 'CLOSED' END,
+                       false,
+                       now() - (? - r) * interval '10 minutes',
+                       now(),
+                       CASE WHEN r % 25 = 0 THEN now() END
+                FROM generate_series(1, ?) AS r,
+                     (SELECT array_agg(id ORDER BY id) AS ids FROM board_games
+                      WHERE bgg_id BETWEEN 4000001 AND 4000000 + ?) AS games
+                """, hostId, String.join(",", REGIONS), REGIONS.length, ROOMS, ROOMS, GAMES);
+        jdbcTemplate.execute("ANALYZE rooms");
+        jdbcTemplate.execute("ANALYZE board_games");
+    }
+
+    /**
+     * JDBC '?' 플레이스홀더를 $n으로 바꾸고 파라미터 값 없이 generic plan을 확인한다.
+     * (커넥션 풀에서 재사용되는 plan과 같은 조건)
+     */
+    private String explainGenericPlan(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++index);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
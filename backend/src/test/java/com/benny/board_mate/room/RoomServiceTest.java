@@ -2,6 +2,7 @@ package com.benny.board_mate.room;
 
 import com.benny.board_mate.common.exception.BusinessException;
 import com.benny.board_mate.common.exception.ErrorCode;
+import com.benny.board_mate.common.response.PageResponse;
 import com.benny.board_mate.game.BoardGame;
 import com.benny.board_mate.game.GameRepository;
 import com.benny.board_mate.participant.Participant;
@@ -29,11 +30,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +60,9 @@ class RoomServiceTest {
     @Mock
     private ParticipantRepository participantRepository;
 
+    @Mock
+    private WaitingRoomCache waitingRoomCache;
+
     private User testUser;
     private BoardGame testGame;
     private Room testRoom;
@@ -127,6 +135,8 @@ class RoomServiceTest {
 
             Participant savedParticipant = participantCaptor.getValue();
             assertThat(savedParticipant.getUser()).isEqualTo(testUser);
+
+            verify(waitingRoomCache).put(response);
         }
 
         @Test
@@ -171,9 +181,8 @@ class RoomServiceTest {
         @DisplayName("성공 - 대기 중인 방 목록을 조회한다")
         void getWaitingRooms_Success() {
             // given
-            List<Room> rooms = List.of(testRoom);
-            given(roomRepository.findByRoomStatusOrderByCreatedAtDesc(RoomStatus.WAITING))
-                    .willReturn(rooms);
+            given(roomRepository.findResponsesByRoomStatus(RoomStatus.WAITING))
+                    .willReturn(List.of(RoomResponse.from(testRoom)));
 
             // when
             List<RoomResponse> result = roomService.getWaitingRooms();
@@ -204,6 +213,62 @@ class RoomServiceTest {
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getTotalElements()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("성공 - 필터가 없으면 방 목록 캐시에서 한 페이지를 조회한다")
+        @SuppressWarnings("unchecked")
+        void searchRooms_WithoutFilter_UsesCache() {
+            // given
+            RoomSearchRequest request = new RoomSearchRequest();
+            request.setPage(1);
+            request.setSize(10);
+
+            Page<RoomResponse> cachedPage = new PageImpl<>(List.of(RoomResponse.from(testRoom)));
+            given(waitingRoomCache.getPage(eq(1), eq(10), any(Supplier.class)))
+                    .willReturn(cachedPage);
+
+            // when
+            Page<RoomResponse> result = roomService.searchRooms(request);
+
+            // then
+            assertThat(result).isSameAs(cachedPage);
+            verify(roomRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 커서 모드는 size + 1개를 조회해 다음 커서를 만든다")
+        @SuppressWarnings("unchecked")
+        void scrollRooms_ReturnsNextCursor() {
+            // given
+            RoomSearchRequest request = new RoomSearchRequest();
+            request.setSize(1);
+            request.setCursor("");
+
+            Room olderRoom = Room.builder()
+                    .host(testUser)
+                    .game(testGame)
+                    .region("서울 홍대")
+                    .gameDate(LocalDateTime.now().plusDays(2))
+                    .maxParticipants(4)
+                    .build();
+            ReflectionTestUtils.setField(olderRoom, "id", 2L);
+            ReflectionTestUtils.setField(testRoom, "createdAt", LocalDateTime.of(2025, 1, 1, 12, 0));
+
+            given(roomRepository.findBy(any(Specification.class), any(Function.class)))
+                    .willReturn(List.of(testRoom, olderRoom));
+
+            // when
+            PageResponse<RoomResponse> result = roomService.scrollRooms(request);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isLast()).isFalse();
+            assertThat(result.getTotalElements()).isNull();
+
+            RoomCursor cursor = RoomCursor.decode(result.getNextCursor());
+            assertThat(cursor.id()).isEqualTo(testRoom.getId());
+            assertThat(cursor.createdAt()).isEqualTo(testRoom.getCreatedAt());
+        }
     }
 
     @Nested
@@ -215,7 +280,7 @@ class RoomServiceTest {
         void getRoom_Success() {
             // given
             Long roomId = 1L;
-            given(roomRepository.findById(roomId)).willReturn(Optional.of(testRoom));
+            given(roomRepository.findResponseById(roomId)).willReturn(Optional.of(RoomResponse.from(testRoom)));
 
             // when
             RoomResponse result = roomService.getRoom(roomId);
@@ -230,7 +295,7 @@ class RoomServiceTest {
         void getRoom_NotFound() {
             // given
             Long roomId = 999L;
-            given(roomRepository.findById(roomId)).willReturn(Optional.empty());
+            given(roomRepository.findResponseById(roomId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> roomService.getRoom(roomId))
@@ -258,6 +323,7 @@ class RoomServiceTest {
 
             // then
             assertThat(testRoom.getDeletedAt()).isNotNull();
+            verify(waitingRoomCache).evict(roomId);
         }
 
         @Test
@@ -294,12 +360,8 @@ class RoomServiceTest {
         void getMyRooms_Success() {
             // given
             Long userId = 1L;
-            Participant participant = Participant.builder()
-                    .room(testRoom)
-                    .user(testUser)
-                    .build();
-
-            given(participantRepository.findByUserId(userId)).willReturn(List.of(participant));
+            given(roomRepository.findResponsesByParticipantUserId(userId))
+                    .willReturn(List.of(RoomResponse.from(testRoom)));
 
             // when
             List<RoomResponse> result = roomService.getMyRooms(userId);
@@ -0,0 +1,154 @@
+package com.benny.board_mate.sommelier.service;
+
+import com.benny.board_mate.sommelier.config.SommelierProperties;
+import com.benny.board_mate.sommelier.dto.ChatMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("소믈리에 대화 히스토리 테스트")
+class SommelierHistoryServiceTest {
+
+    // 단일 세션 키만 다루는 Redis 리스트 (원자성은 synchronized로 흉내)
+    private final List<byte[]> list = new ArrayList<>();
+    private RedisKeyCommands keyCommands;
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisListCommands listCommands = mock(RedisListCommands.class);
+        when(listCommands.rPush(any(), any(byte[][].class))).thenAnswer(invocation -> {
+            synchronized (list) {
+                Object[] args = invocation.getArguments();
+                for (int i = 1; i < args.length; i++) {
+                    list.add((byte[]) args[i]);
+                }
+                return (long) list.size();
+            }
+        });
+        when(listCommands.lTrim(any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            long start = invocation.getArgument(1);
+            synchronized (list) {
+                int keep = (int) Math.min(-start, list.size());
+                list.subList(0, list.size() - keep).clear();
+            }
+            return null;
+        });
+        when(listCommands.lRange(any(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            synchronized (list) {
+                return new ArrayList<>(list);
+            }
+        });
+        keyCommands = mock(RedisKeyCommands.class);
+
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.listCommands()).thenReturn(listCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+                invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    @Test
+    @DisplayName("메시지는 순서대로 저장되고 역할/내용/시각이 그대로 복원된다")
+    void addMessages_roundTrips() {
+        SommelierHistoryService service = service(20, 24);
+        LocalDateTime at = LocalDateTime.of(2026, 10, 18, 21, 30, 15, 123_000_000);
+
+        service.addMessages("session",
+                new ChatMessage("user", "2인용 게임 추천해줘", at),
+                new ChatMessage("assistant", "**패치워크**를 추천해요 🧩", at.plusSeconds(3)));
+
+        assertThat(service.getHistory("session")).containsExactly(
+                new ChatMessage("user", "2인용 게임 추천해줘", at),
+                new ChatMessage("assistant", "**패치워크**를 추천해요 🧩", at.plusSeconds(3)));
+        verify(keyCommands).expire(any(), eq(24 * 3600L));
+    }
+
+    @Test
+    @DisplayName("max-history를 넘으면 오래된 메시지부터 잘린다")
+    void addMessages_trimsToMaxHistory() {
+        SommelierHistoryService service = service(4, 24);
+
+        for (int turn = 1; turn <= 3; turn++) {
+            service.addMessages("session", ChatMessage.user("질문" + turn), ChatMessage.assistant("답변" + turn));
+        }
+
+        assertThat(service.getHistory("session"))
+                .extracting(ChatMessage::content)
+                .containsExactly("질문2", "답변2", "질문3", "답변3");
+    }
+
+    @Test
+    @DisplayName("동시에 추가해도 메시지가 사라지지 않고 턴의 질문/답변이 붙어 있다")
+    void addMessages_concurrentTurnsAreNotLost() throws Exception {
+        SommelierHistoryService service = service(1000, 24);
+        int turns = 50;
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int turn = 0; turn < turns; turn++) {
+                String id = String.valueOf(turn);
+                executor.submit(() -> {
+                    start.await();
+                    service.addMessages("session", ChatMessage.user(id), ChatMessage.assistant(id));
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        List<ChatMessage> history = service.getHistory("session");
+        assertThat(history).hasSize(turns * 2);
+        for (int i = 0; i < history.size(); i += 2) {
+            assertThat(history.get(i).role()).isEqualTo("user");
+            assertThat(history.get(i + 1).content()).isEqualTo(history.get(i).content());
+        }
+    }
+
+    @Test
+    @DisplayName("인코딩은 같은 메시지의 JSON보다 작다")
+    void encode_isSmallerThanJson() {
+        ChatMessage message = ChatMessage.assistant("카탄은 3~4인이 즐기기 좋은 자원 교환 게임이에요.");
+        String json = "{\"role\":\"assistant\",\"content\":\"" + message.content()
+                + "\",\"timestamp\":\"" + message.timestamp() + "\"}";
+
+        byte[] encoded = SommelierHistoryService.encode(message);
+
+        assertThat(encoded.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(Arrays.copyOfRange(encoded, 0, 2)).containsExactly(1, 1);
+    }
+
+    private SommelierHistoryService service(int maxHistory, int ttlHours) {
+        return new SommelierHistoryService(redisTemplate, new SommelierProperties(null,
+                new SommelierProperties.Conversation(maxHistory, ttlHours), null, null));
+    }
+}
@@ -0,0 +1,187 @@
+package com.benny.board_mate.sommelier.service;
+
+import com.benny.board_mate.game.BoardGame;
+import com.benny.board_mate.sommelier.config.SommelierProperties;
+import com.benny.board_mate.sommelier.dto.ChatMessage;
+import com.benny.board_mate.sommelier.dto.ConversationMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("소믈리에 프롬프트 구성 테스트")
+class SommelierPromptBuilderTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 18, 20, 0);
+
+    private final Map<String, String> redis = new HashMap<>();
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(ops.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(ops).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+    }
+
+    @Test
+    @DisplayName("한글은 글자당 1토큰, 그 외는 4글자당 1토큰으로 센다")
+    void estimateTokens_approximatesByScript() {
+        assertThat(SommelierPromptBuilder.estimateTokens("카탄")).isEqualTo(2);
+        assertThat(SommelierPromptBuilder.estimateTokens("Catan")).isEqualTo(2);
+        assertThat(SommelierPromptBuilder.estimateTokens("카탄 Catan")).isEqualTo(4);
+        assertThat(SommelierPromptBuilder.estimateTokens("")).isZero();
+    }
+
+    @Test
+    @DisplayName("예산 안이면 히스토리를 그대로 보낸다")
+    void build_underBudgetKeepsHistory() {
+        SommelierPromptBuilder builder = builder(6000);
+        List<ChatMessage> history = List.of(
+                new ChatMessage("user", "2인용 게임 추천해줘", T0),
+                new ChatMessage("assistant", "**패치워크**를 추천해요", T0.plusSeconds(1)));
+
+        SommelierPromptBuilder.Prompt prompt = builder.build("session", List.of(catan()), history, "더 짧은 건?");
+
+        assertThat(prompt.history()).extracting(ConversationMessage::content)
+                .containsExactly("2인용 게임 추천해줘", "**패치워크**를 추천해요");
+        assertThat(prompt.systemPrompt()).contains("- 설명: ").doesNotContain("이전 대화 요약");
+        assertThat(prompt.inputTokens()).isLessThanOrEqualTo(6000);
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 오래된 턴을 요약으로 접고, 다음 턴에는 요약을 이어 쓴다")
+    void build_foldsOldTurnsIntoRollingSummary() {
+        SommelierPromptBuilder builder = builder(700);
+        List<ChatMessage> history = List.of(
+                new ChatMessage("user", "가".repeat(400), T0),
+                new ChatMessage("assistant", "**카탄**" + "나".repeat(400), T0.plusSeconds(1)),
+                new ChatMessage("user", "더 짧은 게임은?", T0.plusSeconds(2)),
+                new ChatMessage("assistant", "**스플렌더**는 어때요?", T0.plusSeconds(3)));
+
+        SommelierPromptBuilder.Prompt first = builder.build("session", List.of(catan()), history, "3인도 돼?");
+
+        assertThat(first.inputTokens()).isLessThanOrEqualTo(700);
+        assertThat(first.history()).extracting(ConversationMessage::content)
+                .containsExactly("더 짧은 게임은?", "**스플렌더**는 어때요?");
+        assertThat(first.systemPrompt()).contains("## 이전 대화 요약", "→ 추천: 카탄");
+        builder.save("session", first);
+
+        // 다음 턴: 이미 접힌 턴은 다시 넣지 않고, 예산 안이면 게임 정보는 그대로 자세히
+        List<ChatMessage> nextHistory = List.of(
+                history.get(0), history.get(1), history.get(2), history.get(3),
+                new ChatMessage("user", "3인도 돼?", T0.plusSeconds(4)),
+                new ChatMessage("assistant", "네, **카탄**은 3-4인이에요", T0.plusSeconds(5)));
+        SommelierPromptBuilder.Prompt second = builder.build("session", List.of(catan()), nextHistory, "고마워");
+
+        assertThat(second.history()).hasSize(4);
+        assertThat(second.systemPrompt())
+                .contains("→ 추천: 카탄", "- 설명: ")
+                .doesNotContain("(앞에서 소개함)");
+        assertThat(builder.stats())
+                .containsEntry("requests", 2L)
+                .containsEntry("foldedMessages", 2L)
+                .containsEntry("dedupedGames", 0L)
+                .containsEntry("summarizedRequests", 2L);
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 보내는 히스토리 답변에 나온 게임만 한 줄로 줄이고, 히스토리는 접지 않는다")
+    void build_compactsGamesMentionedInSentHistory() {
+        SommelierPromptBuilder builder = builder(360);
+        List<ChatMessage> history = List.of(
+                new ChatMessage("user", "카탄이랑 비슷한 거?", T0),
+                new ChatMessage("assistant", "**카탄**은 교역 게임이에요", T0.plusSeconds(1)));
+
+        SommelierPromptBuilder.Prompt prompt = builder.build("session",
+                List.of(catan(), game(148228L, "Splendor", "스플렌더")), history, "다른 건?");
+
+        assertThat(prompt.inputTokens()).isLessThanOrEqualTo(360);
+        assertThat(prompt.history()).hasSize(2);
+        assertThat(prompt.systemPrompt())
+                .contains("- **Catan** (카탄) · 3-4명 · 90분 (앞에서 소개함)")
+                .contains("- **Splendor** (스플렌더)\n  - 플레이어: 3-4명")
+                .doesNotContain("이전 대화 요약");
+        assertThat(builder.stats())
+                .containsEntry("dedupedGames", 1L)
+                .containsEntry("foldedMessages", 0L);
+    }
+
+    @Test
+    @DisplayName("요약으로 접힌 턴에만 나온 게임은 다시 자세히 넣는다")
+    void build_redescribesGamesOnlyMentionedInFoldedTurns() {
+        SommelierPromptBuilder builder = builder(500);
+        List<ChatMessage> history = List.of(
+                new ChatMessage("user", "가".repeat(300), T0),
+                new ChatMessage("assistant", "**카탄**" + "나".repeat(300), T0.plusSeconds(1)),
+                new ChatMessage("user", "짧은 거?", T0.plusSeconds(2)),
+                new ChatMessage("assistant", "**스플렌더**요", T0.plusSeconds(3)));
+
+        SommelierPromptBuilder.Prompt prompt = builder.build("session",
+                List.of(catan(), game(148228L, "Splendor", "스플렌더")), history, "또?");
+
+        assertThat(prompt.inputTokens()).isLessThanOrEqualTo(500);
+        assertThat(prompt.history()).extracting(ConversationMessage::content)
+                .containsExactly("짧은 거?", "**스플렌더**요");
+        assertThat(prompt.systemPrompt())
+                .contains("→ 추천: 카탄", "- **Catan** (카탄)\n  - 플레이어: 3-4명",
+                        "- **Splendor** (스플렌더) · 3-4명 · 90분 (앞에서 소개함)");
+    }
+
+    @Test
+    @DisplayName("히스토리가 없는데도 넘으면 순위 낮은 게임부터 빼고 1개는 남긴다")
+    void build_dropsLowRankedGames() {
+        SommelierPromptBuilder builder = builder(100);
+        BoardGame splendor = game(148228L, "Splendor", "스플렌더");
+        BoardGame patchwork = game(163412L, "Patchwork", "패치워크");
+
+        SommelierPromptBuilder.Prompt prompt = builder.build("session", List.of(catan(), splendor, patchwork),
+                List.of(), "추천해줘");
+
+        assertThat(prompt.systemPrompt()).contains("Catan").doesNotContain("Splendor", "Patchwork");
+        assertThat(builder.stats())
+                .containsEntry("droppedGames", 2L)
+                .containsEntry("overBudgetRequests", 1L);
+    }
+
+    private SommelierPromptBuilder builder(int inputTokenBudget) {
+        return new SommelierPromptBuilder(redisTemplate, new SommelierProperties(null,
+                new SommelierProperties.Conversation(20, 24), null,
+                new SommelierProperties.Prompt(inputTokenBudget, 400)));
+    }
+
+    private static BoardGame catan() {
+        return game(13L, "Catan", "카탄");
+    }
+
+    private static BoardGame game(Long bggId, String title, String titleKorean) {
+        return BoardGame.builder()
+                .bggId(bggId)
+                .title(title)
+                .titleKorean(titleKorean)
+                .minPlayers(3)
+                .maxPlayers(4)
+                .playtime(90)
+                .description("Trade and build settlements. ".repeat(10))
+                .build();
+    }
+}
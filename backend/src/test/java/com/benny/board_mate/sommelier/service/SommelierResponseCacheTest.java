@@ -0,0 +1,137 @@
+package com.benny.board_mate.sommelier.service;
+
+import com.benny.board_mate.game.GameCatalogChangedEvent;
+import com.benny.board_mate.sommelier.config.SommelierProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("소믈리에 응답 캐시 테스트")
+class SommelierResponseCacheTest {
+
+    private static final String VERSION = "v1";
+    private static final String EPOCH_KEY = "sommelier:response-cache:epoch";
+
+    // 인스턴스들이 공유하는 Redis epoch 키
+    private final AtomicLong redisEpoch = new AtomicLong();
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(EPOCH_KEY)).thenAnswer(invocation -> String.valueOf(redisEpoch.get()));
+        when(valueOperations.increment(EPOCH_KEY)).thenAnswer(invocation -> redisEpoch.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("임계값 이상으로 비슷한 질문이면 저장된 답변 청크를 반환한다")
+    void find_returnsChunksForSimilarQuestion() {
+        SommelierResponseCache cache = cache(100, 60);
+        cache.put(new float[]{1f, 0f, 0f}, VERSION, List.of("**카탄**을 ", "추천해요"), cache.epoch());
+
+        // 크기만 다르고 방향이 거의 같은 벡터 (cos ≈ 0.999)
+        assertThat(cache.find(new float[]{2f, 0.08f, 0f}, VERSION, cache.epoch())).contains(List.of("**카탄**을 ", "추천해요"));
+        // cos ≈ 0.707
+        assertThat(cache.find(new float[]{1f, 1f, 0f}, VERSION, cache.epoch())).isEmpty();
+        assertThat(cache.stats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("프롬프트 버전이 다르면 재사용하지 않는다")
+    void find_ignoresOtherPromptVersion() {
+        SommelierResponseCache cache = cache(100, 60);
+        cache.put(new float[]{1f, 0f}, VERSION, List.of("답변"), cache.epoch());
+
+        assertThat(cache.find(new float[]{1f, 0f}, "v2", cache.epoch())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰이지 않은 답변부터 제거한다")
+    void put_evictsLeastRecentlyUsed() {
+        SommelierResponseCache cache = cache(2, 60);
+        cache.put(new float[]{1f, 0f, 0f}, VERSION, List.of("A"), cache.epoch());
+        cache.put(new float[]{0f, 1f, 0f}, VERSION, List.of("B"), cache.epoch());
+        cache.find(new float[]{1f, 0f, 0f}, VERSION, cache.epoch());
+
+        cache.put(new float[]{0f, 0f, 1f}, VERSION, List.of("C"), cache.epoch());
+
+        assertThat(cache.find(new float[]{1f, 0f, 0f}, VERSION, cache.epoch())).contains(List.of("A"));
+        assertThat(cache.find(new float[]{0f, 1f, 0f}, VERSION, cache.epoch())).isEmpty();
+        assertThat(cache.stats()).containsEntry("size", 2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 답변은 반환하지 않는다")
+    void find_skipsExpiredEntries() {
+        SommelierResponseCache cache = cache(100, 0);
+        cache.put(new float[]{1f, 0f}, VERSION, List.of("답변"), cache.epoch());
+
+        assertThat(cache.find(new float[]{1f, 0f}, VERSION, cache.epoch())).isEmpty();
+        assertThat(cache.stats()).containsEntry("size", 0);
+    }
+
+    @Test
+    @DisplayName("게임 카탈로그가 바뀌면 캐시를 비운다")
+    void onCatalogChanged_clearsEntries() {
+        SommelierResponseCache cache = cache(100, 60);
+        cache.put(new float[]{1f, 0f}, VERSION, List.of("답변"), cache.epoch());
+
+        cache.onCatalogChanged(new GameCatalogChangedEvent("import", 10));
+
+        assertThat(cache.find(new float[]{1f, 0f}, VERSION, cache.epoch())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 카탈로그가 바뀌면 이 인스턴스의 기존 답변도 쓰지 않는다")
+    void find_ignoresEntriesFromPreviousCatalogEpoch() {
+        SommelierResponseCache cache = cache(100, 60);
+        SommelierResponseCache otherInstance = cache(100, 60);
+        cache.put(new float[]{1f, 0f}, VERSION, List.of("답변"), cache.epoch());
+
+        otherInstance.onCatalogChanged(new GameCatalogChangedEvent("import", 10));
+
+        assertThat(cache.find(new float[]{1f, 0f}, VERSION, cache.epoch())).isEmpty();
+        assertThat(cache.stats()).containsEntry("size", 0);
+    }
+
+    @Test
+    @DisplayName("응답 생성 중에 카탈로그가 바뀌면 그 답변은 저장하지 않는다")
+    void put_skipsAnswerStartedBeforeCatalogChange() {
+        SommelierResponseCache cache = cache(100, 60);
+        long startedAt = cache.epoch();
+
+        cache.onCatalogChanged(new GameCatalogChangedEvent("import", 10));
+        cache.put(new float[]{1f, 0f}, VERSION, List.of("옛 카탈로그 답변"), startedAt);
+
+        assertThat(cache.find(new float[]{1f, 0f}, VERSION, cache.epoch())).isEmpty();
+        assertThat(cache.stats()).containsEntry("size", 0);
+    }
+
+    @Test
+    @DisplayName("Redis에서 epoch를 읽지 못하면 캐시를 쓰지 않는다")
+    void epoch_disablesCacheWhenRedisFails() {
+        SommelierResponseCache cache = cache(100, 60);
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+
+        assertThat(cache.epoch()).isEqualTo(-1);
+        cache.put(new float[]{1f, 0f}, VERSION, List.of("답변"), cache.epoch());
+        assertThat(cache.stats()).containsEntry("size", 0);
+    }
+
+    private SommelierResponseCache cache(int maxEntries, int ttlMinutes) {
+        return new SommelierResponseCache(new SommelierProperties(null, null,
+                new SommelierProperties.ResponseCache(true, 0.95, maxEntries, ttlMinutes), null), redisTemplate);
+    }
+}
@@ -0,0 +1,114 @@
+package com.benny.board_mate.sommelier.service;
+
+import com.benny.board_mate.game.GameRepository;
+import com.benny.board_mate.game.service.EmbeddingService;
+import com.benny.board_mate.game.service.HybridGameRetriever;
+import com.benny.board_mate.sommelier.config.SommelierProperties;
+import com.benny.board_mate.sommelier.dto.ChatMessage;
+import com.benny.board_mate.sommelier.dto.SommelierResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("소믈리에 채팅 준비 단계 테스트")
+class SommelierServiceTest {
+
+    private static final long STEP_MILLIS = 300;
+    private static final float[] QUERY_EMBEDDING = {1f, 0f, 0f};
+
+    private final Set<String> blockingThreads = ConcurrentHashMap.newKeySet();
+    private SommelierHistoryService historyService;
+    private EmbeddingService embeddingService;
+    private SommelierResponseCache responseCache;
+    private SommelierPromptBuilder promptBuilder;
+    private SommelierStageTimings timings;
+    private SommelierService sommelierService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        historyService = mock(SommelierHistoryService.class);
+        embeddingService = mock(EmbeddingService.class);
+        when(historyService.getHistory("session")).thenAnswer(invocation -> {
+            blockingThreads.add(Thread.currentThread().getName());
+            Thread.sleep(STEP_MILLIS);
+            return new ArrayList<ChatMessage>();
+        });
+        when(embeddingService.embedQuery(any())).thenAnswer(invocation -> {
+            blockingThreads.add(Thread.currentThread().getName());
+            Thread.sleep(STEP_MILLIS);
+            return QUERY_EMBEDDING;
+        });
+
+        SommelierProperties properties = new SommelierProperties(
+                new SommelierProperties.Gemini("key", "gemini-test", 100, 0.7, 1000),
+                new SommelierProperties.Conversation(20, 24),
+                new SommelierProperties.ResponseCache(true, 0.95, 100, 60),
+                new SommelierProperties.Prompt(6000, 400));
+        // epoch 키가 없는 Redis (epoch = 0)
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        responseCache = new SommelierResponseCache(properties, redisTemplate);
+        timings = new SommelierStageTimings();
+        promptBuilder = mock(SommelierPromptBuilder.class);
+        sommelierService = new SommelierService(embeddingService, mock(HybridGameRetriever.class),
+                mock(GameRepository.class), historyService, promptBuilder,
+                responseCache, timings, properties, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("히스토리 조회와 질의 임베딩은 호출 스레드 밖에서 동시에 실행된다")
+    void chat_loadsHistoryAndEmbeddingConcurrently() {
+        // 첫 응답을 캐시에 넣어 두면 Gemini 호출 없이 준비 단계만 측정할 수 있다
+        warmUpCache();
+        blockingThreads.clear();
+
+        long start = System.nanoTime();
+        List<SommelierResponse> responses = sommelierService.chat("session", "2인용 게임 추천해줘").collectList().block();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(responses).extracting(SommelierResponse::type).containsExactly("text", "done");
+        // 순차 실행이면 2 × STEP_MILLIS 이상
+        assertThat(elapsedMillis).isLessThan(2 * STEP_MILLIS);
+        assertThat(blockingThreads).hasSize(2).noneMatch(name -> name.equals(Thread.currentThread().getName()));
+        verify(historyService).addMessages(eq("session"), any(), any());
+        verify(promptBuilder).save("session", SommelierPromptBuilder.State.empty());
+    }
+
+    @Test
+    @DisplayName("단계별 소요 시간을 기록한다")
+    @SuppressWarnings("unchecked")
+    void chat_recordsStageTimings() {
+        warmUpCache();
+
+        sommelierService.chat("session", "2인용 게임 추천해줘").collectList().block();
+
+        Map<String, Object> stats = timings.stats();
+        assertThat(stats).containsKeys(SommelierStageTimings.HISTORY, SommelierStageTimings.EMBEDDING,
+                SommelierStageTimings.FIRST_TOKEN, SommelierStageTimings.TOTAL);
+        Map<String, Object> history = (Map<String, Object>) stats.get(SommelierStageTimings.HISTORY);
+        assertThat((Long) history.get("maxMs")).isGreaterThanOrEqualTo(STEP_MILLIS);
+    }
+
+    private void warmUpCache() {
+        String promptVersion = (String) ReflectionTestUtils.getField(sommelierService, "promptVersion");
+        responseCache.put(QUERY_EMBEDDING, promptVersion, List.of("**카탄**을 추천해요"), responseCache.epoch());
+    }
+}
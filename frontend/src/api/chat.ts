@@ -1,9 +1,14 @@
 import client from './client';
 import type { ApiResponse, ChatMessage } from '../types';
 
+export const CHAT_PAGE_SIZE = 50;
+
 export const chatApi = {
-  getChatHistory: async (roomId: number) => {
-    const response = await client.get<ApiResponse<ChatMessage[]>>(`/rooms/${roomId}/chats`);
+  // before: 이 id보다 이전 메시지 (없으면 최신부터), 결과는 시간순
+  getChatHistory: async (roomId: number, before?: number, limit = CHAT_PAGE_SIZE) => {
+    const response = await client.get<ApiResponse<ChatMessage[]>>(`/rooms/${roomId}/chats`, {
+      params: { before, limit },
+    });
     return response.data.data;
   },
 
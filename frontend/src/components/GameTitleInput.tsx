@@ -0,0 +1,101 @@
+import { useState, useEffect } from 'react';
+import { Gamepad2 } from 'lucide-react';
+import client from '../api/client';
+import type { ApiResponse } from '../types';
+
+export interface GameSuggestion {
+  id: number;
+  title: string;
+  titleKorean: string | null;
+  minPlayers: number;
+  maxPlayers: number;
+}
+
+interface Props {
+  selected: GameSuggestion | null;
+  onSelect: (game: GameSuggestion | null) => void;
+}
+
+// 입력이 멈춘 뒤에만 요청 (한글 조합 중 글자마다 호출하지 않도록)
+const DEBOUNCE_MS = 150;
+
+export default function GameTitleInput({ selected, onSelect }: Props) {
+  const [query, setQuery] = useState('');
+  const [suggestions, setSuggestions] = useState<GameSuggestion[]>([]);
+  const [open, setOpen] = useState(false);
+
+  useEffect(() => {
+    const trimmed = query.trim();
+    if (!trimmed || selected) {
+      setSuggestions([]);
+      return;
+    }
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      try {
+        const response = await client.get<ApiResponse<GameSuggestion[]>>('/games/suggest', {
+          params: { q: trimmed, limit: 10 },
+        });
+        if (!cancelled) {
+          setSuggestions(response.data.data);
+        }
+      } catch {
+        if (!cancelled) {
+          setSuggestions([]);
+        }
+      }
+    }, DEBOUNCE_MS);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [query, selected]);
+
+  const label = (game: GameSuggestion) =>
+    `${game.titleKorean ?? game.title} (${game.minPlayers}-${game.maxPlayers}명)`;
+
+  return (
+    <div className="relative">
+      <div className="absolute inset-y-0 left-0 pl-4 flex items-center pointer-events-none">
+        <Gamepad2 className="h-5 w-5 text-orange-400" />
+      </div>
+      <input
+        type="text"
+        value={selected ? label(selected) : query}
+        onChange={(e) => {
+          onSelect(null);
+          setQuery(e.target.value);
+          setOpen(true);
+        }}
+        onFocus={() => setOpen(true)}
+        onBlur={() => setTimeout(() => setOpen(false), 100)}
+        placeholder="게임 이름 또는 초성 (예: 카탄, ㅋㅌ)"
+        className="w-full pl-12 pr-4 py-3 border border-gray-200 rounded-xl focus:outline-none focus:ring-2 focus:ring-orange-500 focus:border-transparent transition-all"
+      />
+      {open && suggestions.length > 0 && (
+        <ul className="absolute z-10 mt-1 w-full bg-white border border-gray-200 rounded-xl shadow-lg max-h-72 overflow-y-auto">
+          {suggestions.map((game) => (
+            <li key={game.id}>
+              <button
+                type="button"
+                onMouseDown={(e) => e.preventDefault()}
+                onClick={() => {
+                  onSelect(game);
+                  setQuery('');
+                  setOpen(false);
+                }}
+                className="w-full text-left px-4 py-2 hover:bg-orange-50"
+              >
+                <span className="text-gray-900">{game.titleKorean ?? game.title}</span>
+                {game.titleKorean && <span className="ml-2 text-sm text-gray-500">{game.title}</span>}
+                <span className="ml-2 text-sm text-gray-400">
+                  {game.minPlayers}-{game.maxPlayers}명
+                </span>
+              </button>
+            </li>
+          ))}
+        </ul>
+      )}
+    </div>
+  );
+}
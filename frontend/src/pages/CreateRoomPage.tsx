@@ -1,19 +1,11 @@
-import { useState, useEffect } from 'react';
+import { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { MapPin, Building2, Calendar, Users, FileText, Gamepad2, Plus } from 'lucide-react';
+import { MapPin, Building2, Calendar, Users, FileText, Plus } from 'lucide-react';
 import client from '../api/client';
-import type { ApiResponse } from '../types';
-
-interface Game {
-  id: number;
-  title: string;
-  minPlayers: number;
-  maxPlayers: number;
-}
+import GameTitleInput, { type GameSuggestion } from '../components/GameTitleInput';
 
 export default function CreateRoomPage() {
-  const [games, setGames] = useState<Game[]>([]);
-  const [gameId, setGameId] = useState('');
+  const [game, setGame] = useState<GameSuggestion | null>(null);
   const [region, setRegion] = useState('');
   const [cafeName, setCafeName] = useState('');
   const [gameDate, setGameDate] = useState('');
@@ -24,22 +16,18 @@ export default function CreateRoomPage() {
   
   const navigate = useNavigate();
 
-  useEffect(() => {
-    const fetchGames = async () => {
-      const response = await client.get<ApiResponse<Game[]>>('/games');
-      setGames(response.data.data);
-    };
-    fetchGames();
-  }, []);
-
   const handleSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
+    if (!game) {
+      setError('게임을 선택하세요');
+      return;
+    }
     setLoading(true);
     setError('');
 
     try {
       const response = await client.post('/rooms', {
-        gameId: Number(gameId),
+        gameId: game.id,
         region,
         cafeName,
         gameDate,
@@ -72,24 +60,7 @@ export default function CreateRoomPage() {
           <label className="block text-sm font-semibold text-gray-700 mb-2">
             게임 선택
           </label>
-          <div className="relative">
-            <div className="absolute inset-y-0 left-0 pl-4 flex items-center pointer-events-none">
-              <Gamepad2 className="h-5 w-5 text-orange-400" />
-            </div>
-            <select
-              value={gameId}
-              onChange={(e) => setGameId(e.target.value)}
-              className="w-full pl-12 pr-4 py-3 border border-gray-200 rounded-xl focus:outline-none focus:ring-2 focus:ring-orange-500 focus:border-transparent transition-all appearance-none bg-white"
-              required
-            >
-              <option value="">게임을 선택하세요</option>
-              {games.map((game) => (
-                <option key={game.id} value={game.id}>
-                  {game.title} ({game.minPlayers}-{game.maxPlayers}명)
-                </option>
-              ))}
-            </select>
-          </div>
+          <GameTitleInput selected={game} onSelect={setGame} />
         </div>
 
         <div>
@@ -24,7 +24,7 @@ import {
 } from 'lucide-react';
 import client from '../api/client';
 import { reviewApi } from '../api/review';
-import { chatApi } from '../api/chat';
+import { chatApi, CHAT_PAGE_SIZE } from '../api/chat';
 import { useAuthStore } from '../stores/authStore';
 import type { Room, ApiResponse, ChatMessage } from '../types';
 
@@ -72,6 +72,7 @@ export default function RoomDetailPage() {
 
   // 채팅 관련 상태
   const [chatMessages, setChatMessages] = useState<ChatMessage[]>([]);
+  const [hasOlderChats, setHasOlderChats] = useState(false);
   const [chatInput, setChatInput] = useState('');
   const [sendingChat, setSendingChat] = useState(false);
   const chatEndRef = useRef<HTMLDivElement>(null);
@@ -98,19 +99,34 @@ export default function RoomDetailPage() {
     try {
       const messages = await chatApi.getChatHistory(Number(id));
       setChatMessages(messages);
+      setHasOlderChats(messages.length === CHAT_PAGE_SIZE);
     } catch (error) {
       console.error('채팅 내역 조회 실패:', error);
     }
   };
 
+  // 이전 채팅 더 보기
+  const fetchOlderChats = async () => {
+    if (chatMessages.length === 0) return;
+    try {
+      const older = await chatApi.getChatHistory(Number(id), chatMessages[0].id);
+      setChatMessages((prev) => [...older, ...prev]);
+      setHasOlderChats(older.length === CHAT_PAGE_SIZE);
+    } catch (error) {
+      console.error('이전 채팅 조회 실패:', error);
+    }
+  };
+
   // 채팅 스크롤
   const scrollToBottom = () => {
     chatEndRef.current?.scrollIntoView({ behavior: 'smooth' });
   };
 
+  // 새 메시지가 올 때만 아래로 스크롤 (이전 메시지를 불러올 때는 유지)
+  const lastChatId = chatMessages[chatMessages.length - 1]?.id;
   useEffect(() => {
     scrollToBottom();
-  }, [chatMessages]);
+  }, [lastChatId]);
 
   // WebSocket 연결
   useEffect(() => {
@@ -524,6 +540,15 @@ export default function RoomDetailPage() {
 
           {/* 메시지 목록 */}
           <div className="h-64 overflow-y-auto bg-stone-50 rounded-xl p-4 mb-4 space-y-3">
+            {hasOlderChats && (
+              <button
+                type="button"
+                onClick={fetchOlderChats}
+                className="w-full text-xs text-stone-500 hover:text-orange-600 py-1"
+              >
+                이전 메시지 더 보기
+              </button>
+            )}
             {chatMessages.length === 0 ? (
               <p className="text-center text-stone-400 text-sm py-8">
                 아직 메시지가 없습니다. 첫 메시지를 보내보세요!
@@ -8,13 +8,13 @@ import type { Room, ApiResponse, RoomSearchParams, PageResponse } from '../types
 export default function RoomListPage() {
   const [rooms, setRooms] = useState<Room[]>([]);
   const [loading, setLoading] = useState(true);
-  const [page, setPage] = useState(0);
+  const [cursor, setCursor] = useState<string | undefined>(undefined);
   const [hasMore, setHasMore] = useState(true);
   const [loadingMore, setLoadingMore] = useState(false);
   const [currentFilters, setCurrentFilters] = useState<RoomSearchParams>({});
   const observerRef = useRef<HTMLDivElement>(null);
 
-  const fetchRooms = useCallback(async (params: RoomSearchParams = {}, pageNum: number = 0, isInitial: boolean = false) => {
+  const fetchRooms = useCallback(async (params: RoomSearchParams = {}, afterCursor: string = '', isInitial: boolean = false) => {
     if (isInitial) {
       setLoading(true);
     } else {
@@ -26,7 +26,8 @@ export default function RoomListPage() {
       if (params.region) queryParams.append('region', params.region);
       if (params.gameId) queryParams.append('gameId', String(params.gameId));
       if (params.date) queryParams.append('date', params.date);
-      queryParams.append('page', String(pageNum));
+      // 커서 모드: 첫 페이지는 빈 커서, 이후 nextCursor 전달
+      queryParams.append('cursor', afterCursor);
       queryParams.append('size', '10');
 
       const queryString = queryParams.toString();
@@ -42,7 +43,7 @@ export default function RoomListPage() {
       }
 
       setHasMore(!pageData.last);
-      setPage(pageData.page);
+      setCursor(pageData.nextCursor);
     } catch (error) {
       console.error('방 목록 조회 실패:', error);
     } finally {
@@ -55,10 +56,10 @@ export default function RoomListPage() {
   }, []);
 
   const loadMore = useCallback(() => {
-    if (!loadingMore && hasMore) {
-      fetchRooms(currentFilters, page + 1, false);
+    if (!loadingMore && hasMore && cursor) {
+      fetchRooms(currentFilters, cursor, false);
     }
-  }, [loadingMore, hasMore, page, currentFilters, fetchRooms]);
+  }, [loadingMore, hasMore, cursor, currentFilters, fetchRooms]);
 
   useEffect(() => {
     const observer = new IntersectionObserver(
@@ -78,14 +79,14 @@ export default function RoomListPage() {
   }, [hasMore, loadingMore, loading, loadMore]);
 
   useEffect(() => {
-    fetchRooms(currentFilters, 0, true);
+    fetchRooms(currentFilters, '', true);
   }, []);
 
   const handleSearch = (params: RoomSearchParams) => {
     setCurrentFilters(params);
-    setPage(0);
+    setCursor(undefined);
     setHasMore(true);
-    fetchRooms(params, 0, true);
+    fetchRooms(params, '', true);
   };
 
   return (
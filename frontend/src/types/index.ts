@@ -57,9 +57,10 @@ export interface PageResponse<T> {
   content: T[];
   page: number;
   size: number;
-  totalElements: number;
-  totalPages: number;
+  totalElements?: number; // 커서 모드에서는 생략
+  totalPages?: number;
   last: boolean;
+  nextCursor?: string;
 }
 
 export interface Review {